@@ -0,0 +1,68 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.ExchangeRateApplication;
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.model.ExchangeRate;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基準測試共用的應用程式啟動與測試資料
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 以非 Web 模式啟動完整應用程式 (JPA、H2、服務層)，關閉 SQL 與 DEBUG 日誌以免干擾量測
+     *
+     * @param extraArgs 額外的設定參數 (例如 --exchange-rate.cache.conversion-results.enabled=false)
+     */
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.exchangerate=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(ExchangeRateApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+    }
+
+    /**
+     * 產生指定筆數的匯率資料，輪流分配到所有支援的貨幣對
+     */
+    static List<ExchangeRate> sampleRates(int count) {
+        List<String> currencies = CurrencyConstants.SUPPORTED_CURRENCIES;
+        LocalDateTime now = LocalDateTime.now();
+        List<ExchangeRate> rates = new ArrayList<>(count);
+        int i = 0;
+        while (rates.size() < count) {
+            String from = currencies.get(i % currencies.size());
+            String to = currencies.get((i / currencies.size() + i + 1) % currencies.size());
+            i++;
+            if (from.equals(to)) {
+                continue;
+            }
+            rates.add(ExchangeRate.builder()
+                .fromCurrency(from)
+                .toCurrency(to)
+                .rate(BigDecimal.valueOf(1 + (i % 997) / 1000.0))
+                .timestamp(now.minusSeconds(i))
+                .source("Benchmark")
+                .build());
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,60 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.service.ExchangeRateService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 換算路徑基準測試
+ * 以預設資料 (只儲存 USD→JPY) 比較直接換算 USD→JPY 與反向換算 JPY→USD，
+ * 反向匯率在寫入索引時預先計算，兩者每次請求的成本應相同。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionPathBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ExchangeRateService service;
+    private ConversionRequest direct;
+    private ConversionRequest reverse;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        service = context.getBean(ExchangeRateService.class);
+        direct = request("USD", "JPY");
+        reverse = request("JPY", "USD");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ConversionResponse directConversion() {
+        return service.convertCurrencyDetailed(direct);
+    }
+
+    @Benchmark
+    public ConversionResponse reverseConversion() {
+        return service.convertCurrencyDetailed(reverse);
+    }
+
+    private static ConversionRequest request(String from, String to) {
+        ConversionRequest request = new ConversionRequest();
+        request.setFromCurrency(from);
+        request.setToCurrency(to);
+        request.setAmount(new BigDecimal("1000"));
+        return request;
+    }
+}
@@ -0,0 +1,63 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.dto.json.ConversionRequestParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /api/convert 請求解析基準測試
+ * 比較原本的 Jackson 反序列化 + Bean Validation + 貨幣代碼轉大寫，與直接掃描位元組的快速解析器。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionRequestParsingBenchmark {
+
+    private final byte[] body = "{\"from_currency\":\"usd\",\"to_currency\":\"EUR\",\"amount\":1000.25}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private ObjectMapper objectMapper;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void jacksonAndBeanValidation(Blackhole blackhole) throws IOException {
+        ConversionRequest request = objectMapper.readValue(body, ConversionRequest.class);
+        Set<ConstraintViolation<ConversionRequest>> violations = validator.validate(request);
+        blackhole.consume(violations);
+        blackhole.consume(request.getFromCurrency().toUpperCase());
+        blackhole.consume(request.getToCurrency().toUpperCase());
+    }
+
+    @Benchmark
+    public ConversionRequest fastParser() {
+        return ConversionRequestParser.parse(body, 0, body.length);
+    }
+}
@@ -0,0 +1,59 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.service.ExchangeRateService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 換算結果快取基準測試
+ * 以一組常見金額輪流換算多段路徑 (GBP→JPY 經 USD)，比較啟用與停用結果快取時每次請求的時間與配置量。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionResultCacheBenchmark {
+
+    private static final int HOT_AMOUNTS = 64;
+
+    @Param({"true", "false"})
+    public boolean resultCache;
+
+    private ConfigurableApplicationContext context;
+    private ExchangeRateService service;
+    private ConversionRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--exchange-rate.cache.conversion-results.enabled=" + resultCache);
+        service = context.getBean(ExchangeRateService.class);
+        requests = new ConversionRequest[HOT_AMOUNTS];
+        for (int i = 0; i < HOT_AMOUNTS; i++) {
+            ConversionRequest request = new ConversionRequest();
+            request.setFromCurrency("GBP");
+            request.setToCurrency("JPY");
+            request.setAmount(BigDecimal.valueOf(100L * (i + 1)).add(new BigDecimal("0.25")));
+            requests[i] = request;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ConversionResponse convert() {
+        ConversionRequest request = requests[next];
+        next = (next + 1) % HOT_AMOUNTS;
+        return service.convertCurrencyDetailed(request);
+    }
+}
@@ -0,0 +1,77 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.dto.json.ConversionResponseJsonSerializer;
+import com.exchangerate.dto.json.ExchangeRateJsonSerializer;
+import com.exchangerate.model.ExchangeRate;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 編碼基準測試
+ * 比較反射式 BeanSerializer 與手寫編碼器序列化 ConversionResponse 與 ExchangeRate 清單的時間與配置量，
+ * 兩者使用相同的 Spring Boot 預設設定，輸出逐位元組相同。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    @Param({"reflective", "codec"})
+    public String mapping;
+
+    private ObjectWriter writer;
+    private ConversionResponse response;
+    private List<ExchangeRate> rates;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        if ("codec".equals(mapping)) {
+            builder.serializers(new ConversionResponseJsonSerializer(), new ExchangeRateJsonSerializer());
+        }
+        writer = builder.build().writer();
+        response = ConversionResponse.builder()
+            .fromCurrency("GBP")
+            .toCurrency("JPY")
+            .fromAmount(new BigDecimal("1000.25"))
+            .toAmount(new BigDecimal("190234.512300"))
+            .rate(new BigDecimal("190.186967"))
+            .conversionDate(LocalDateTime.now())
+            .conversionPath("GBP→USD→JPY")
+            .build();
+        rates = BenchmarkApplication.sampleRates(100);
+        for (int i = 0; i < rates.size(); i++) {
+            rates.get(i).setId((long) i + 1);
+        }
+    }
+
+    @Benchmark
+    public int conversionResponse() throws IOException {
+        output.reset();
+        writer.writeValue(output, response);
+        return output.size();
+    }
+
+    @Benchmark
+    public int exchangeRateList() throws IOException {
+        output.reset();
+        writer.writeValue(output, rates);
+        return output.size();
+    }
+}
@@ -0,0 +1,49 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.config.LatencyProperties;
+import com.exchangerate.controller.ConversionController;
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.service.latency.EndpointLatencyRecorder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 端點延遲記錄基準測試
+ * 量測過濾器每個請求呼叫一次的 record (處理方法查詢 + 寫入原始與含排隊時間的兩個 Recorder)；
+ * 配置量應為 0 B/op。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatencyRecordingBenchmark {
+
+    private EndpointLatencyRecorder recorder;
+    private HandlerMethod handler;
+    private long next;
+
+    @Setup
+    public void setUp() throws Exception {
+        Method convert = ConversionController.class.getMethod("convertCurrency", ConversionRequest.class);
+        RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+        handlerMapping.registerMapping(RequestMappingInfo.paths("/api/convert").methods(RequestMethod.POST).build(),
+            new ConversionController(null), convert);
+        recorder = new EndpointLatencyRecorder(new LatencyProperties(), handlerMapping);
+        handler = handlerMapping.getHandlerMethods().values().iterator().next().createWithResolvedBean();
+    }
+
+    @Benchmark
+    public void record() {
+        // 0.2 ms - 1.2 ms service time, up to 1 ms queue wait
+        long value = next++;
+        recorder.record(handler, 200_000 + (value & 0xFFFFF), value & 0xFFFFF);
+    }
+}
@@ -0,0 +1,117 @@
+package com.exchangerate.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.exchangerate.logging.LogMarkers;
+import com.exchangerate.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 預設日誌管線 (Logback) 基準測試
+ * 比較同步檔案輸出 (每筆 flush)、AsyncAppender (logback-spring.xml 的設定) 與抽樣後的熱路徑除錯事件
+ * 在請求執行緒上的單次呼叫延遲分佈 (SampleTime，含 p99)。
+ * 每次呼叫前模擬一段請求處理，與 LoggingBenchmark 相同；佇列設為阻塞，避免非同步結果因丟棄事件而偏低。
+ * 使用獨立的 LoggerContext，不影響 SLF4J 綁定的全域設定。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogbackLoggingBenchmark {
+
+    private static final String DIRECTORY = "target/jmh-logging/";
+    private static final String PATTERN = "%d{ISO8601} %5p --- [%t] %-40.40logger{39} : %m%n";
+    private static final long REQUEST_WORK = 5_000;
+
+    private LoggerContext context;
+    private Logger sync;
+    private Logger async;
+    private final BigDecimal amount = new BigDecimal("1000.00");
+    private final String path = "USD→EUR→TWD";
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+
+        SamplingTurboFilter sampling = new SamplingTurboFilter();
+        sampling.setContext(context);
+        sampling.start();
+        context.addTurboFilter(sampling);
+
+        sync = context.getLogger("benchmark.sync");
+        sync.setLevel(Level.INFO);
+        sync.setAdditive(false);
+        sync.addAppender(fileAppender("sync", true));
+
+        FileAppender<ILoggingEvent> file = fileAppender("async", false);
+        AsyncAppender queue = new AsyncAppender();
+        queue.setContext(context);
+        queue.setName("async-queue");
+        queue.setQueueSize(8192);
+        queue.setDiscardingThreshold(0);
+        queue.setIncludeCallerData(false);
+        queue.addAppender(file);
+        queue.start();
+        async = context.getLogger("benchmark.async");
+        async.setLevel(Level.INFO);
+        async.setAdditive(false);
+        async.addAppender(queue);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void syncInfo() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        sync.info("Converted {} via {}", amount, path);
+    }
+
+    @Benchmark
+    public void asyncInfo() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        async.info("Converted {} via {}", amount, path);
+    }
+
+    @Benchmark
+    public void asyncSampledHotPathDebug() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        async.debug(LogMarkers.HOT_PATH, "Converted {} via {}", amount, path);
+    }
+
+    @Benchmark
+    public void requestWorkOnly() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+    }
+
+    // === 輔助方法 ===
+
+    private FileAppender<ILoggingEvent> fileAppender(String name, boolean immediateFlush) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setFile(DIRECTORY + "logback-" + name + ".log");
+        appender.setAppend(false);
+        appender.setImmediateFlush(immediateFlush);
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+}
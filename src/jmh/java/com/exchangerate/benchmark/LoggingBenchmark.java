@@ -0,0 +1,91 @@
+package com.exchangerate.benchmark;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.apache.logging.log4j.core.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日誌管線基準測試
+ * 比較原本的同步日誌 (文字格式、每筆 flush) 與非同步日誌 (Disruptor 環形緩衝區、ECS JSON)
+ * 在請求執行緒上的單次呼叫延遲分佈 (SampleTime，含 p99)。
+ * 每次呼叫前模擬一段請求處理，讓背景寫入執行緒跟得上；佇列滿時改為阻塞而不是丟棄，避免非同步結果因丟棄事件而偏低。
+ * 應用程式預設以 Logback 輸出 (見 LogbackLoggingBenchmark，Log4j2 為 log4j2 profile)，此處直接使用 Log4j2 core，不經過 SLF4J。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dlog4j2.loggerContextFactory=org.apache.logging.log4j.core.impl.Log4jContextFactory",
+        "-Dlog4j2.contextSelector=org.apache.logging.log4j.core.selector.ClassLoaderContextSelector",
+        "-Dlog4j2.asyncQueueFullPolicy=Default"})
+public class LoggingBenchmark {
+
+    private static final String DIRECTORY = "target/jmh-logging/";
+    private static final long REQUEST_WORK = 5_000;
+
+    private LoggerContext context;
+    private Logger sync;
+    private Logger async;
+    private final BigDecimal amount = new BigDecimal("1000.00");
+    private final String path = "USD→EUR→TWD";
+
+    @Setup
+    public void setUp() {
+        ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.setStatusLevel(Level.WARN);
+        builder.add(builder.newAppender("sync", "File")
+                .addAttribute("fileName", DIRECTORY + "sync.log")
+                .addAttribute("immediateFlush", true)
+                .add(builder.newLayout("PatternLayout")
+                        .addAttribute("pattern", "%d{ISO8601} %5p %pid --- [%t] %-40.40c{1.} : %m%n")));
+        builder.add(builder.newAppender("async", "RandomAccessFile")
+                .addAttribute("fileName", DIRECTORY + "async.log")
+                .addAttribute("immediateFlush", false)
+                .add(builder.newLayout("JsonTemplateLayout")
+                        .addAttribute("eventTemplateUri", "classpath:EcsLayout.json")));
+        builder.add(builder.newLogger("benchmark.sync", Level.DEBUG)
+                .add(builder.newAppenderRef("sync"))
+                .addAttribute("additivity", false));
+        builder.add(builder.newAsyncLogger("benchmark.async", Level.DEBUG)
+                .add(builder.newAppenderRef("async"))
+                .addAttribute("additivity", false));
+        builder.add(builder.newRootLogger(Level.WARN));
+        context = Configurator.initialize(builder.build());
+
+        sync = context.getLogger("benchmark.sync");
+        async = context.getLogger("benchmark.async");
+    }
+
+    @TearDown
+    public void tearDown() {
+        Configurator.shutdown(context);
+    }
+
+    @Benchmark
+    public void syncInfo() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        sync.info("Converted {} via {}", amount, path);
+    }
+
+    @Benchmark
+    public void asyncInfo() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        async.info("Converted {} via {}", amount, path);
+    }
+
+    @Benchmark
+    public void requestWorkOnly() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+    }
+}
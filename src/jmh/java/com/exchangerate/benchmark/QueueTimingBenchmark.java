@@ -0,0 +1,63 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.service.latency.QueueTimingExecutor;
+import org.apache.tomcat.util.net.NioChannel;
+import org.apache.tomcat.util.net.NioEndpoint;
+import org.apache.tomcat.util.net.SocketBufferHandler;
+import org.apache.tomcat.util.net.SocketEvent;
+import org.apache.tomcat.util.net.SocketProcessorBase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工作執行緒池交付基準測試
+ * 量測 QueueTimingExecutor 交付一個工作並等它執行完的成本：Tomcat 重複使用的 SocketProcessor 使用快取的包裝，
+ * 其他工作每次配置一個包裝。兩者的佇列與等待成本相同，以 -prof gc 比較 B/op 的差即為包裝的配置量。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueTimingBenchmark {
+
+    private final Semaphore done = new Semaphore(0);
+    private QueueTimingExecutor executor;
+    private NioEndpoint endpoint;
+    private SocketProcessorBase<NioChannel> processor;
+    private Runnable task;
+
+    @Setup
+    public void setUp() {
+        executor = new QueueTimingExecutor("bench-exec-", 1, 1, Thread.NORM_PRIORITY);
+        endpoint = new NioEndpoint();
+        processor = new SocketProcessorBase<>(new NioEndpoint.NioSocketWrapper(
+                new NioChannel(new SocketBufferHandler(0, 0, false)), endpoint), SocketEvent.OPEN_READ) {
+            @Override
+            protected void doRun() {
+                done.release();
+            }
+        };
+        task = done::release;
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void recycledSocketProcessor() throws InterruptedException {
+        executor.execute(processor);
+        done.acquire();
+    }
+
+    @Benchmark
+    public void otherTask() throws InterruptedException {
+        executor.execute(task);
+        done.acquire();
+    }
+}
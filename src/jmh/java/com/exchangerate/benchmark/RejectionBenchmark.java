@@ -0,0 +1,75 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.constants.ErrorMessages;
+import com.exchangerate.exception.GlobalExceptionHandler;
+import com.exchangerate.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 拒絕請求的成本基準測試
+ * 比較帶堆疊的 IllegalArgumentException + HashMap + Jackson 序列化，與不擷取堆疊的業務例外 + 預先編碼的錯誤回應。
+ * 例外在約 100 層呼叫深處拋出，接近 Tomcat 與 Spring MVC 處理請求時的堆疊深度。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejectionBenchmark {
+
+    private static final int STACK_DEPTH = 100;
+
+    private final String message = String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, "XXX");
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        handler = new GlobalExceptionHandler();
+    }
+
+    @Benchmark
+    public byte[] stackTraceAndMap() throws JsonProcessingException {
+        IllegalArgumentException ex = catchAt(STACK_DEPTH, IllegalArgumentException::new);
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] stacklessAndPreEncoded() {
+        IllegalArgumentException ex = catchAt(STACK_DEPTH, InvalidRequestException::new);
+        return handler.handleIllegalArgumentException(ex).getBody();
+    }
+
+    private IllegalArgumentException catchAt(int depth, Function<String, IllegalArgumentException> factory) {
+        try {
+            throwAt(depth, factory);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private void throwAt(int depth, Function<String, IllegalArgumentException> factory) {
+        if (depth == 0) {
+            throw factory.apply(message);
+        }
+        throwAt(depth - 1, factory);
+    }
+}
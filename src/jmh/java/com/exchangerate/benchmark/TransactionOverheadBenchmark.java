@@ -0,0 +1,74 @@
+package com.exchangerate.benchmark;
+
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.repository.ExchangeRateRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 交易模式開銷基準測試
+ * 比較讀寫交易與唯讀交易的每次請求成本：讀寫交易在 commit 時會 flush，
+ * 並對持久化內容中的每個實體保留快照做 dirty checking；唯讀交易兩者皆省略。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionOverheadBenchmark {
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ExchangeRateRepository repository;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        repository = context.getBean(ExchangeRateRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        repository.deleteAllInBatch();
+        repository.saveAll(BenchmarkApplication.sampleRates(rows));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ExchangeRate> listInReadWriteTransaction() {
+        return readWriteTransaction.execute(status -> repository.findAll());
+    }
+
+    @Benchmark
+    public List<ExchangeRate> listInReadOnlyTransaction() {
+        return readOnlyTransaction.execute(status -> repository.findAll());
+    }
+
+    @Benchmark
+    public Optional<ExchangeRate> latestRateInReadWriteTransaction() {
+        return readWriteTransaction.execute(status ->
+            repository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR"));
+    }
+
+    @Benchmark
+    public Optional<ExchangeRate> latestRateInReadOnlyTransaction() {
+        return readOnlyTransaction.execute(status ->
+            repository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR"));
+    }
+}
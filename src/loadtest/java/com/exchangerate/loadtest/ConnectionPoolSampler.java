@@ -0,0 +1,60 @@
+package com.exchangerate.loadtest;
+
+import com.exchangerate.service.pool.ConnectionPoolEndpoint;
+import com.exchangerate.service.pool.ConnectionPoolSnapshot;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 量測期間定期取樣連線池狀態，記錄使用中與排隊中連線數的峰值，以及量測期間新增的逾時次數
+ */
+final class ConnectionPoolSampler implements AutoCloseable {
+
+    private static final long INTERVAL_MILLIS = 5;
+
+    private final ConnectionPoolEndpoint endpoint;
+    private final ScheduledExecutorService scheduler;
+    private final long initialTimeouts;
+    private volatile int peakActive;
+    private volatile int peakPending;
+
+    ConnectionPoolSampler(ConnectionPoolEndpoint endpoint) {
+        this.endpoint = endpoint;
+        this.initialTimeouts = endpoint.pool().timeouts();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 量測期間的連線池使用情形
+     *
+     * @param timeouts 量測期間等待連線逾時的次數
+     */
+    record Usage(String pool, int maximumPoolSize, long connectionTimeout, int peakActive, int peakPending,
+                 long timeouts) {
+    }
+
+    Usage usage() {
+        ConnectionPoolSnapshot snapshot = endpoint.pool();
+        return new Usage(snapshot.pool(), snapshot.maximumPoolSize(), snapshot.connectionTimeout(), peakActive,
+                peakPending, snapshot.timeouts() - initialTimeouts);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        ConnectionPoolSnapshot snapshot = endpoint.pool();
+        // Only the sampler thread writes the peaks
+        peakActive = Math.max(peakActive, snapshot.active());
+        peakPending = Math.max(peakPending, snapshot.pending());
+    }
+}
@@ -0,0 +1,100 @@
+package com.exchangerate.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * 負載設定
+ * 以 --key=value 參數指定；其他參數 (例如 --spring.profiles.active=conversion-replica) 原樣傳給應用程式。
+ *
+ * @param rate           每秒到達的請求數 (開放模型：不論前一個請求是否完成，都依時間表送出)
+ * @param duration       量測時間
+ * @param warmup         量測前的預熱時間 (結果不列入報告)
+ * @param mix            各請求類型的權重
+ * @param seed           請求組合與內容的亂數種子，相同種子產生相同的請求序列
+ * @param maxInFlight    同時未完成的請求上限；超過時該次請求記為 dropped
+ * @param reportDirectory 報告輸出目錄
+ * @param applicationArgs 傳給應用程式的參數
+ */
+record LoadProfile(double rate, Duration duration, Duration warmup, Map<Operation, Integer> mix, long seed,
+                   int maxInFlight, Path reportDirectory, List<String> applicationArgs) {
+
+    static LoadProfile parse(String... args) {
+        double rate = 200;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(10);
+        String mix = "convert:70,read:25,write:5";
+        long seed = 42;
+        int maxInFlight = 1000;
+        Path reportDirectory = Path.of("target", "loadtest");
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = separator < 0 ? arg : arg.substring(0, separator);
+            String value = separator < 0 ? "" : arg.substring(separator + 1);
+            switch (key) {
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--duration" -> duration = Duration.parse(value);
+                case "--warmup" -> warmup = Duration.parse(value);
+                case "--mix" -> mix = value;
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--report" -> reportDirectory = Path.of(value);
+                default -> applicationArgs.add(arg);
+            }
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        return new LoadProfile(rate, duration, warmup, parseMix(mix), seed, maxInFlight, reportDirectory,
+                List.copyOf(applicationArgs));
+    }
+
+    /**
+     * 依權重選出下一個請求類型
+     */
+    Operation pick(Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int target = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    /**
+     * 報告標頭使用的設定摘要
+     */
+    String describe() {
+        StringJoiner weights = new StringJoiner(",");
+        mix.forEach((operation, weight) -> weights.add(operation.label() + ":" + weight));
+        return String.format(Locale.ROOT, "rate=%s/s duration=%s warmup=%s mix=%s seed=%d max-in-flight=%d%s",
+                rate % 1 == 0 ? String.valueOf((long) rate) : String.valueOf(rate), duration, warmup, weights, seed,
+                maxInFlight, applicationArgs.isEmpty() ? "" : " app-args=" + String.join(" ", applicationArgs));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one operation with a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,98 @@
+package com.exchangerate.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 負載測試報告
+ * report.txt 只含設定、環境與固定格式的統計表 (不含時間戳記)，可直接以 diff 比較兩次建置；
+ * 另外為每種請求輸出回應時間的 HdrHistogram 百分位分布 (&lt;operation&gt;.hgrm，單位毫秒)，可用 HdrHistogram 的繪圖工具疊圖比較。
+ */
+final class LoadReport {
+
+    private static final String HEADER = "%-10s %10s %8s %8s %10s %9s %9s %9s %9s %9s%n";
+    private static final String ROW = "%-10s %10d %8d %8d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n";
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private LoadReport() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 寫入報告檔並返回 report.txt 的內容
+     */
+    static String write(LoadProfile profile, LoadResults results, ConnectionPoolSampler.Usage pool)
+            throws IOException {
+        Path directory = profile.reportDirectory();
+        Files.createDirectories(directory);
+        String report = format(profile, results, pool);
+        Files.writeString(directory.resolve("report.txt"), report, StandardCharsets.UTF_8);
+        for (Map.Entry<Operation, LoadResults.Stats> entry : results.stats().entrySet()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(entry.getKey().label() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                entry.getValue().responseTime.outputPercentileDistribution(out, 5, MICROS_PER_MILLI);
+            }
+        }
+        return report;
+    }
+
+    static String format(LoadProfile profile, LoadResults results, ConnectionPoolSampler.Usage pool) {
+        StringBuilder report = new StringBuilder();
+        report.append("# Exchange rate load test\n");
+        report.append("profile: ").append(profile.describe()).append('\n');
+        report.append(String.format(Locale.ROOT, "java: %s %s, cpus=%d%n", System.getProperty("java.vm.vendor"),
+                System.getProperty("java.version"), Runtime.getRuntime().availableProcessors()));
+        report.append("\n## Response time from intended send (ms)\n");
+        table(report, results, stats -> stats.responseTime);
+        report.append("\n## Service time from actual send (ms)\n");
+        table(report, results, stats -> stats.serviceTime);
+        report.append("\n## Connection pool\n");
+        report.append(String.format(Locale.ROOT, "pool=%s size=%d connection-timeout=%dms%n", pool.pool(),
+                pool.maximumPoolSize(), pool.connectionTimeout()));
+        report.append(String.format(Locale.ROOT, "peak active=%d peak pending=%d timeouts=%d%n", pool.peakActive(),
+                pool.peakPending(), pool.timeouts()));
+        return report.toString();
+    }
+
+    private static void table(StringBuilder report, LoadResults results,
+                              Function<LoadResults.Stats, Histogram> histogram) {
+        report.append(String.format(Locale.ROOT, HEADER, "operation", "requests", "errors", "dropped", "achieved/s",
+                "p50", "p90", "p99", "p99.9", "max"));
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        long allDropped = 0;
+        for (Map.Entry<Operation, LoadResults.Stats> entry : results.stats().entrySet()) {
+            LoadResults.Stats stats = entry.getValue();
+            Histogram values = histogram.apply(stats);
+            all.add(values);
+            allErrors += stats.failed.sum();
+            allDropped += stats.dropped.sum();
+            row(report, entry.getKey().label(), values, stats.failed.sum(), stats.dropped.sum(), results.seconds());
+        }
+        row(report, "all", all, allErrors, allDropped, results.seconds());
+    }
+
+    private static void row(StringBuilder report, String label, Histogram values, long errors, long dropped,
+                            double seconds) {
+        report.append(String.format(Locale.ROOT, ROW, label, values.getTotalCount(), errors, dropped,
+                values.getTotalCount() / seconds,
+                millis(values.getValueAtPercentile(50)),
+                millis(values.getValueAtPercentile(90)),
+                millis(values.getValueAtPercentile(99)),
+                millis(values.getValueAtPercentile(99.9)),
+                millis(values.getMaxValue())));
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,61 @@
+package com.exchangerate.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一次負載執行的結果 (依請求類型分開記錄)
+ * 回應時間從請求「預定」送出的時間起算，送出落後時 (協調遺漏) 的等待也計入；
+ * 服務時間從實際送出起算，兩者差距代表產生器或連線的排隊時間。延遲以微秒記錄。
+ */
+final class LoadResults {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final double seconds;
+
+    LoadResults(Collection<Operation> operations, double seconds) {
+        for (Operation operation : operations) {
+            stats.put(operation, new Stats());
+        }
+        this.seconds = seconds;
+    }
+
+    void record(Operation operation, long responseNanos, long serviceNanos, boolean success) {
+        Stats entry = stats.get(operation);
+        entry.responseTime.recordValue(Math.max(1, responseNanos / 1_000));
+        entry.serviceTime.recordValue(Math.max(1, serviceNanos / 1_000));
+        (success ? entry.succeeded : entry.failed).increment();
+    }
+
+    void dropped(Operation operation) {
+        stats.get(operation).dropped.increment();
+    }
+
+    Map<Operation, Stats> stats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * 量測時間 (秒)，用於計算實際達到的每秒請求數
+     */
+    double seconds() {
+        return seconds;
+    }
+
+    static final class Stats {
+
+        final Histogram responseTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        final Histogram serviceTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+    }
+}
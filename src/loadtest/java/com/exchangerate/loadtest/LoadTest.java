@@ -0,0 +1,99 @@
+package com.exchangerate.loadtest;
+
+import com.exchangerate.ExchangeRateApplication;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.service.ExchangeRateService;
+import com.exchangerate.service.pool.ConnectionPoolEndpoint;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 負載測試進入點
+ * 在隨機埠啟動完整應用程式 (Tomcat、JPA、H2)，以資料庫中已有的匯率為貨幣對，
+ * 依設定的到達率與請求組合施加負載：先預熱 (結果捨棄)，再量測並輸出報告 (含量測期間的連線池峰值與逾時次數)。
+ *
+ * <pre>
+ * mvn -Ploadtest -DskipTests verify -Dloadtest.args="--rate=500 --duration=PT60S --mix=convert:70,read:25,write:5"
+ * # 併發超過連線池大小時請求應排隊等待而不是逾時
+ * mvn -Ploadtest -DskipTests verify -Dloadtest.args="--rate=300 --mix=write:100 --exchange-rate.connection-pool.maximum-pool-size=2"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+        // Utility class - prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.parse(args);
+        try (ConfigurableApplicationContext context = start(profile.applicationArgs())) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            List<Operation.RatePair> pairs = ratePairs(context.getBean(ExchangeRateService.class));
+            if (pairs.isEmpty()) {
+                throw new IllegalStateException("No exchange rates to drive load against");
+            }
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            OpenLoadGenerator generator = new OpenLoadGenerator(client, URI.create("http://localhost:" + port),
+                    pairs, profile);
+            Random random = new Random(profile.seed());
+
+            System.out.println("Warming up for " + profile.warmup() + " (" + profile.describe() + ")");
+            generator.run(profile.warmup(), random);
+            System.out.println("Measuring for " + profile.duration());
+            LoadResults results;
+            ConnectionPoolSampler.Usage pool;
+            try (ConnectionPoolSampler sampler = new ConnectionPoolSampler(context.getBean(ConnectionPoolEndpoint.class))) {
+                results = generator.run(profile.duration(), random);
+                pool = sampler.usage();
+            }
+
+            System.out.println();
+            System.out.print(LoadReport.write(profile, results, pool));
+            System.out.println("\nReport written to " + profile.reportDirectory().toAbsolutePath());
+        }
+    }
+
+    /**
+     * 以 Web 模式在隨機埠啟動應用程式，關閉 SQL 與 DEBUG 日誌以免干擾量測；傳入的參數可覆寫這些預設值
+     */
+    private static ConfigurableApplicationContext start(List<String> applicationArgs) {
+        // Devtools would restart the context in a new class loader when launched from main
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, String> args = new LinkedHashMap<>();
+        for (String arg : List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.exchangerate=WARN")) {
+            args.put(arg.substring(0, arg.indexOf('=')), arg);
+        }
+        for (String arg : applicationArgs) {
+            int separator = arg.indexOf('=');
+            args.put(separator < 0 ? arg : arg.substring(0, separator), arg);
+        }
+        return new SpringApplicationBuilder(ExchangeRateApplication.class)
+                .run(args.values().toArray(String[]::new));
+    }
+
+    private static List<Operation.RatePair> ratePairs(ExchangeRateService service) {
+        Map<String, Operation.RatePair> pairs = new LinkedHashMap<>();
+        for (ExchangeRateView view : service.getAllExchangeRates()) {
+            pairs.putIfAbsent(view.fromCurrency() + "/" + view.toCurrency(),
+                    new Operation.RatePair(view.fromCurrency(), view.toCurrency(), view.rate()));
+        }
+        return List.copyOf(pairs.values());
+    }
+}
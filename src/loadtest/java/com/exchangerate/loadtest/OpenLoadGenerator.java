@@ -0,0 +1,70 @@
+package com.exchangerate.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 開放模型 (open model) 負載產生器
+ * 第 i 個請求的預定送出時間固定為 start + i / rate，單一排程執行緒依時間表以非同步 HTTP 送出，
+ * 回應慢不會延後之後的請求；排程落後時立即補送，延遲仍從預定時間起算。
+ * 請求類型與內容由固定種子的亂數決定，相同設定產生相同的請求序列。
+ */
+final class OpenLoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final List<Operation.RatePair> pairs;
+    private final LoadProfile profile;
+
+    OpenLoadGenerator(HttpClient client, URI baseUri, List<Operation.RatePair> pairs, LoadProfile profile) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.pairs = pairs;
+        this.profile = profile;
+    }
+
+    /**
+     * 以設定的到達率送出請求 length 時間，等待未完成的請求後返回結果
+     */
+    LoadResults run(Duration length, Random random) throws InterruptedException {
+        LoadResults results = new LoadResults(profile.mix().keySet(), length.toNanos() / 1e9);
+        Semaphore inFlight = new Semaphore(profile.maxInFlight());
+        double intervalNanos = 1e9 / profile.rate();
+        long requests = (long) (length.toNanos() / intervalNanos);
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = profile.pick(random);
+            HttpRequest request = operation.request(baseUri, pairs, random);
+            if (!inFlight.tryAcquire()) {
+                results.dropped(operation);
+                continue;
+            }
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long done = System.nanoTime();
+                        results.record(operation, done - intended, done - sent,
+                                error == null && response.statusCode() < 400);
+                        inFlight.release();
+                    });
+        }
+        if (!inFlight.tryAcquire(profile.maxInFlight(), DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            System.err.println("Requests still in flight after " + DRAIN_TIMEOUT + "; reporting without them");
+        }
+        return results;
+    }
+}
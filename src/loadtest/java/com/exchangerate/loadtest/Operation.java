@@ -0,0 +1,79 @@
+package com.exchangerate.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 負載組合中的請求類型
+ * 貨幣對取自啟動時資料庫中已有的匯率；換算另外包含反向貨幣對，讀取與寫入只使用已存在的貨幣對。
+ */
+enum Operation {
+
+    /**
+     * POST /api/convert，金額在 1.00 ~ 10000.00 之間隨機
+     */
+    CONVERT {
+        @Override
+        HttpRequest request(URI baseUri, List<RatePair> pairs, Random random) {
+            RatePair pair = pick(pairs, random);
+            boolean inverse = random.nextBoolean();
+            String body = "{\"from_currency\":\"" + (inverse ? pair.to() : pair.from())
+                    + "\",\"to_currency\":\"" + (inverse ? pair.from() : pair.to())
+                    + "\",\"amount\":" + BigDecimal.valueOf(100 + random.nextInt(999_901), 2) + "}";
+            return HttpRequest.newBuilder(baseUri.resolve("/api/convert"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+
+    /**
+     * GET /api/exchange-rates/{from}/{to}
+     */
+    READ {
+        @Override
+        HttpRequest request(URI baseUri, List<RatePair> pairs, Random random) {
+            RatePair pair = pick(pairs, random);
+            return HttpRequest.newBuilder(baseUri.resolve("/api/exchange-rates/" + pair.from() + "/" + pair.to()))
+                    .GET()
+                    .build();
+        }
+    },
+
+    /**
+     * PUT /api/exchange-rates/{from}/{to}，匯率在初始值上下 1% 內隨機
+     */
+    WRITE {
+        @Override
+        HttpRequest request(URI baseUri, List<RatePair> pairs, Random random) {
+            RatePair pair = pick(pairs, random);
+            BigDecimal jitter = BigDecimal.valueOf(9_900 + random.nextInt(201), 4);
+            String body = "{\"rate\":" + pair.rate().multiply(jitter).setScale(6, RoundingMode.HALF_UP) + "}";
+            return HttpRequest.newBuilder(baseUri.resolve("/api/exchange-rates/" + pair.from() + "/" + pair.to()))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    };
+
+    abstract HttpRequest request(URI baseUri, List<RatePair> pairs, Random random);
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    private static RatePair pick(List<RatePair> pairs, Random random) {
+        return pairs.get(random.nextInt(pairs.size()));
+    }
+
+    /**
+     * 負載使用的貨幣對與其初始匯率
+     */
+    record RatePair(String from, String to, BigDecimal rate) {
+    }
+}
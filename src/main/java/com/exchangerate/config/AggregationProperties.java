@@ -0,0 +1,27 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.aggregation.ConsolidationPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 多來源匯率彙整設定
+ * 每個貨幣對依來源 (ExchangeRate.source) 各保留最新一筆，再依 policy 彙整為實際使用的匯率
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.aggregation")
+public class AggregationProperties {
+
+    /**
+     * 彙整策略：FRESHEST (最新一筆)、MEDIAN (各來源中位數)、PRIORITY (依 sourcePriority 順序)
+     */
+    private ConsolidationPolicy policy = ConsolidationPolicy.FRESHEST;
+
+    /**
+     * PRIORITY 策略的來源優先順序，排越前面優先權越高；未列出的來源排在最後並以最新者為準
+     */
+    private List<String> sourcePriority = new ArrayList<>();
+}
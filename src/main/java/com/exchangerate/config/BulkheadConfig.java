@@ -0,0 +1,51 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.bulkhead.BulkheadInterceptor;
+import com.exchangerate.service.bulkhead.Bulkheads;
+import com.exchangerate.service.bulkhead.TrafficClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 艙壁攔截器註冊
+ * 啟動時記錄寫入的實際上限，並檢查 servlet 執行緒數：查詢與寫入的併發加排隊全部用滿後，剩下的執行緒仍須容得下轉換的併發上限
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "exchange-rate.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkheadConfig {
+
+    @Bean
+    WebMvcConfigurer bulkheadInterceptorConfigurer(BulkheadProperties properties, Bulkheads bulkheads,
+                                                   ConnectionPoolProperties connectionPool,
+                                                   @Value("${server.tomcat.threads.max:200}") int servletThreads) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int poolSize = connectionPool.maximumPoolSizeFor(cores);
+        BulkheadProperties.Limits write = properties.limitsOf(TrafficClass.WRITE, cores, poolSize);
+        log.info("Write bulkhead: {} concurrent, {} queued ({} cores, {} pool connections)",
+                write.getMaxConcurrent(), write.getMaxQueued(), cores, poolSize);
+
+        int conversionConcurrent = properties.getConversion().getMaxConcurrent();
+        int nonConversionThreads = properties.nonConversionThreads(cores, poolSize);
+        int conversionThreads = servletThreads - nonConversionThreads;
+        if (conversionThreads < conversionConcurrent) {
+            log.warn("Read and write bulkheads can hold {} of {} servlet threads, leaving {} for conversions "
+                            + "(max-concurrent {}); conversions have no guaranteed capacity",
+                    nonConversionThreads, servletThreads, Math.max(conversionThreads, 0), conversionConcurrent);
+        }
+        BulkheadInterceptor interceptor = new BulkheadInterceptor(bulkheads, properties.getRetryAfter());
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
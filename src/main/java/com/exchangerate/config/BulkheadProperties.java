@@ -0,0 +1,124 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.bulkhead.TrafficClass;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 依流量類別隔離的併發艙壁 (bulkhead) 設定
+ * 轉換、查詢與管理寫入各有自己的併發上限與排隊上限，寫入暴增時只會佔滿寫入的名額；
+ * 排隊延遲持續超過 queue-target 一個 interval 後開始卸載 (回應 503 與 Retry-After)，直到又能立即取得名額。
+ * 查詢與寫入最多佔用的 servlet 執行緒 (併發 + 排隊) 之外，至少要留下轉換的併發上限，轉換才有保證的容量。
+ * <p>
+ * 寫入的併發上限未設定時依核心數與連線池大小計算：連線池保留 conversion-connection-share 給轉換與查詢，
+ * 其餘給寫入，且不超過核心數 (每筆寫入在提交後重算索引與路由，主要消耗 CPU)；排隊上限為併發上限的 4 倍。
+ * 小型主機 (1 核心) 可明確設定 write.max-concurrent=1、write.max-queued=4。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * 是否啟用艙壁與負載卸載
+     */
+    private boolean enabled = true;
+
+    /**
+     * 卸載時回應的 Retry-After
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * 貨幣轉換 (GET/POST /api/convert、/api/exchange-rates/convert)
+     */
+    private Limits conversion = new Limits(64, 128);
+
+    /**
+     * 匯率查詢 (GET /api/exchange-rates/**)
+     */
+    private Limits read = new Limits(32, 32);
+
+    /**
+     * 管理寫入 (POST/PUT/DELETE /api/exchange-rates/**)；併發與排隊上限未設定時依核心數與連線池大小計算
+     */
+    private Limits write = new Limits(null, null);
+
+    /**
+     * 計算寫入併發上限時，連線池保留給轉換與查詢的比例
+     */
+    private double conversionConnectionShare = 0.5;
+
+    /**
+     * 流量類別的實際上限；寫入未設定的併發與排隊上限依核心數與連線池大小補上
+     */
+    public Limits limitsOf(TrafficClass trafficClass, int cores, int poolSize) {
+        return switch (trafficClass) {
+            case CONVERSION -> conversion;
+            case READ -> read;
+            case WRITE -> resolveWrite(cores, poolSize);
+        };
+    }
+
+    /**
+     * 查詢與寫入最多佔用的 servlet 執行緒數 (併發 + 排隊)
+     */
+    public int nonConversionThreads(int cores, int poolSize) {
+        Limits resolvedWrite = resolveWrite(cores, poolSize);
+        return read.getMaxConcurrent() + read.getMaxQueued()
+                + resolvedWrite.getMaxConcurrent() + resolvedWrite.getMaxQueued();
+    }
+
+    private Limits resolveWrite(int cores, int poolSize) {
+        if (write.getMaxConcurrent() != null && write.getMaxQueued() != null) {
+            return write;
+        }
+        int reserved = (int) Math.ceil(poolSize * conversionConnectionShare);
+        int maxConcurrent = write.getMaxConcurrent() != null
+                ? write.getMaxConcurrent() : Math.max(1, Math.min(cores, poolSize - reserved));
+        int maxQueued = write.getMaxQueued() != null ? write.getMaxQueued() : maxConcurrent * 4;
+        Limits resolved = new Limits(maxConcurrent, maxQueued);
+        resolved.setQueueTarget(write.getQueueTarget());
+        resolved.setInterval(write.getInterval());
+        resolved.setMaxQueueWait(write.getMaxQueueWait());
+        return resolved;
+    }
+
+    @Data
+    public static class Limits {
+
+        /**
+         * 同時處理中的請求數上限
+         */
+        private Integer maxConcurrent = 16;
+
+        /**
+         * 等待名額的請求數上限，超過時立即回應 503
+         */
+        private Integer maxQueued = 16;
+
+        /**
+         * 可接受的排隊延遲；持續超過一個 interval 時開始卸載
+         */
+        private Duration queueTarget = Duration.ofMillis(50);
+
+        /**
+         * 排隊延遲須持續超過 queue-target 多久才開始卸載
+         */
+        private Duration interval = Duration.ofMillis(500);
+
+        /**
+         * 單一請求排隊等待的時間上限，逾時回應 503
+         */
+        private Duration maxQueueWait = Duration.ofSeconds(2);
+
+        public Limits() {
+        }
+
+        Limits(Integer maxConcurrent, Integer maxQueued) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.exchangerate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tomcat 連線輸出緩衝設定
+ * 讓每條連線使用 direct buffer 與較大的寫出緩衝區，大型列表回應以較少次 write 送出且不經過 heap 到 direct 的複製；
+ * 緩衝區隨 Tomcat 快取的連線物件重用，不為每條連線重新配置。
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(Tomcat.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CompressionConfig {
+
+    @Bean
+    WebServerFactoryCustomizer<TomcatServletWebServerFactory> socketBufferCustomizer(CompressionProperties properties) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            setSocketProperty(connector, "directBuffer", Boolean.toString(properties.isDirectBuffers()));
+            setSocketProperty(connector, "appWriteBufSize",
+                    Long.toString(properties.getSocketWriteBuffer().toBytes()));
+            if (properties.getSocketBufferPool() != null) {
+                setSocketProperty(connector, "bufferPool", properties.getSocketBufferPool().toString());
+            }
+        });
+    }
+
+    private static void setSocketProperty(Connector connector, String name, String value) {
+        if (!connector.setProperty("socket." + name, value)) {
+            log.warn("Tomcat connector {} does not support socket.{}", connector.getProtocolHandlerClassName(), name);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 回應壓縮與輸出緩衝設定
+ * 完整匯率列表 (GET /api/exchange-rates，無篩選與分頁) 每個資料版本只編碼並壓縮一次 (gzip 與 brotli)，
+ * 之後依 Accept-Encoding 直接送出對應的位元組；其他 JSON 回應由 Tomcat 依 server.compression.* 即時 gzip 壓縮。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.compression")
+public class CompressionProperties {
+
+    /**
+     * 是否快取預先壓縮的完整列表；停用時列表與其他回應一樣由 Tomcat 即時壓縮
+     */
+    private boolean enabled = true;
+
+    /**
+     * 小於此大小的列表不建立壓縮版本 (壓縮節省的位元組不值得用戶端解壓縮)
+     */
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);
+
+    /**
+     * gzip 壓縮等級 (1-9)；每個資料版本只壓縮一次，預設使用最高等級
+     */
+    private int gzipLevel = 9;
+
+    /**
+     * 是否建立 brotli 版本；目前平台沒有 brotli 原生程式庫時自動略過，只提供 gzip
+     */
+    private boolean brotli = true;
+
+    /**
+     * brotli 品質 (0-11)；建立期間列表請求須等待，550KB 的列表在 11 時約需 2 秒 (比 5 再小約 27%)，5 只需約 20 毫秒
+     */
+    private int brotliQuality = 5;
+
+    /**
+     * Tomcat 連線是否使用 direct buffer (寫出時省去 JDK 由 heap 複製到暫存 direct buffer 的步驟)；
+     * 緩衝區隨連線物件由 Tomcat 快取重用
+     */
+    private boolean directBuffers = true;
+
+    /**
+     * Tomcat 每條連線的寫出緩衝區大小
+     */
+    private DataSize socketWriteBuffer = DataSize.ofKilobytes(64);
+
+    /**
+     * Tomcat 快取重用的連線物件 (含緩衝區) 數量上限；未設定時使用 Tomcat 依 heap 大小計算的預設值
+     */
+    private Integer socketBufferPool;
+}
@@ -0,0 +1,47 @@
+package com.exchangerate.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 連線池設定
+ * 在 spring.datasource.hikari 綁定之後、連線池啟動 (第一次取得連線) 之前套用 ConnectionPoolProperties
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(HikariDataSource.class)
+public class ConnectionPoolConfig {
+
+    static final String POOL_NAME = "exchange-rate";
+
+    @Bean
+    static BeanPostProcessor connectionPoolPostProcessor(ObjectProvider<ConnectionPoolProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !dataSource.isRunning()) {
+                    apply(properties.getObject(), dataSource, Runtime.getRuntime().availableProcessors());
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void apply(ConnectionPoolProperties properties, HikariDataSource dataSource, int cores) {
+        dataSource.setPoolName(POOL_NAME);
+        dataSource.setMaximumPoolSize(properties.maximumPoolSizeFor(cores));
+        dataSource.setMinimumIdle(properties.minimumIdleFor(cores));
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        if (properties.getLeakDetectionThreshold() != null) {
+            dataSource.setLeakDetectionThreshold(properties.getLeakDetectionThreshold().toMillis());
+        }
+        log.info("Connection pool {}: {} connections (min idle {}) for {} cores, connection timeout {} ms",
+                POOL_NAME, dataSource.getMaximumPoolSize(), dataSource.getMinimumIdle(), cores,
+                dataSource.getConnectionTimeout());
+    }
+}
@@ -0,0 +1,49 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 資料庫連線池 (HikariCP) 設定
+ * 連線數預設依 CPU 核心數計算 (核心數 × 2 + 有效磁碟數)，並固定池大小 (minimum-idle = maximum-pool-size)；
+ * 併發請求超過池大小時在池中排隊，最多等待 connection-timeout。此處的設定覆寫 spring.datasource.hikari 的同名設定。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.connection-pool")
+public class ConnectionPoolProperties {
+
+    /**
+     * 連線數上限；未設定時為 核心數 × 2 + effective-spindle-count
+     */
+    private Integer maximumPoolSize;
+
+    /**
+     * 計算連線數時的有效磁碟數 (資料全在快取或記憶體中時為 0)
+     */
+    private int effectiveSpindleCount = 1;
+
+    /**
+     * 閒置連線數下限；未設定時等於 maximum-pool-size (固定大小的池，不因負載起伏建立或關閉連線)
+     */
+    private Integer minimumIdle;
+
+    /**
+     * 請求排隊等待連線的時間上限，超過時拋出例外
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 連線被借出超過此時間時記錄疑似洩漏的警告；未設定時不檢查
+     */
+    private Duration leakDetectionThreshold;
+
+    public int maximumPoolSizeFor(int cores) {
+        return maximumPoolSize != null ? maximumPoolSize : cores * 2 + effectiveSpindleCount;
+    }
+
+    public int minimumIdleFor(int cores) {
+        return minimumIdle != null ? minimumIdle : maximumPoolSizeFor(cores);
+    }
+}
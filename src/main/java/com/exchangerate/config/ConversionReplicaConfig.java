@@ -0,0 +1,57 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.bulkhead.Traffic;
+import com.exchangerate.service.bulkhead.TrafficClass;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * conversion-replica 設定檔的唯讀限制
+ * 副本只服務換算與查詢；標示為 {@link TrafficClass#WRITE} 的處理方法一律返回 405，
+ * 副本的資料只來自啟動時的初始資料，不接受 API 寫入。
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("conversion-replica")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ConversionReplicaConfig {
+
+    @Bean
+    WebMvcConfigurer readOnlyReplicaConfigurer() {
+        HandlerInterceptor rejectWrites = new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+                    throws HttpRequestMethodNotSupportedException {
+                if (handler instanceof HandlerMethod handlerMethod && isWrite(handlerMethod)) {
+                    throw new HttpRequestMethodNotSupportedException(request.getMethod(), List.of("GET"));
+                }
+                return true;
+            }
+        };
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(rejectWrites).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    private static boolean isWrite(HandlerMethod handlerMethod) {
+        Traffic traffic = handlerMethod.getMethodAnnotation(Traffic.class);
+        if (traffic == null) {
+            traffic = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Traffic.class);
+        }
+        return traffic != null && traffic.value() == TrafficClass.WRITE;
+    }
+}
@@ -0,0 +1,32 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.jfr.RepositoryCallInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * JFR 事件設定
+ * 在每個 Spring Data repository 代理上加入 RepositoryCallInterceptor；
+ * 未錄製時事件不會提交，開銷只有一次事件物件配置與 begin/end。
+ */
+@Configuration(proxyBeanMethods = false)
+public class FlightRecorderConfig {
+
+    @Bean
+    static BeanPostProcessor repositoryCallEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // The repository proxy is created in afterPropertiesSet, so the customizer must be added before it
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new RepositoryCallInterceptor(
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * JFR 錄製端點 (/actuator/jfr) 設定
+ * 錄製寫入磁碟；未指定錄製時間時一直錄製到停止為止，因此每個錄製只保留最近一段時間與大小內的資料，
+ * 並限制同時進行的錄製數。端點預設不經 HTTP 公開，需加入 management.endpoints.web.exposure.include。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.jfr")
+public class FlightRecorderProperties {
+
+    /**
+     * 每個錄製在磁碟上保留的最長時間，較舊的資料區塊會被捨棄
+     */
+    private Duration maxAge = Duration.ofHours(1);
+
+    /**
+     * 每個錄製在磁碟上保留的最大大小，超過時捨棄最舊的資料區塊
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * 透過端點同時進行的錄製數上限
+     */
+    private int maxRecordings = 2;
+}
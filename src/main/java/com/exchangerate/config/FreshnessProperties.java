@@ -0,0 +1,37 @@
+package com.exchangerate.config;
+
+import com.exchangerate.model.CurrencyPair;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 匯率時效 (SLA) 設定
+ * 匯率的 timestamp 超過該貨幣對的最大容許時間即視為過期，由背景巡檢在記憶體索引中標記
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.freshness")
+public class FreshnessProperties {
+
+    /**
+     * 未個別設定的貨幣對使用的最大容許時間
+     */
+    private Duration defaultMaxAge = Duration.ofHours(24);
+
+    /**
+     * 各貨幣對的最大容許時間，鍵為「FROM/TO」，例如 exchange-rate.freshness.max-age.[USD/EUR]=PT1H
+     */
+    private Map<String, Duration> maxAge = new HashMap<>();
+
+    /**
+     * 背景巡檢過期匯率的間隔
+     */
+    private Duration sweepInterval = Duration.ofSeconds(30);
+
+    public Duration maxAge(CurrencyPair pair) {
+        return maxAge.getOrDefault(pair.toString(), defaultMaxAge);
+    }
+}
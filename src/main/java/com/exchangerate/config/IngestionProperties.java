@@ -0,0 +1,52 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 匯率檔案投遞 (file-drop) 匯入設定
+ * 監看目錄中新出現的 CSV / JSON 匯率檔，整檔驗證後以單一批次交易套用。
+ * 上游應先寫入暫存檔名 (.tmp / .part 或以「.」開頭) 再改名，避免讀到寫到一半的檔案。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.ingestion")
+public class IngestionProperties {
+
+    /**
+     * 是否啟動目錄監看
+     */
+    private boolean enabled = false;
+
+    /**
+     * 監看的投遞目錄
+     */
+    private Path directory = Path.of("rate-drop");
+
+    /**
+     * 處理完成的檔案移入的子目錄 (相對於投遞目錄)
+     */
+    private String processedDirectory = "processed";
+
+    /**
+     * 處理失敗的檔案移入的子目錄 (相對於投遞目錄)
+     */
+    private String failedDirectory = "failed";
+
+    /**
+     * 檔案大小達此門檻時以記憶體映射 (mmap) 讀取，否則以一般串流讀取
+     */
+    private DataSize mmapThreshold = DataSize.ofMegabytes(1);
+
+    /**
+     * 每個檔案報告中保留的驗證錯誤筆數上限
+     */
+    private int maxReportedErrors = 20;
+
+    /**
+     * 保留最近幾個檔案的匯入報告
+     */
+    private int recentReports = 50;
+}
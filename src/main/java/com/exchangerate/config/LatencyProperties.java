@@ -0,0 +1,34 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 端點延遲直方圖設定
+ * 每個 API 端點以 HdrHistogram 記錄延遲，每隔 slice 切出一段；/actuator/latency 依 windows 合併最近幾段輸出百分位數。
+ * 協調遺漏以請求在 Tomcat 工作佇列中實際等待的時間修正，與原始處理時間並列輸出；
+ * 從預定送出時間起算的客戶端延遲由負載測試 (loadtest profile) 量測。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.latency")
+public class LatencyProperties {
+
+    /**
+     * 是否記錄端點延遲
+     */
+    private boolean enabled = true;
+
+    /**
+     * 每段的長度；視窗只包含已結束的段
+     */
+    private Duration slice = Duration.ofSeconds(15);
+
+    /**
+     * 輸出的滑動視窗長度，須為 slice 的整數倍
+     */
+    private List<Duration> windows = new ArrayList<>(List.of(Duration.ofMinutes(1), Duration.ofMinutes(5)));
+}
@@ -0,0 +1,74 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.latency.EndpointLatencyFilter;
+import com.exchangerate.service.latency.EndpointLatencyRecorder;
+import com.exchangerate.service.latency.QueueTimingExecutor;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.management.ObjectName;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 端點延遲記錄的過濾器註冊
+ * 排在其他過濾器之前，量測範圍涵蓋整條過濾器鏈；
+ * 使用 Tomcat 時並以 QueueTimingExecutor 取代連接器的工作執行緒池，記錄請求進入過濾器鏈之前的排隊時間。
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "exchange-rate.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LatencyRecordingConfig {
+
+    @Bean
+    FilterRegistrationBean<EndpointLatencyFilter> endpointLatencyFilter(EndpointLatencyRecorder recorder) {
+        FilterRegistrationBean<EndpointLatencyFilter> registration =
+                new FilterRegistrationBean<>(new EndpointLatencyFilter(recorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnClass(Tomcat.class)
+    QueueTimingCustomizer queueTimingCustomizer() {
+        return new QueueTimingCustomizer();
+    }
+
+    /**
+     * 在 server.tomcat.threads.* 套用之後建立執行緒池 (連接器自訂依加入順序執行)，關閉應用程式時一併關閉
+     */
+    static class QueueTimingCustomizer implements WebServerFactoryCustomizer<TomcatServletWebServerFactory>,
+            DisposableBean {
+
+        private final List<QueueTimingExecutor> executors = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void customize(TomcatServletWebServerFactory factory) {
+            factory.addConnectorCustomizers(connector -> {
+                if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol
+                        && protocol.getExecutor() == null) {
+                    QueueTimingExecutor executor = new QueueTimingExecutor(
+                            ObjectName.unquote(protocol.getName()) + "-exec-", protocol.getMinSpareThreads(),
+                            protocol.getMaxThreads(), protocol.getThreadPriority());
+                    protocol.setExecutor(executor);
+                    executors.add(executor);
+                }
+            });
+        }
+
+        @Override
+        public void destroy() {
+            executors.forEach(QueueTimingExecutor::shutdown);
+        }
+    }
+}
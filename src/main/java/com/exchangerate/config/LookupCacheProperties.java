@@ -0,0 +1,39 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 查詢快取設定
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.cache")
+public class LookupCacheProperties {
+
+    /**
+     * 換算結果快取
+     */
+    private ConversionResults conversionResults = new ConversionResults();
+
+    /**
+     * 記憶體匯率索引與資料庫全量比對的間隔；其他執行個體或直接寫入資料庫的匯率最多延遲這段時間才會反映在查詢與換算
+     */
+    private Duration indexReconcileInterval = Duration.ofSeconds(30);
+
+    @Data
+    public static class ConversionResults {
+
+        /**
+         * 是否快取 convertCurrencyDetailed 的換算結果
+         */
+        private boolean enabled = true;
+
+        /**
+         * 快取可使用的記憶體上限 (依每筆項目估算的位元組數計算)；超過時依使用頻率 (W-TinyLFU) 淘汰
+         */
+        private DataSize maximumSize = DataSize.ofMegabytes(8);
+    }
+}
@@ -0,0 +1,47 @@
+package com.exchangerate.config;
+
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ingestion.IngestionReport;
+import com.exchangerate.service.latency.EndpointLatencySnapshot;
+import com.exchangerate.service.latency.LatencySnapshot;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * AOT / GraalVM 原生映像的執行期提示
+ * 控制器的請求與回應型別由 Spring AOT 自動登錄；此處補上其他經由 Jackson 或 Spring Data 綁定的型別
+ * (實體、投影、actuator 端點回傳的 IngestionReport 與 EndpointLatencySnapshot) 以及 Lombok 產生的 builder。
+ */
+@Configuration(proxyBeanMethods = false)
+@RegisterReflectionForBinding({
+        ExchangeRate.class,
+        ExchangeRateView.class,
+        ConversionRequest.class,
+        ConversionResponse.class,
+        IngestionReport.class,
+        EndpointLatencySnapshot.class,
+        LatencySnapshot.class
+})
+@ImportRuntimeHints(NativeHintsConfig.LombokBuilderHints.class)
+public class NativeHintsConfig {
+
+    static class LombokBuilderHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> builder : new Class<?>[] {
+                    ExchangeRate.ExchangeRateBuilder.class,
+                    ConversionResponse.ConversionResponseBuilder.class}) {
+                hints.reflection().registerType(builder,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 上游匯率提供者輪詢設定
+ * 除了這裡設定的 HTTP 提供者，任何實作 RateProvider 的 Spring Bean 也會被輪詢。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.providers")
+public class ProviderProperties {
+
+    /**
+     * 是否啟動提供者輪詢
+     */
+    private boolean enabled = false;
+
+    /**
+     * 兩次輪詢之間的間隔；上一輪仍在執行的提供者本輪略過
+     */
+    private Duration pollInterval = Duration.ofSeconds(10);
+
+    /**
+     * 同時輪詢的提供者數量上限
+     */
+    private int concurrency = 4;
+
+    /**
+     * 合併視窗：同一貨幣對與來源在視窗內只保留最新一筆，視窗結束時整批寫入
+     */
+    private Duration coalesceWindow = Duration.ofSeconds(1);
+
+    /**
+     * 等待寫入的貨幣對與來源數量上限，超過時捨棄新出現的鍵 (既有鍵仍會被更新)
+     */
+    private int maxPending = 10_000;
+
+    /**
+     * 以 JSON 陣列提供匯率的 HTTP 端點
+     */
+    private List<Http> http = new ArrayList<>();
+
+    @Data
+    public static class Http {
+
+        /**
+         * 提供者名稱，寫入 ExchangeRate.source
+         */
+        private String name;
+
+        private URI url;
+
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
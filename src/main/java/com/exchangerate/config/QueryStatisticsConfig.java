@@ -0,0 +1,46 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.query.QueryStatisticsInterceptor;
+import com.exchangerate.service.query.QueryStatisticsRecorder;
+import com.exchangerate.service.query.RepeatedStatementDetector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 查詢統計設定
+ * 在每個 repository 代理上加入 QueryStatisticsInterceptor，並將 N+1 偵測與慢 SQL 記錄交給 Hibernate
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "exchange-rate.query-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsConfig {
+
+    @Bean
+    static BeanPostProcessor queryStatisticsPostProcessor(ObjectProvider<QueryStatisticsRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new QueryStatisticsInterceptor(
+                                    repositoryInformation.getRepositoryInterface().getSimpleName(), recorder.getObject()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer queryStatisticsHibernateProperties(QueryStatisticsProperties properties,
+                                                                    RepeatedStatementDetector detector) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, detector);
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, properties.getSlowThreshold().toMillis());
+        };
+    }
+}
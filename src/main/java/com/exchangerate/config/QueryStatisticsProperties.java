@@ -0,0 +1,41 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 查詢統計設定 (取代 show-sql)
+ * 每個 repository 方法累計次數、耗時與回傳筆數，超過門檻的呼叫列入慢查詢；
+ * 另外抽樣部分交易，找出同一 SQL 在單一交易中重複執行的 N+1 查詢。結果由 /actuator/queries 輸出。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.query-statistics")
+public class QueryStatisticsProperties {
+
+    /**
+     * 是否收集查詢統計
+     */
+    private boolean enabled = true;
+
+    /**
+     * 慢查詢門檻；同時設為 Hibernate 的 log_slow_query，超過的 SQL 以 org.hibernate.SQL_SLOW 記錄
+     */
+    private Duration slowThreshold = Duration.ofMillis(100);
+
+    /**
+     * 保留最近幾筆慢查詢
+     */
+    private int slowQueries = 50;
+
+    /**
+     * 追蹤 N+1 的交易抽樣比例 (0 - 1)
+     */
+    private double sampleRate = 0.1;
+
+    /**
+     * 同一 SQL 在單一交易中執行達此次數即視為 N+1 嫌疑
+     */
+    private int repeatedStatementThreshold = 10;
+}
@@ -0,0 +1,64 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 換算路由成本設定
+ * 每條邊的成本 = 跳數成本 + 反向成本 + 時效成本 + 來源成本 (+ 過期成本)，換算時選擇總成本最低的路徑
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.routing")
+public class RoutingProperties {
+
+    /**
+     * 每一跳的基本成本
+     */
+    private double hopCost = 1.0;
+
+    /**
+     * 使用反向匯率 (1/rate) 時的額外成本，讓已儲存方向的匯率優先
+     */
+    private double inverseCost = 0.1;
+
+    /**
+     * 匯率每舊一分鐘增加的成本
+     */
+    private double stalenessCostPerMinute = 0.01;
+
+    /**
+     * 時效成本的上限；須小於 hopCost，未過期的直接匯率才不會只因為變舊就輸給多一跳的新鮮路徑。
+     * 時效成本只用來在跳數相同的路徑間偏好較新的匯率，已過期的匯率由 staleCost 處理
+     */
+    private double maxStalenessCost = 0.5;
+
+    /**
+     * 各資料來源的額外成本，數值越低優先權越高；未列出的來源使用 defaultSourceCost
+     */
+    private Map<String, Double> sourceCosts = new HashMap<>();
+
+    private double defaultSourceCost = 0.0;
+
+    /**
+     * 過期匯率的額外成本，遠大於任何新鮮路徑，只在沒有新鮮路徑時才會被選用
+     */
+    private double staleCost = 1_000_000.0;
+
+    /**
+     * 是否完全排除過期匯率；排除後沒有新鮮路徑的貨幣對將查無匯率
+     */
+    private boolean excludeStale = false;
+
+    /**
+     * 全量重算路徑的間隔，讓時效成本隨時間推移更新
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(1);
+
+    public double sourceCost(String source) {
+        return source == null ? defaultSourceCost : sourceCosts.getOrDefault(source, defaultSourceCost);
+    }
+}
@@ -0,0 +1,36 @@
+package com.exchangerate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 啟動預熱與檢查點設定
+ * 預熱在啟動完成後以各貨幣對的換算請求走過解析、路由、快取與 JSON 編碼，讓這些類別載入並由 JIT 編譯；
+ * 搭配 afterWarmup 可在預熱後結束 (AppCDS 訓練執行) 或建立 CRaC 檢查點。
+ */
+@Data
+@ConfigurationProperties(prefix = "exchange-rate.startup")
+public class StartupProperties {
+
+    /**
+     * 是否在啟動完成後執行預熱
+     */
+    private boolean warmup = false;
+
+    /**
+     * 預熱的換算次數 (依序輪流使用各個有路徑的貨幣對)
+     */
+    private int warmupIterations = 20_000;
+
+    /**
+     * 預熱完成後的動作：NONE (繼續服務)、EXIT (關閉應用程式，供 -XX:ArchiveClassesAtExit 產生 CDS 封存檔)、
+     * CHECKPOINT (以 CRaC 建立檢查點，需 CRaC JDK 並以 -XX:CRaCCheckpointTo 啟動)
+     */
+    private AfterWarmup afterWarmup = AfterWarmup.NONE;
+
+    public enum AfterWarmup {
+        NONE,
+        EXIT,
+        CHECKPOINT
+    }
+}
@@ -0,0 +1,106 @@
+package com.exchangerate.config;
+
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.dto.json.ConversionRequestParser;
+import com.exchangerate.service.ExchangeRateService;
+import com.exchangerate.service.RateIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 啟動預熱
+ * 應用程式就緒後，對索引中每個有換算路徑的貨幣對重複送出換算請求：請求主體經快速解析器解析、
+ * 走 convertCurrencyDetailed (路由、結果快取)，回應再以 ObjectMapper 編碼；每輪另查詢一次匯率列表。
+ * 金額在有限的集合中輪替，快取命中與未命中的路徑都會被執行，快取也不會被預熱資料塞滿。
+ * 預熱後依 exchange-rate.startup.after-warmup 結束或建立 CRaC 檢查點；
+ * 建立檢查點前後由 Spring 停止並重新啟動生命週期元件 (Tomcat、連線池)，還原後重新載入匯率索引。
+ * 只在 exchange-rate.startup.warmup=true 時建立。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "exchange-rate.startup", name = "warmup", havingValue = "true")
+public class StartupWarmup {
+
+    // Amounts cycle through a small set so both cache hits and misses are exercised
+    private static final int DISTINCT_AMOUNTS = 64;
+
+    private final ExchangeRateService exchangeRateService;
+    private final RateIndex rateIndex;
+    private final ObjectMapper objectMapper;
+    private final StartupProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) throws JsonProcessingException {
+        long started = System.nanoTime();
+        List<String[]> pairs = routedPairs();
+        int iterations = pairs.isEmpty() ? 0 : properties.getWarmupIterations();
+        for (int i = 0; i < iterations; i++) {
+            String[] pair = pairs.get(i % pairs.size());
+            if (i % pairs.size() == 0) {
+                objectMapper.writeValueAsBytes(exchangeRateService.getAllExchangeRates());
+            }
+            int amount = (i / pairs.size()) % DISTINCT_AMOUNTS + 1;
+            byte[] body = ("{\"from_currency\":\"" + pair[0] + "\",\"to_currency\":\"" + pair[1]
+                    + "\",\"amount\":" + amount + ".25}").getBytes(StandardCharsets.UTF_8);
+            ConversionRequest request = ConversionRequestParser.parse(body, 0, body.length);
+            objectMapper.writeValueAsBytes(exchangeRateService.convertCurrencyDetailed(request));
+        }
+        log.info("Warmed up {} conversions over {} pairs in {} ms", iterations, pairs.size(),
+                (System.nanoTime() - started) / 1_000_000);
+
+        switch (properties.getAfterWarmup()) {
+            case EXIT -> exit(event);
+            case CHECKPOINT -> checkpoint();
+            case NONE -> { }
+        }
+    }
+
+    private List<String[]> routedPairs() {
+        List<String[]> pairs = new ArrayList<>();
+        for (String from : CurrencyConstants.SUPPORTED_CURRENCIES) {
+            for (String to : CurrencyConstants.SUPPORTED_CURRENCIES) {
+                if (!from.equals(to) && rateIndex.findRoute(from, to).isPresent()) {
+                    pairs.add(new String[] {from, to});
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private void exit(ApplicationReadyEvent event) {
+        log.info("Exiting after warm-up");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+
+    private void checkpoint() {
+        log.info("Creating checkpoint after warm-up");
+        try {
+            Core.checkpointRestore();
+        } catch (UnsupportedOperationException e) {
+            log.warn("Checkpoint/restore is not supported by this JVM; continuing without a checkpoint");
+            return;
+        } catch (CheckpointException | RestoreException e) {
+            log.warn("Checkpoint failed; continuing in the original process", e);
+            return;
+        }
+        // Restored, possibly long after the checkpoint: pick up rates written in the meantime
+        rateIndex.reload();
+        log.info("Restored from checkpoint");
+    }
+}
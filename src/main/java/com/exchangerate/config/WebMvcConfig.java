@@ -0,0 +1,38 @@
+package com.exchangerate.config;
+
+import com.exchangerate.controller.ConversionRequestArgumentResolver;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring MVC 客製化
+ * 將 ConversionRequest 的快速解析器放在內建 @RequestBody 處理器之前；
+ * 一般的 addArgumentResolvers 只能加在內建處理器之後，因此透過 WebMvcRegistrations 提供處理器配接器。
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcRegistrations {
+
+    @Override
+    public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+        return new RequestMappingHandlerAdapter() {
+            @Override
+            public void afterPropertiesSet() {
+                super.afterPropertiesSet();
+                List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>(getArgumentResolvers());
+                resolvers.stream()
+                        .filter(RequestResponseBodyMethodProcessor.class::isInstance)
+                        .findFirst()
+                        .ifPresent(requestBody -> {
+                            resolvers.add(0, new ConversionRequestArgumentResolver(requestBody));
+                            setArgumentResolvers(resolvers);
+                        });
+            }
+        };
+    }
+}
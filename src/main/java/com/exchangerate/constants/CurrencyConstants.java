@@ -1,7 +1,9 @@
 package com.exchangerate.constants;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 
@@ -35,6 +37,25 @@ public final class CurrencyConstants {
      */
     public static final Set<String> SUPPORTED_CURRENCY_SET = new HashSet<>(SUPPORTED_CURRENCIES);
     
+    /**
+     * 貨幣代碼對應的固定索引 (依 SUPPORTED_CURRENCIES 順序)，供陣列式資料結構使用
+     */
+    private static final Map<String, Integer> CURRENCY_INDEX = new HashMap<>();
+    
+    /**
+     * 三個英文字母 (26^3 種組合) 對應的貨幣索引，供直接由請求位元組查詢，未支援者為 -1
+     */
+    private static final byte[] LETTER_CODE_INDEX = new byte[26 * 26 * 26];
+    
+    static {
+        Arrays.fill(LETTER_CODE_INDEX, (byte) -1);
+        for (int i = 0; i < SUPPORTED_CURRENCIES.size(); i++) {
+            String code = SUPPORTED_CURRENCIES.get(i);
+            CURRENCY_INDEX.put(code, i);
+            LETTER_CODE_INDEX[letterCode(code.charAt(0), code.charAt(1), code.charAt(2))] = (byte) i;
+        }
+    }
+    
     /**
      * 預設精度配置
      */
@@ -49,6 +70,39 @@ public final class CurrencyConstants {
         return currencyCode != null && SUPPORTED_CURRENCY_SET.contains(currencyCode.toUpperCase());
     }
     
+    /**
+     * 取得貨幣代碼的固定索引，不支援的貨幣返回 -1
+     */
+    public static int indexOf(String currencyCode) {
+        Integer index = currencyCode == null ? null : CURRENCY_INDEX.get(currencyCode);
+        return index == null ? -1 : index;
+    }
+    
+    /**
+     * 由 ASCII 位元組 (大小寫皆可) 直接取得貨幣索引，不建立字串；非英文字母或不支援的貨幣返回 -1
+     * 取得的索引可透過 SUPPORTED_CURRENCIES.get(index) 得到共用的貨幣代碼字串
+     */
+    public static int indexOf(byte[] bytes, int offset) {
+        int code = letterCode(bytes[offset], bytes[offset + 1], bytes[offset + 2]);
+        return code < 0 ? -1 : LETTER_CODE_INDEX[code];
+    }
+    
+    private static int letterCode(int first, int second, int third) {
+        int a = letter(first);
+        int b = letter(second);
+        int c = letter(third);
+        if ((a | b | c) < 0) {
+            return -1;
+        }
+        return (a * 26 + b) * 26 + c;
+    }
+    
+    private static int letter(int c) {
+        // Fold ASCII lower case onto upper case; anything else is not a currency letter
+        int upper = c & ~0x20;
+        return upper >= 'A' && upper <= 'Z' ? upper - 'A' : -1;
+    }
+    
     /**
      * 根據貨幣代碼獲取對應的精度
      */
@@ -17,6 +17,7 @@ public final class ErrorMessages {
     public static final String INVALID_AMOUNT_ERROR = "Amount must be greater than 0";
     public static final String NULL_CURRENCY_ERROR = "Currency code cannot be null";
     public static final String INVALID_CURRENCY_LENGTH_ERROR = "Currency code must be exactly 3 characters";
+    public static final String INVALID_SOURCE_LENGTH_ERROR = "Source must be at most %d characters";
     
     // Business logic error messages
     public static final String RATE_NOT_FOUND_ERROR = "No exchange rate found for conversion";
@@ -31,4 +32,5 @@ public final class ErrorMessages {
     // HTTP相關錯誤訊息
     public static final String ENDPOINT_NOT_FOUND_ERROR = "端點不存在";
     public static final String INTERNAL_SERVER_ERROR = "內部伺服器錯誤";
+    public static final String SERVICE_OVERLOADED_ERROR = "服務忙碌中，請稍後再試";
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.exchangerate.controller;
 import com.exchangerate.dto.ConversionRequest;
 import com.exchangerate.dto.ConversionResponse;
 import com.exchangerate.service.ExchangeRateService;
+import com.exchangerate.service.bulkhead.Traffic;
+import com.exchangerate.service.bulkhead.TrafficClass;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +24,7 @@ import java.util.HashMap;
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
+@Traffic(TrafficClass.CONVERSION)
 @Tag(name = "貨幣轉換", description = "貨幣轉換相關API")
 public class ConversionController {
 
@@ -0,0 +1,124 @@
+package com.exchangerate.controller;
+
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.dto.json.ConversionRequestParser;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * {@code @RequestBody ConversionRequest} 的快速路徑
+ * 請求主體讀入每個執行緒重複使用的緩衝區後以 ConversionRequestParser 直接解析與驗證，
+ * 不建立 Jackson 解析樹或 bean 描述，也不經過 Bean Validation 反射。
+ * 不在快速路徑範圍內的請求 (非 UTF-8 JSON、主體過大、格式或驗證不符) 連同已讀取的內容
+ * 交回原本的 @RequestBody 處理器，回應與錯誤訊息與原本相同。
+ */
+public class ConversionRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final int BUFFER_SIZE = 1024;
+
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private final HandlerMethodArgumentResolver requestBodyResolver;
+
+    public ConversionRequestArgumentResolver(HandlerMethodArgumentResolver requestBodyResolver) {
+        this.requestBodyResolver = requestBodyResolver;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == ConversionRequest.class
+                && parameter.hasParameterAnnotation(RequestBody.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null || !isUtf8Json(request)) {
+            return requestBodyResolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        }
+        byte[] buffer = BUFFERS.get();
+        ServletInputStream body = request.getInputStream();
+        int length = body.readNBytes(buffer, 0, buffer.length);
+        if (length < buffer.length) {
+            ConversionRequest parsed = ConversionRequestParser.parse(buffer, 0, length);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+        // Replay what was already read, followed by anything left in the stream
+        NativeWebRequest replayRequest = new ServletWebRequest(
+                new ReplayRequest(request, Arrays.copyOf(buffer, length), body),
+                webRequest.getNativeResponse(HttpServletResponse.class));
+        return requestBodyResolver.resolveArgument(parameter, mavContainer, replayRequest, binderFactory);
+    }
+
+    private static boolean isUtf8Json(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.regionMatches(true, 0, "application/json", 0, 16)
+                || (contentType.length() > 16 && contentType.charAt(16) != ';')) {
+            return false;
+        }
+        String encoding = request.getCharacterEncoding();
+        return encoding == null || encoding.equalsIgnoreCase("UTF-8");
+    }
+
+    private static final class ReplayRequest extends HttpServletRequestWrapper {
+
+        private final ServletInputStream body;
+
+        ReplayRequest(HttpServletRequest request, byte[] head, ServletInputStream rest) {
+            super(request);
+            ByteArrayInputStream replay = new ByteArrayInputStream(head);
+            this.body = new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int b = replay.read();
+                    return b >= 0 ? b : rest.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (replay.available() > 0) {
+                        return replay.read(b, off, len);
+                    }
+                    return rest.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return replay.available() == 0 && rest.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return replay.available() > 0 || rest.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    rest.setReadListener(readListener);
+                }
+            };
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return body;
+        }
+    }
+}
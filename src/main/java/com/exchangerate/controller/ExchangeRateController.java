@@ -4,10 +4,18 @@ import com.exchangerate.model.ExchangeRate;
 import com.exchangerate.service.ExchangeRateService;
 import com.exchangerate.dto.ConversionRequest;
 import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.service.bulkhead.Traffic;
+import com.exchangerate.service.bulkhead.TrafficClass;
+import com.exchangerate.service.compression.ContentEncoding;
+import com.exchangerate.service.compression.PrecompressedResponse;
+import com.exchangerate.service.compression.RateListResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
@@ -20,19 +28,37 @@ import java.util.HashMap;
 @RestController
 @RequestMapping("/api/exchange-rates")
 @RequiredArgsConstructor
+@Traffic(TrafficClass.READ)
 public class ExchangeRateController {
 
     private final ExchangeRateService exchangeRateService;
+    private final RateListResponseCache rateListResponseCache;
 
     @GetMapping
     public ResponseEntity<?> getAllExchangeRates(
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to,
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer limit) {
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        boolean paginated = page != null && limit != null && page > 0 && limit > 0;
+        
+        // Full list: encoded and compressed once per data version
+        if (!paginated && from == null && to == null && rateListResponseCache.isEnabled()) {
+            PrecompressedResponse list = rateListResponseCache.get(exchangeRateService::getAllExchangeRates);
+            ContentEncoding encoding = list.negotiate(acceptEncoding);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (encoding != ContentEncoding.IDENTITY) {
+                response.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+            }
+            return response.body(list.body(encoding));
+        }
         
         // Handle pagination only when both page and limit are provided
-        if (page != null && limit != null && page > 0 && limit > 0) {
+        if (paginated) {
             Pageable pageable = PageRequest.of(page - 1, limit);
             var pagedResult = exchangeRateService.getAllExchangeRates(from, to, pageable);
             
@@ -51,7 +77,7 @@ public class ExchangeRateController {
         }
         
         // Handle filtering without pagination - return array directly
-        List<ExchangeRate> rates = exchangeRateService.getAllExchangeRates(from, to);
+        List<ExchangeRateView> rates = exchangeRateService.getAllExchangeRates(from, to);
         return ResponseEntity.ok(rates);
     }
 
@@ -78,6 +104,7 @@ public class ExchangeRateController {
     }
 
     @GetMapping("/convert")
+    @Traffic(TrafficClass.CONVERSION)
     public ResponseEntity<BigDecimal> convertCurrency(
             @RequestParam String from,
             @RequestParam String to,
@@ -91,6 +118,7 @@ public class ExchangeRateController {
     }
 
     @PostMapping("/convert")
+    @Traffic(TrafficClass.CONVERSION)
     public ResponseEntity<?> convertCurrencyPost(@Valid @RequestBody ConversionRequest request) {
         ConversionResponse response = exchangeRateService.convertCurrencyDetailed(request);
         return ResponseEntity.ok(response);
@@ -106,6 +134,7 @@ public class ExchangeRateController {
     }
 
     @PostMapping
+    @Traffic(TrafficClass.WRITE)
     public ResponseEntity<?> createExchangeRate(@Valid @RequestBody ExchangeRate exchangeRate) {
         try {
             ExchangeRate created = exchangeRateService.saveExchangeRate(exchangeRate);
@@ -117,6 +146,7 @@ public class ExchangeRateController {
     }
 
     @PutMapping("/{id}")
+    @Traffic(TrafficClass.WRITE)
     public ResponseEntity<?> updateExchangeRate(
             @PathVariable Long id,
             @Valid @RequestBody ExchangeRate exchangeRate) {
@@ -125,6 +155,7 @@ public class ExchangeRateController {
     }
 
     @PutMapping("/{from}/{to}")
+    @Traffic(TrafficClass.WRITE)
     public ResponseEntity<?> updateExchangeRateByPair(
             @PathVariable String from,
             @PathVariable String to,
@@ -134,12 +165,14 @@ public class ExchangeRateController {
     }
 
     @DeleteMapping("/{id}")
+    @Traffic(TrafficClass.WRITE)
     public ResponseEntity<Void> deleteExchangeRate(@PathVariable Long id) {
         exchangeRateService.deleteExchangeRate(id);
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{from}/{to}")
+    @Traffic(TrafficClass.WRITE)
     public ResponseEntity<?> deleteExchangeRateByPair(
             @PathVariable String from,
             @PathVariable String to) {
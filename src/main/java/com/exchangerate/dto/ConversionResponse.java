@@ -3,6 +3,7 @@ package com.exchangerate.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.Builder;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
@@ -69,4 +70,12 @@ public class ConversionResponse {
         nullable = true
     )
     private String conversionPath;
+
+    @Schema(
+        description = "僅在沒有新鮮匯率路徑、只能使用超過時效的匯率時出現，值為 true",
+        example = "true",
+        nullable = true
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean staleRate;
 }
\ No newline at end of file
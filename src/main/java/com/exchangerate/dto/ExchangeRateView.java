@@ -0,0 +1,39 @@
+package com.exchangerate.dto;
+
+import com.exchangerate.model.ExchangeRate;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 匯率唯讀投影
+ * 由查詢直接建構、不受持久化內容管理，JSON 格式與 {@link ExchangeRate} 實體相同
+ */
+@Schema(name = "ExchangeRateView", description = "匯率資料 (唯讀投影)")
+@JsonPropertyOrder({"id", "rate", "source", "from_currency", "to_currency", "updated_at", "created_at"})
+public record ExchangeRateView(
+        Long id,
+        @JsonProperty("from_currency") String fromCurrency,
+        @JsonProperty("to_currency") String toCurrency,
+        BigDecimal rate,
+        @JsonProperty("updated_at") LocalDateTime timestamp,
+        String source) {
+
+    @JsonProperty("created_at")
+    public LocalDateTime createdAt() {
+        return timestamp;
+    }
+
+    public static ExchangeRateView from(ExchangeRate exchangeRate) {
+        return new ExchangeRateView(
+                exchangeRate.getId(),
+                exchangeRate.getFromCurrency(),
+                exchangeRate.getToCurrency(),
+                exchangeRate.getRate(),
+                exchangeRate.getTimestamp(),
+                exchangeRate.getSource());
+    }
+}
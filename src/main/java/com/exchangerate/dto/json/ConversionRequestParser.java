@@ -0,0 +1,221 @@
+package com.exchangerate.dto.json;
+
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.dto.ConversionRequest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * POST /api/convert 請求主體的快速解析器
+ * 直接掃描 UTF-8 位元組，只接受由 from_currency、to_currency、amount 三個欄位組成的單純 JSON 物件，
+ * 並以預先計算的檢查取代 Bean Validation：貨幣代碼須為三個英文字母且為支援的貨幣 (對應到共用的代碼字串)，
+ * 金額須為大於 0 的 JSON 數字。
+ * 不符合上述條件的內容 (跳脫字元、其他欄位、字串金額、驗證失敗等) 一律返回 null，
+ * 由呼叫端交回 Jackson 與 Bean Validation 的一般流程處理，錯誤回應因此與原本相同。
+ */
+public final class ConversionRequestParser {
+
+    private static final byte[] FROM_CURRENCY = "from_currency".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TO_CURRENCY = "to_currency".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] AMOUNT = "amount".getBytes(StandardCharsets.US_ASCII);
+
+    // Unscaled values up to 18 digits always fit in a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private ConversionRequestParser() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 解析請求主體
+     *
+     * @return 已通過驗證的請求；不在快速路徑範圍內時返回 null
+     */
+    public static ConversionRequest parse(byte[] body, int offset, int length) {
+        return new Cursor(body, offset, offset + length).parseRequest();
+    }
+
+    private static final class Cursor {
+
+        private final byte[] bytes;
+        private final int end;
+        private int pos;
+
+        Cursor(byte[] bytes, int start, int end) {
+            this.bytes = bytes;
+            this.pos = start;
+            this.end = end;
+        }
+
+        ConversionRequest parseRequest() {
+            int from = -1;
+            int to = -1;
+            BigDecimal amount = null;
+            if (!consume('{')) {
+                return null;
+            }
+            do {
+                int keyStart = stringStart();
+                if (keyStart < 0) {
+                    return null;
+                }
+                int keyLength = pos - keyStart - 2;
+                if (!consume(':')) {
+                    return null;
+                }
+                if (matches(keyStart, keyLength, FROM_CURRENCY) && from < 0) {
+                    from = currency();
+                    if (from < 0) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyLength, TO_CURRENCY) && to < 0) {
+                    to = currency();
+                    if (to < 0) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyLength, AMOUNT) && amount == null) {
+                    amount = amount();
+                    if (amount == null) {
+                        return null;
+                    }
+                } else {
+                    return null;
+                }
+            } while (consume(','));
+            if (!consume('}') || from < 0 || to < 0 || amount == null) {
+                return null;
+            }
+            skipWhitespace();
+            if (pos != end) {
+                return null;
+            }
+            ConversionRequest request = new ConversionRequest();
+            request.setFromCurrency(CurrencyConstants.SUPPORTED_CURRENCIES.get(from));
+            request.setToCurrency(CurrencyConstants.SUPPORTED_CURRENCIES.get(to));
+            request.setAmount(amount);
+            return request;
+        }
+
+        /**
+         * 讀取不含跳脫字元的字串，返回開頭引號的位置 (pos 移到結尾引號之後)；不符合時返回 -1
+         */
+        private int stringStart() {
+            skipWhitespace();
+            if (pos >= end || bytes[pos] != '"') {
+                return -1;
+            }
+            int start = pos++;
+            while (pos < end) {
+                byte b = bytes[pos++];
+                if (b == '"') {
+                    return start;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private int currency() {
+            int start = stringStart();
+            if (start < 0 || pos - start != 5) {
+                return -1;
+            }
+            return CurrencyConstants.indexOf(bytes, start + 1);
+        }
+
+        /**
+         * 讀取 JSON 數字並確認大於 0；常見的 18 位以內、無指數的金額不經過字串直接建立 BigDecimal
+         */
+        private BigDecimal amount() {
+            skipWhitespace();
+            int start = pos;
+            if (pos < end && bytes[pos] == '-') {
+                // Never valid here; leave the message to Bean Validation
+                return null;
+            }
+            int integerDigits = digits();
+            if (integerDigits == 0 || (integerDigits > 1 && bytes[start] == '0')) {
+                return null;
+            }
+            int fractionDigits = 0;
+            if (pos < end && bytes[pos] == '.') {
+                pos++;
+                fractionDigits = digits();
+                if (fractionDigits == 0) {
+                    return null;
+                }
+            }
+            boolean exponent = false;
+            if (pos < end && (bytes[pos] == 'e' || bytes[pos] == 'E')) {
+                pos++;
+                if (pos < end && (bytes[pos] == '+' || bytes[pos] == '-')) {
+                    pos++;
+                }
+                if (digits() == 0) {
+                    return null;
+                }
+                exponent = true;
+            }
+            BigDecimal amount;
+            if (exponent || integerDigits + fractionDigits > MAX_LONG_DIGITS) {
+                try {
+                    amount = new BigDecimal(new String(bytes, start, pos - start, StandardCharsets.US_ASCII));
+                } catch (NumberFormatException e) {
+                    // Exponent out of range
+                    return null;
+                }
+            } else {
+                long unscaled = 0;
+                for (int i = start; i < pos; i++) {
+                    if (bytes[i] != '.') {
+                        unscaled = unscaled * 10 + (bytes[i] - '0');
+                    }
+                }
+                amount = BigDecimal.valueOf(unscaled, fractionDigits);
+            }
+            return amount.signum() > 0 ? amount : null;
+        }
+
+        private int digits() {
+            int start = pos;
+            while (pos < end && bytes[pos] >= '0' && bytes[pos] <= '9') {
+                pos++;
+            }
+            return pos - start;
+        }
+
+        private boolean matches(int quote, int length, byte[] expected) {
+            if (length != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[quote + 1 + i] != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if (pos < end && bytes[pos] == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < end) {
+                byte b = bytes[pos];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.exchangerate.dto.json;
+
+import com.exchangerate.dto.ConversionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * ConversionResponse 的手寫 JSON 編碼器
+ * 依欄位宣告順序直接寫入輸出緩衝區，不經過反射式 BeanSerializer；
+ * staleRate 與 @JsonInclude(NON_NULL) 相同，為 null 時省略。
+ */
+@JsonComponent
+public class ConversionResponseJsonSerializer extends StdSerializer<ConversionResponse> {
+
+    private static final SerializableString FROM_CURRENCY = new SerializedString("fromCurrency");
+    private static final SerializableString TO_CURRENCY = new SerializedString("toCurrency");
+    private static final SerializableString FROM_AMOUNT = new SerializedString("fromAmount");
+    private static final SerializableString TO_AMOUNT = new SerializedString("toAmount");
+    private static final SerializableString RATE = new SerializedString("rate");
+    private static final SerializableString CONVERSION_DATE = new SerializedString("conversionDate");
+    private static final SerializableString CONVERSION_PATH = new SerializedString("conversionPath");
+    private static final SerializableString STALE_RATE = new SerializedString("staleRate");
+
+    public ConversionResponseJsonSerializer() {
+        super(ConversionResponse.class);
+    }
+
+    @Override
+    public void serialize(ConversionResponse value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        JsonWriters.writeString(gen, FROM_CURRENCY, value.getFromCurrency());
+        JsonWriters.writeString(gen, TO_CURRENCY, value.getToCurrency());
+        JsonWriters.writeNumber(gen, FROM_AMOUNT, value.getFromAmount());
+        JsonWriters.writeNumber(gen, TO_AMOUNT, value.getToAmount());
+        JsonWriters.writeNumber(gen, RATE, value.getRate());
+        JsonWriters.writeDateTime(gen, provider, CONVERSION_DATE, value.getConversionDate());
+        JsonWriters.writeString(gen, CONVERSION_PATH, value.getConversionPath());
+        if (value.getStaleRate() != null) {
+            gen.writeFieldName(STALE_RATE);
+            gen.writeBoolean(value.getStaleRate());
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,45 @@
+package com.exchangerate.dto.json;
+
+import com.exchangerate.model.ExchangeRate;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * ExchangeRate 的手寫 JSON 編碼器
+ * 欄位順序與 Jackson 反射對應相同：未改名的欄位依宣告順序在前，
+ * 以 @JsonProperty 改名的欄位 (from_currency、to_currency、updated_at) 與衍生的 created_at 在後。
+ */
+@JsonComponent
+public class ExchangeRateJsonSerializer extends StdSerializer<ExchangeRate> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString RATE = new SerializedString("rate");
+    private static final SerializableString SOURCE = new SerializedString("source");
+    private static final SerializableString FROM_CURRENCY = new SerializedString("from_currency");
+    private static final SerializableString TO_CURRENCY = new SerializedString("to_currency");
+    private static final SerializableString UPDATED_AT = new SerializedString("updated_at");
+    private static final SerializableString CREATED_AT = new SerializedString("created_at");
+
+    public ExchangeRateJsonSerializer() {
+        super(ExchangeRate.class);
+    }
+
+    @Override
+    public void serialize(ExchangeRate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        JsonWriters.writeNumber(gen, ID, value.getId());
+        JsonWriters.writeNumber(gen, RATE, value.getRate());
+        JsonWriters.writeString(gen, SOURCE, value.getSource());
+        JsonWriters.writeString(gen, FROM_CURRENCY, value.getFromCurrency());
+        JsonWriters.writeString(gen, TO_CURRENCY, value.getToCurrency());
+        JsonWriters.writeDateTime(gen, provider, UPDATED_AT, value.getTimestamp());
+        JsonWriters.writeDateTime(gen, provider, CREATED_AT, value.getCreatedAt());
+        gen.writeEndObject();
+    }
+}
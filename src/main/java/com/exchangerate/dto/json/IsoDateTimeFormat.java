@@ -0,0 +1,60 @@
+package com.exchangerate.dto.json;
+
+import java.time.LocalDateTime;
+
+/**
+ * 不經過 DateTimeFormatter 的 ISO_LOCAL_DATE_TIME 格式化
+ * 秒數一律輸出，小數秒去除尾端的 0，與 Jackson JavaTimeModule 的預設輸出相同。
+ */
+public final class IsoDateTimeFormat {
+
+    /**
+     * 格式化結果的最大長度 (yyyy-MM-ddTHH:mm:ss.SSSSSSSSS)
+     */
+    public static final int MAX_LENGTH = 29;
+
+    private IsoDateTimeFormat() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 將時間寫入 buffer 開頭
+     *
+     * @return 寫入的字元數；年份不在 0000-9999 (ISO 格式需加正負號) 時返回 -1，由呼叫端改用 DateTimeFormatter
+     */
+    public static int format(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int length = 0;
+        length = digits(buffer, length, year, 4);
+        buffer[length++] = '-';
+        length = digits(buffer, length, value.getMonthValue(), 2);
+        buffer[length++] = '-';
+        length = digits(buffer, length, value.getDayOfMonth(), 2);
+        buffer[length++] = 'T';
+        length = digits(buffer, length, value.getHour(), 2);
+        buffer[length++] = ':';
+        length = digits(buffer, length, value.getMinute(), 2);
+        buffer[length++] = ':';
+        length = digits(buffer, length, value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[length++] = '.';
+            length = digits(buffer, length, nano, 9);
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        return length;
+    }
+
+    private static int digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + width;
+    }
+}
@@ -0,0 +1,75 @@
+package com.exchangerate.dto.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 手寫 JSON 編碼器共用的欄位寫出方法
+ * 輸出與 Jackson 預設對應 (JavaTimeModule、WRITE_DATES_AS_TIMESTAMPS 關閉) 逐位元組相同，
+ * 欄位名稱使用預先編碼的 SerializableString，日期時間以 IsoDateTimeFormat 直接寫成字元。
+ */
+final class JsonWriters {
+
+    private JsonWriters() {
+        // Utility class - prevent instantiation
+    }
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    static void writeNumber(JsonGenerator gen, SerializableString name, BigDecimal value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    static void writeNumber(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    /**
+     * 以 ISO_LOCAL_DATE_TIME 格式寫出 (秒數一律輸出，小數秒去除尾端的 0)；
+     * 設定為以時間戳記輸出日期時，交回已註冊的 Jackson 序列化器處理
+     */
+    static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+                              LocalDateTime value) throws IOException {
+        if (value != null && provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeField(name.getValue(), value, gen);
+            return;
+        }
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        char[] buffer = new char[IsoDateTimeFormat.MAX_LENGTH];
+        int length = IsoDateTimeFormat.format(value, buffer);
+        if (length < 0) {
+            // Signed / expanded years are rare enough to leave to the formatter
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        gen.writeString(buffer, 0, length);
+    }
+}
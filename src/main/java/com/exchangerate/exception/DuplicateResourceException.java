@@ -1,7 +1,10 @@
 package com.exchangerate.exception;
 
+/**
+ * 資源已存在；屬於預期中的業務錯誤，不擷取堆疊
+ */
 public class DuplicateResourceException extends RuntimeException {
     public DuplicateResourceException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
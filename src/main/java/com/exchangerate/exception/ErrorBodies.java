@@ -0,0 +1,96 @@
+package com.exchangerate.exception;
+
+import com.exchangerate.dto.json.IsoDateTimeFormat;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 預先編碼的錯誤回應主體
+ * 輸出與原本以 HashMap 交給 Jackson 序列化的 {"error":...,"timestamp":...} 逐位元組相同，
+ * 但每種錯誤訊息只編碼一次 (含跳脫字元處理)，每次回應只需附加目前時間。
+ * 快取的訊息數有上限，訊息含有使用者輸入 (例如不支援的貨幣代碼) 時記憶體用量仍有界。
+ */
+final class ErrorBodies {
+
+    static final int MAX_CACHED_MESSAGES = 1024;
+
+    private static final byte[] NULL_MESSAGE_PREFIX = "{\"error\":null,\"timestamp\":\""
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final Map<String, byte[]> PREFIXES = new ConcurrentHashMap<>();
+
+    private ErrorBodies() {
+        // Utility class - prevent instantiation
+    }
+
+    static ResponseEntity<byte[]> of(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(encode(message, LocalDateTime.now()));
+    }
+
+    /**
+     * 附帶 Retry-After (秒，無條件進位) 的錯誤回應
+     */
+    static ResponseEntity<byte[]> of(HttpStatus status, String message, Duration retryAfter) {
+        long seconds = (retryAfter.toMillis() + 999) / 1000;
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .body(encode(message, LocalDateTime.now()));
+    }
+
+    static byte[] encode(String message, LocalDateTime timestamp) {
+        byte[] prefix = prefixOf(message);
+        char[] time = new char[IsoDateTimeFormat.MAX_LENGTH];
+        int timeLength = IsoDateTimeFormat.format(timestamp, time);
+        if (timeLength < 0) {
+            String formatted = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp);
+            timeLength = formatted.length();
+            time = formatted.toCharArray();
+        }
+        byte[] body = new byte[prefix.length + timeLength + SUFFIX.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        for (int i = 0; i < timeLength; i++) {
+            body[prefix.length + i] = (byte) time[i];
+        }
+        System.arraycopy(SUFFIX, 0, body, prefix.length + timeLength, SUFFIX.length);
+        return body;
+    }
+
+    private static byte[] prefixOf(String message) {
+        if (message == null) {
+            return NULL_MESSAGE_PREFIX;
+        }
+        byte[] prefix = PREFIXES.get(message);
+        if (prefix == null) {
+            prefix = encodePrefix(message);
+            if (PREFIXES.size() < MAX_CACHED_MESSAGES) {
+                PREFIXES.putIfAbsent(message, prefix);
+            }
+        }
+        return prefix;
+    }
+
+    private static byte[] encodePrefix(String message) {
+        byte[] quoted = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+        byte[] start = "{\"error\":\"".getBytes(StandardCharsets.UTF_8);
+        byte[] end = "\",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+        byte[] prefix = new byte[start.length + quoted.length + end.length];
+        System.arraycopy(start, 0, prefix, 0, start.length);
+        System.arraycopy(quoted, 0, prefix, start.length, quoted.length);
+        System.arraycopy(end, 0, prefix, start.length + quoted.length, end.length);
+        return prefix;
+    }
+}
@@ -7,16 +7,15 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
-
+/**
+ * 全域例外處理
+ * 錯誤回應為 {"error": 訊息, "timestamp": 時間}，以 ErrorBodies 預先編碼，不為每次錯誤建立 Map 再序列化
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(
+    public ResponseEntity<byte[]> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
         
         // 收集所有驗證錯誤訊息
@@ -33,46 +32,37 @@ public class GlobalExceptionHandler {
                 .orElse("驗證失敗");
         
         // 返回JSON格式的錯誤訊息
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", message);
-        errorResponse.put("timestamp", LocalDateTime.now());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ErrorBodies.of(HttpStatus.BAD_REQUEST, message);
     }
     
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(
+    public ResponseEntity<byte[]> handleIllegalArgumentException(
             IllegalArgumentException ex) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", ex.getMessage());
-        errorResponse.put("timestamp", LocalDateTime.now());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ErrorBodies.of(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
     
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleResourceNotFoundException(
+    public ResponseEntity<byte[]> handleResourceNotFoundException(
             ResourceNotFoundException ex) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", ex.getMessage());
-        errorResponse.put("timestamp", LocalDateTime.now());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        return ErrorBodies.of(HttpStatus.NOT_FOUND, ex.getMessage());
     }
     
     @ExceptionHandler(DuplicateResourceException.class)
-    public ResponseEntity<Map<String, Object>> handleDuplicateResourceException(
+    public ResponseEntity<byte[]> handleDuplicateResourceException(
             DuplicateResourceException ex) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", ex.getMessage());
-        errorResponse.put("timestamp", LocalDateTime.now());
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        return ErrorBodies.of(HttpStatus.CONFLICT, ex.getMessage());
+    }
+    
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<byte[]> handleServiceUnavailableException(
+            ServiceUnavailableException ex) {
+        return ErrorBodies.of(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ex.getRetryAfter());
     }
     
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<Map<String, Object>> handleRuntimeException(
+    public ResponseEntity<byte[]> handleRuntimeException(
             RuntimeException ex) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", ex.getMessage());
-        errorResponse.put("timestamp", LocalDateTime.now());
         // 大部分 RuntimeException 在這個應用中都是業務邏輯錯誤，返回 400
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ErrorBodies.of(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.exchangerate.exception;
+
+/**
+ * 一般的輸入錯誤 (相同貨幣、不支援的貨幣、金額或匯率不合法等)
+ * 屬於預期中的業務錯誤，不擷取堆疊 (stack trace)，拒絕請求的成本只剩建立物件；
+ * 繼承 IllegalArgumentException，既有的呼叫端與例外處理不需修改。
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
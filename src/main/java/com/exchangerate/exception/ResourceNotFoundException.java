@@ -1,7 +1,10 @@
 package com.exchangerate.exception;
 
+/**
+ * 找不到資源；屬於預期中的業務錯誤，不擷取堆疊
+ */
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.exchangerate.exception;
+
+import java.time.Duration;
+
+/**
+ * 服務暫時無法處理請求 (負載卸載)；回應 503 並以 Retry-After 告知用戶端何時重試，不擷取堆疊
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
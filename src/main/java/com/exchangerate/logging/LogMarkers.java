@@ -0,0 +1,19 @@
+package com.exchangerate.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 日誌標記
+ */
+public final class LogMarkers {
+
+    /**
+     * 每個請求都會經過的熱路徑上的除錯事件；只保留抽中的一部分，抽中的事件不受 logger 等級限制
+     * (Logback 由 logback-spring.xml 的 SamplingTurboFilter 抽樣，log4j2 profile 由 SamplingFilter 抽樣)
+     */
+    public static final Marker HOT_PATH = MarkerFactory.getMarker("HOT_PATH");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.exchangerate.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 熱路徑除錯事件抽樣過濾器 (Logback turbo filter)
+ * 帶有指定標記且等級不高於 level 的事件只保留約 1/rate：抽中回傳 ACCEPT (略過 logger 等級判斷，
+ * com.exchangerate 維持 INFO 時仍會輸出)，未抽中回傳 DENY；其餘事件回傳 NEUTRAL，不受影響。
+ * turbo filter 在呼叫端執行緒、建立事件之前判斷，被丟棄的事件不會格式化也不進入非同步佇列。
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String marker = LogMarkers.HOT_PATH.getName();
+    private int rate = 100;
+    private Level level = Level.DEBUG;
+    private Marker sampled;
+
+    public void setMarker(String marker) {
+        this.marker = marker;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.DEBUG);
+    }
+
+    @Override
+    public void start() {
+        if (rate < 1) {
+            addError("SamplingTurboFilter rate must be at least 1: " + rate);
+            return;
+        }
+        sampled = MarkerFactory.getMarker(marker);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker eventMarker, Logger logger, Level eventLevel, String format, Object[] params,
+                              Throwable t) {
+        if (eventMarker == null || !isStarted() || !level.isGreaterOrEqual(eventLevel)
+                || !eventMarker.contains(sampled)) {
+            return FilterReply.NEUTRAL;
+        }
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.ACCEPT : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,27 @@
+package com.exchangerate.model;
+
+/**
+ * 貨幣對值物件
+ * 以大寫貨幣代碼作為鎖、記憶體索引與快取的鍵
+ */
+public record CurrencyPair(String from, String to) {
+
+    /**
+     * 建立貨幣對，貨幣代碼統一轉為大寫
+     */
+    public static CurrencyPair of(String from, String to) {
+        return new CurrencyPair(from.toUpperCase(), to.toUpperCase());
+    }
+
+    /**
+     * 取得反向貨幣對
+     */
+    public CurrencyPair inverse() {
+        return new CurrencyPair(to, from);
+    }
+
+    @Override
+    public String toString() {
+        return from + "/" + to;
+    }
+}
@@ -19,6 +19,8 @@ import java.time.LocalDateTime;
 @Builder
 public class ExchangeRate {
 
+    public static final int SOURCE_MAX_LENGTH = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -49,9 +51,17 @@ public class ExchangeRate {
         return timestamp;
     }
 
-    @Column(length = 50)
+    @Column(length = SOURCE_MAX_LENGTH)
     private String source;
 
+    /**
+     * 同一貨幣對與來源的另一筆匯率是否可被此筆取代
+     * 時間戳記不早於另一筆即可取代；未指定時間戳記的一筆在寫入時才取當下時間，視為最新
+     */
+    public boolean supersedes(ExchangeRate other) {
+        return timestamp == null || other.timestamp != null && !timestamp.isBefore(other.timestamp);
+    }
+
     @PrePersist
     protected void onCreate() {
         if (timestamp == null) {
@@ -1,11 +1,13 @@
 package com.exchangerate.repository;
 
+import com.exchangerate.dto.ExchangeRateView;
 import com.exchangerate.model.ExchangeRate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,9 +27,26 @@ public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long
     Page<ExchangeRate> findByToCurrency(String toCurrency, Pageable pageable);
 
     List<ExchangeRate> findAllByFromCurrencyAndToCurrency(String fromCurrency, String toCurrency);
+    List<ExchangeRate> findByFromCurrencyInAndToCurrencyIn(Collection<String> fromCurrencies,
+                                                          Collection<String> toCurrencies);
     Page<ExchangeRate> findAllByFromCurrencyAndToCurrency(String fromCurrency, String toCurrency, Pageable pageable);
     
+    // 唯讀投影查詢：以建構子表達式直接產生 ExchangeRateView，不建立受管實體
+    List<ExchangeRateView> findAllProjectedBy();
+    Page<ExchangeRateView> findAllProjectedBy(Pageable pageable);
+
+    List<ExchangeRateView> findProjectedByFromCurrency(String fromCurrency);
+    Page<ExchangeRateView> findProjectedByFromCurrency(String fromCurrency, Pageable pageable);
+
+    List<ExchangeRateView> findProjectedByToCurrency(String toCurrency);
+    Page<ExchangeRateView> findProjectedByToCurrency(String toCurrency, Pageable pageable);
+
+    List<ExchangeRateView> findProjectedByFromCurrencyAndToCurrency(String fromCurrency, String toCurrency);
+    Page<ExchangeRateView> findProjectedByFromCurrencyAndToCurrency(
+            String fromCurrency, String toCurrency, Pageable pageable);
+    
     // 添加 exists 和 count 方法
     boolean existsByFromCurrencyAndToCurrency(String fromCurrency, String toCurrency);
+    boolean existsByFromCurrencyAndToCurrencyAndSource(String fromCurrency, String toCurrency, String source);
     long countByFromCurrency(String fromCurrency);
 }
\ No newline at end of file
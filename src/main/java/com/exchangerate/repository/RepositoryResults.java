@@ -0,0 +1,31 @@
+package com.exchangerate.repository;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * repository 方法回傳值的筆數計算，供查詢統計與 JFR 事件使用
+ */
+public final class RepositoryResults {
+
+    private RepositoryResults() {
+    }
+
+    /**
+     * 回傳值包含的實體筆數；非集合型結果 (計數、布林、單一實體) 回傳 -1
+     */
+    public static int rowsOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+}
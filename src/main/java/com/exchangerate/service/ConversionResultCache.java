@@ -0,0 +1,151 @@
+package com.exchangerate.service;
+
+import com.exchangerate.config.LookupCacheProperties;
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.service.routing.ConversionRoute;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 換算結果快取
+ * 以 (來源貨幣, 目標貨幣, 金額) 為鍵保存換算後金額，容量以估算的位元組數為上限，
+ * 滿載時依 W-TinyLFU 保留較常被查詢的項目，一次性的金額不會擠掉熱門項目。
+ * 每筆結果記錄計算時路徑各段的匯率版本號，查詢時與目前路徑比對，
+ * 路徑上任一貨幣對的匯率變動 (或改走其他路徑) 都會使結果失效，不需另外清除快取。
+ */
+@Component
+public class ConversionResultCache {
+
+    // Rough per-entry footprint: cache node, key and value records, version array header
+    static final int ENTRY_OVERHEAD_BYTES = 112;
+    private static final int BIG_DECIMAL_BYTES = 40;
+    private static final int BIG_INTEGER_BYTES = 56;
+
+    private final boolean enabled;
+    private final Cache<Key, Result> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidated;
+    private final Counter evictions;
+
+    public ConversionResultCache(LookupCacheProperties properties, MeterRegistry meterRegistry) {
+        LookupCacheProperties.ConversionResults settings = properties.getConversionResults();
+        this.enabled = settings.isEnabled();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.invalidated = counter(meterRegistry, "invalidated");
+        this.evictions = Counter.builder("exchange.rate.conversion.cache.evictions")
+                .description("Conversion results evicted to stay within the memory bound")
+                .register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(settings.getMaximumSize().toBytes())
+                .weigher((Key key, Result result) -> key.estimatedBytes() + result.estimatedBytes())
+                .removalListener((Key key, Result result, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .executor(Runnable::run)
+                .build();
+        meterRegistry.gauge("exchange.rate.conversion.cache.bytes", cache, ConversionResultCache::weightedSize);
+        meterRegistry.gauge("exchange.rate.conversion.cache.entries", cache, Cache::estimatedSize);
+    }
+
+    /**
+     * 取得換算後金額；未命中或路徑匯率已變動時以 calculator 計算並保存
+     */
+    public BigDecimal get(String fromCurrency, String toCurrency, BigDecimal amount, ConversionRoute route,
+                          Supplier<BigDecimal> calculator) {
+        if (!enabled) {
+            return calculator.get();
+        }
+        Key key = new Key(CurrencyConstants.indexOf(fromCurrency), CurrencyConstants.indexOf(toCurrency), amount);
+        Result cached = cache.getIfPresent(key);
+        if (cached != null && cached.matches(route.legs())) {
+            hits.increment();
+            return cached.toAmount();
+        }
+        (cached == null ? misses : invalidated).increment();
+        BigDecimal toAmount = calculator.get();
+        cache.put(key, new Result(versionsOf(route.legs()), toAmount));
+        return toAmount;
+    }
+
+    /**
+     * 目前快取項目的估算位元組數
+     */
+    public long estimatedBytes() {
+        return weightedSize(cache);
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private static long weightedSize(Cache<Key, Result> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private static long[] versionsOf(List<ConversionRoute.Leg> legs) {
+        long[] versions = new long[legs.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = legs.get(i).version();
+        }
+        return versions;
+    }
+
+    private static int bytesOf(BigDecimal value) {
+        // Values with up to 18 digits keep their unscaled value inline; larger ones carry a BigInteger
+        if (value.precision() <= 18) {
+            return BIG_DECIMAL_BYTES;
+        }
+        return BIG_DECIMAL_BYTES + BIG_INTEGER_BYTES + 4 * ((value.unscaledValue().bitLength() + 31) / 32);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("exchange.rate.conversion.cache.requests")
+                .description("Conversion result cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 貨幣以 CurrencyConstants 中的索引表示，快取不保留請求中的字串
+     * 金額以 BigDecimal.equals 比較 (含小數位數)，因為回應中的 fromAmount 會原樣帶回請求金額
+     */
+    private record Key(int from, int to, BigDecimal amount) {
+
+        int estimatedBytes() {
+            return bytesOf(amount);
+        }
+    }
+
+    private record Result(long[] versions, BigDecimal toAmount) {
+
+        boolean matches(List<ConversionRoute.Leg> legs) {
+            if (legs.size() != versions.length) {
+                return false;
+            }
+            for (int i = 0; i < versions.length; i++) {
+                if (legs.get(i).version() != versions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int estimatedBytes() {
+            return ENTRY_OVERHEAD_BYTES + 8 * versions.length + bytesOf(toAmount);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.exchangerate.service;
+
+import com.exchangerate.model.CurrencyPair;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 貨幣對分段鎖 (Lock Striping)
+ * 依貨幣對雜湊到固定數量的鎖：不同貨幣對的寫入可完全並行，同一貨幣對的寫入則序列化。
+ * 在交易中取得的鎖會持有到交易完成 (commit/rollback) 後才釋放，
+ * 確保「檢查重複 → 寫入」在其他交易看見結果前不會被同一貨幣對的寫入插隊。
+ */
+@Component
+public class CurrencyPairLocks {
+
+    static final int DEFAULT_STRIPES = 128;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public CurrencyPairLocks() {
+        this(DEFAULT_STRIPES);
+    }
+
+    CurrencyPairLocks(int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a positive power of two: " + stripeCount);
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    /**
+     * 在指定貨幣對的鎖內執行寫入動作
+     */
+    public <T> T executeLocked(CurrencyPair pair, Supplier<T> action) {
+        return executeLocked(new CurrencyPair[] {pair}, action);
+    }
+
+    /**
+     * 同時鎖定多個貨幣對後執行寫入動作
+     * 依分段索引遞增順序取得鎖，避免多貨幣對寫入之間互相死結
+     */
+    public <T> T executeLocked(CurrencyPair[] pairs, Supplier<T> action) {
+        ReentrantLock[] locks = acquire(pairs);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        release(locks);
+                    }
+                });
+            } catch (RuntimeException e) {
+                release(locks);
+                throw e;
+            }
+            return action.get();
+        }
+        try {
+            return action.get();
+        } finally {
+            release(locks);
+        }
+    }
+
+    int stripeIndex(CurrencyPair pair) {
+        int h = pair.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    boolean isLocked(CurrencyPair pair) {
+        return stripes[stripeIndex(pair)].isLocked();
+    }
+
+    private ReentrantLock[] acquire(CurrencyPair[] pairs) {
+        int[] indexes = Arrays.stream(pairs).mapToInt(this::stripeIndex).sorted().distinct().toArray();
+        ReentrantLock[] locks = new ReentrantLock[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            locks[i] = stripes[indexes[i]];
+            locks[i].lock();
+        }
+        return locks;
+    }
+
+    private static void release(ReentrantLock[] locks) {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+}
@@ -1,73 +1,106 @@
 package com.exchangerate.service;
 
+import com.exchangerate.model.CurrencyPair;
 import com.exchangerate.model.ExchangeRate;
 import com.exchangerate.repository.ExchangeRateRepository;
 import com.exchangerate.dto.ConversionRequest;
 import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.dto.ExchangeRateView;
 import com.exchangerate.exception.ResourceNotFoundException;
 import com.exchangerate.exception.DuplicateResourceException;
+import com.exchangerate.exception.InvalidRequestException;
+import com.exchangerate.service.compression.RateListResponseCache;
+import com.exchangerate.logging.LogMarkers;
+import com.exchangerate.service.jfr.ConversionEvent;
+import com.exchangerate.service.routing.ConversionRoute;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
 import java.util.Arrays;
+import java.util.Set;
 import com.exchangerate.constants.CurrencyConstants;
 import com.exchangerate.constants.ErrorMessages;
 
+/**
+ * 匯率服務
+ * 查詢預設在唯讀交易中執行 (不 flush、不建立 dirty checking 快照)，寫入方法個別宣告讀寫交易。
+ * 同一貨幣對可由多個來源各自提供一筆匯率，換算使用 RateIndex 依彙整策略算出的匯率。
+ * 詳細換算直接使用 RateIndex 預先計算的路由表，不開啟交易也不查詢資料庫；每次換算發出一個 JFR ConversionEvent。
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class ExchangeRateService {
 
     private final ExchangeRateRepository exchangeRateRepository;
+    private final CurrencyPairLocks pairLocks;
+    private final RateIndex rateIndex;
+    private final ConversionResultCache conversionResultCache;
+    private final RateListResponseCache rateListResponseCache;
 
-    public List<ExchangeRate> getAllExchangeRates() {
-        return exchangeRateRepository.findAll();
+    public List<ExchangeRateView> getAllExchangeRates() {
+        return exchangeRateRepository.findAllProjectedBy();
     }
 
-    public List<ExchangeRate> getAllExchangeRates(String from, String to) {
+    public List<ExchangeRateView> getAllExchangeRates(String from, String to) {
         if (from != null && to != null) {
-            return exchangeRateRepository.findAllByFromCurrencyAndToCurrency(
+            return exchangeRateRepository.findProjectedByFromCurrencyAndToCurrency(
                 from.toUpperCase(), to.toUpperCase());
         } else if (from != null) {
-            return exchangeRateRepository.findByFromCurrency(from.toUpperCase());
+            return exchangeRateRepository.findProjectedByFromCurrency(from.toUpperCase());
         } else if (to != null) {
-            return exchangeRateRepository.findByToCurrency(to.toUpperCase());
+            return exchangeRateRepository.findProjectedByToCurrency(to.toUpperCase());
         }
-        return exchangeRateRepository.findAll();
+        return exchangeRateRepository.findAllProjectedBy();
     }
 
-    public Page<ExchangeRate> getAllExchangeRates(String from, String to, Pageable pageable) {
+    public Page<ExchangeRateView> getAllExchangeRates(String from, String to, Pageable pageable) {
         if (from != null && to != null) {
-            return exchangeRateRepository.findAllByFromCurrencyAndToCurrency(
+            return exchangeRateRepository.findProjectedByFromCurrencyAndToCurrency(
                 from.toUpperCase(), to.toUpperCase(), pageable);
         } else if (from != null) {
-            return exchangeRateRepository.findByFromCurrency(from.toUpperCase(), pageable);
+            return exchangeRateRepository.findProjectedByFromCurrency(from.toUpperCase(), pageable);
         } else if (to != null) {
-            return exchangeRateRepository.findByToCurrency(to.toUpperCase(), pageable);
+            return exchangeRateRepository.findProjectedByToCurrency(to.toUpperCase(), pageable);
         }
-        return exchangeRateRepository.findAll(pageable);
+        return exchangeRateRepository.findAllProjectedBy(pageable);
     }
 
     public Optional<ExchangeRate> getExchangeRateById(Long id) {
         return exchangeRateRepository.findById(id);
     }
 
+    /**
+     * 取得貨幣對實際使用的匯率：RateIndex 依彙整策略由各來源匯率算出的那一筆，與換算的直接路徑一致，不查詢資料庫
+     * 不支援的貨幣沒有匯率，直接返回空值；返回的是新建的實體，呼叫端修改不影響索引
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<ExchangeRate> getLatestRate(String fromCurrency, String toCurrency) {
-        return exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc(
-                fromCurrency.toUpperCase(), 
-                toCurrency.toUpperCase()
-        );
+        if (!CurrencyConstants.isSupportedCurrency(fromCurrency) || !CurrencyConstants.isSupportedCurrency(toCurrency)) {
+            return Optional.empty();
+        }
+        return rateIndex.getConsolidatedRate(fromCurrency, toCurrency)
+                .map(view -> new ExchangeRate(view.id(), view.fromCurrency(), view.toCurrency(), view.rate(),
+                        view.timestamp(), view.source()));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BigDecimal convertCurrency(String fromCurrency, String toCurrency, BigDecimal amount) {
         ExchangeRate exchangeRate = getLatestRate(fromCurrency, toCurrency)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -77,172 +110,267 @@ public class ExchangeRateService {
         return amount.multiply(exchangeRate.getRate()).setScale(2, RoundingMode.HALF_UP);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ConversionResponse convertCurrencyDetailed(ConversionRequest request) {
-        String from = request.getFromCurrency().toUpperCase();
-        String to = request.getToCurrency().toUpperCase();
-        
-        // Validation
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        String from = null;
+        String to = null;
+        ConversionRoute route = null;
+        try {
+            from = request.getFromCurrency().toUpperCase();
+            to = request.getToCurrency().toUpperCase();
+            validateConversion(from, to, request.getAmount());
+
+            // Use the precomputed lowest-cost route (direct, reverse or multi-hop); stale legs only when no fresh route exists
+            route = rateIndex.findRoute(from, to)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR));
+            ConversionResponse response = toResponse(request, from, to, route);
+            event.succeeded = true;
+            return response;
+        } finally {
+            // Decide on the full duration so slow conversions past a recording threshold keep their route fields
+            event.end();
+            if (event.shouldCommit()) {
+                event.fromCurrency = from;
+                event.toCurrency = to;
+                if (route != null) {
+                    event.route(route);
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private static void validateConversion(String from, String to, BigDecimal amount) {
         if (from.equals(to)) {
-            throw new IllegalArgumentException(ErrorMessages.SAME_CURRENCY_ERROR);
+            throw new InvalidRequestException(ErrorMessages.SAME_CURRENCY_ERROR);
         }
         
-        if (request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException(ErrorMessages.INVALID_AMOUNT_ERROR);
+        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new InvalidRequestException(ErrorMessages.INVALID_AMOUNT_ERROR);
         }
         
         // Check supported currencies using constants
         if (!CurrencyConstants.isSupportedCurrency(from)) {
-            throw new IllegalArgumentException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, from));
+            throw new InvalidRequestException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, from));
         }
         if (!CurrencyConstants.isSupportedCurrency(to)) {
-            throw new IllegalArgumentException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, to));
-        }
-        
-        // Try direct conversion
-        Optional<ExchangeRate> directRate = getLatestRate(from, to);
-        if (directRate.isPresent()) {
-            BigDecimal result = request.getAmount().multiply(directRate.get().getRate())
-                    .setScale(6, RoundingMode.HALF_UP);
-            
-            return ConversionResponse.builder()
-                    .fromCurrency(from)
-                    .toCurrency(to)
-                    .fromAmount(request.getAmount())
-                    .toAmount(result)
-                    .rate(directRate.get().getRate())
-                    .conversionDate(LocalDateTime.now())
-                    .build();
-        }
-        
-        // Try reverse conversion
-        Optional<ExchangeRate> reverseRate = getLatestRate(to, from);
-        if (reverseRate.isPresent()) {
-            BigDecimal rate = BigDecimal.ONE.divide(reverseRate.get().getRate(), 6, RoundingMode.HALF_UP);
-            BigDecimal result = request.getAmount().multiply(rate).setScale(6, RoundingMode.HALF_UP);
-            
-            return ConversionResponse.builder()
-                    .fromCurrency(from)
-                    .toCurrency(to)
-                    .fromAmount(request.getAmount())
-                    .toAmount(result)
-                    .rate(rate)
-                    .conversionDate(LocalDateTime.now())
-                    .build();
-        }
-        
-        // Try chain conversion through USD
-        if (!"USD".equals(from) && !"USD".equals(to)) {
-            Optional<ExchangeRate> fromToUsd = getLatestRate(from, "USD");
-            Optional<ExchangeRate> usdToTarget = getLatestRate("USD", to);
-            
-            if (fromToUsd.isPresent() && usdToTarget.isPresent()) {
-                BigDecimal rate = fromToUsd.get().getRate().multiply(usdToTarget.get().getRate());
-                BigDecimal result = request.getAmount().multiply(rate).setScale(6, RoundingMode.HALF_UP);
-                
-                return ConversionResponse.builder()
-                        .fromCurrency(from)
-                        .toCurrency(to)
-                        .fromAmount(request.getAmount())
-                        .toAmount(result)
-                        .rate(rate)
-                        .conversionDate(LocalDateTime.now())
-                        .conversionPath(from + "→USD→" + to)
-                        .build();
-            }
+            throw new InvalidRequestException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, to));
         }
+    }
+
+    private ConversionResponse toResponse(ConversionRequest request, String from, String to, ConversionRoute route) {
+        BigDecimal rate = route.rate();
+        BigDecimal result = conversionResultCache.get(from, to, request.getAmount(), route,
+                () -> request.getAmount().multiply(rate).setScale(6, RoundingMode.HALF_UP));
+        log.debug(LogMarkers.HOT_PATH, "Converted {} via {}", request.getAmount(), route.path());
         
-        throw new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR);
+        return ConversionResponse.builder()
+                .fromCurrency(from)
+                .toCurrency(to)
+                .fromAmount(request.getAmount())
+                .toAmount(result)
+                .rate(rate)
+                .conversionDate(LocalDateTime.now())
+                .conversionPath(route.hops() > 1 ? route.path() : null)
+                .staleRate(route.stale() ? Boolean.TRUE : null)
+                .build();
     }
 
+    @Transactional
     public ExchangeRate saveExchangeRate(ExchangeRate exchangeRate) {
         String from = exchangeRate.getFromCurrency().toUpperCase();
         String to = exchangeRate.getToCurrency().toUpperCase();
         
         // Validation
         if (from.equals(to)) {
-            throw new IllegalArgumentException(ErrorMessages.SAME_CURRENCY_ERROR);
+            throw new InvalidRequestException(ErrorMessages.SAME_CURRENCY_ERROR);
         }
         
         if (exchangeRate.getRate().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException(ErrorMessages.INVALID_RATE_ERROR);
+            throw new InvalidRequestException(ErrorMessages.INVALID_RATE_ERROR);
         }
         
         // Check supported currencies using constants
         if (!CurrencyConstants.isSupportedCurrency(from)) {
-            throw new IllegalArgumentException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, from));
+            throw new InvalidRequestException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, from));
         }
         if (!CurrencyConstants.isSupportedCurrency(to)) {
-            throw new IllegalArgumentException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, to));
+            throw new InvalidRequestException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, to));
         }
         
-        // Check for duplicates
-        Optional<ExchangeRate> existing = getLatestRate(from, to);
-        if (existing.isPresent()) {
-            throw new DuplicateResourceException(ErrorMessages.DUPLICATE_RATE_ERROR);
+        // Check for duplicates (one row per pair and source) and insert while holding the pair lock
+        return pairLocks.executeLocked(new CurrencyPair(from, to), () -> {
+            if (exchangeRateRepository.existsByFromCurrencyAndToCurrencyAndSource(
+                    from, to, exchangeRate.getSource())) {
+                throw new DuplicateResourceException(ErrorMessages.DUPLICATE_RATE_ERROR);
+            }
+
+            exchangeRate.setFromCurrency(from);
+            exchangeRate.setToCurrency(to);
+            if (exchangeRate.getTimestamp() == null) {
+                exchangeRate.setTimestamp(LocalDateTime.now());
+            }
+            ExchangeRate saved = exchangeRateRepository.save(exchangeRate);
+            rateIndex.refreshAfterCommit(new CurrencyPair(from, to));
+            rateListResponseCache.invalidateAfterCommit();
+            return saved;
+        });
+    }
+
+    /**
+     * 以單一交易批次寫入已驗證的匯率：同一貨幣對與來源已有資料則更新，否則新增
+     * 批次內同一貨幣對與來源重複時以時間戳記最新的一筆為準 (見 {@link ExchangeRate#supersedes})；
+     * 比資料庫中同一貨幣對與來源的資料還舊的不寫入，重送或亂序到達的舊資料不會覆蓋較新的匯率。
+     * 所有涉及的貨幣對在整個批次期間持有鎖
+     *
+     * @return 實際寫入 (新增或更新) 的筆數
+     */
+    @Transactional
+    public int upsertExchangeRates(List<ExchangeRate> rates) {
+        Map<SourceKey, ExchangeRate> incoming = new LinkedHashMap<>();
+        for (ExchangeRate rate : rates) {
+            CurrencyPair pair = CurrencyPair.of(rate.getFromCurrency(), rate.getToCurrency());
+            incoming.merge(new SourceKey(pair, rate.getSource()), rate,
+                    (current, offered) -> offered.supersedes(current) ? offered : current);
         }
-        
-        exchangeRate.setFromCurrency(from);
-        exchangeRate.setToCurrency(to);
-        if (exchangeRate.getTimestamp() == null) {
-            exchangeRate.setTimestamp(LocalDateTime.now());
+        if (incoming.isEmpty()) {
+            return 0;
         }
-        return exchangeRateRepository.save(exchangeRate);
+        CurrencyPair[] pairs = incoming.keySet().stream().map(SourceKey::pair).distinct()
+                .toArray(CurrencyPair[]::new);
+
+        return pairLocks.executeLocked(pairs, () -> {
+            Set<String> fromCurrencies = new HashSet<>();
+            Set<String> toCurrencies = new HashSet<>();
+            for (CurrencyPair pair : pairs) {
+                fromCurrencies.add(pair.from());
+                toCurrencies.add(pair.to());
+            }
+            Map<SourceKey, ExchangeRate> existing = new HashMap<>();
+            for (ExchangeRate rate : exchangeRateRepository.findByFromCurrencyInAndToCurrencyIn(
+                    fromCurrencies, toCurrencies)) {
+                existing.merge(new SourceKey(CurrencyPair.of(rate.getFromCurrency(), rate.getToCurrency()),
+                        rate.getSource()), rate, (a, b) -> a.getTimestamp().isAfter(b.getTimestamp()) ? a : b);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<ExchangeRate> toSave = new ArrayList<>(incoming.size());
+            incoming.forEach((key, rate) -> {
+                ExchangeRate target = existing.get(key);
+                if (target != null && !rate.supersedes(target)) {
+                    return;
+                }
+                if (target == null) {
+                    target = new ExchangeRate();
+                    target.setFromCurrency(key.pair().from());
+                    target.setToCurrency(key.pair().to());
+                    target.setSource(rate.getSource());
+                }
+                target.setRate(rate.getRate());
+                target.setTimestamp(rate.getTimestamp() != null ? rate.getTimestamp() : now);
+                toSave.add(target);
+            });
+            if (toSave.isEmpty()) {
+                return 0;
+            }
+            exchangeRateRepository.saveAll(toSave);
+            rateIndex.refreshAfterCommit(pairs);
+            rateListResponseCache.invalidateAfterCommit();
+            return toSave.size();
+        });
     }
 
+    @Transactional
     public ExchangeRate updateExchangeRate(Long id, ExchangeRate exchangeRateDetails) {
         ExchangeRate exchangeRate = exchangeRateRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR));
         
         if (exchangeRateDetails.getRate().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException(ErrorMessages.INVALID_RATE_ERROR);
+            throw new InvalidRequestException(ErrorMessages.INVALID_RATE_ERROR);
         }
         
-        exchangeRate.setFromCurrency(exchangeRateDetails.getFromCurrency().toUpperCase());
-        exchangeRate.setToCurrency(exchangeRateDetails.getToCurrency().toUpperCase());
-        exchangeRate.setRate(exchangeRateDetails.getRate());
-        exchangeRate.setSource(exchangeRateDetails.getSource());
-        exchangeRate.setTimestamp(LocalDateTime.now());
+        CurrencyPair current = CurrencyPair.of(exchangeRate.getFromCurrency(), exchangeRate.getToCurrency());
+        CurrencyPair target = CurrencyPair.of(exchangeRateDetails.getFromCurrency(), exchangeRateDetails.getToCurrency());
         
-        return exchangeRateRepository.save(exchangeRate);
+        return pairLocks.executeLocked(new CurrencyPair[] {current, target}, () -> {
+            exchangeRate.setFromCurrency(target.from());
+            exchangeRate.setToCurrency(target.to());
+            exchangeRate.setRate(exchangeRateDetails.getRate());
+            exchangeRate.setSource(exchangeRateDetails.getSource());
+            exchangeRate.setTimestamp(LocalDateTime.now());
+
+            ExchangeRate saved = exchangeRateRepository.save(exchangeRate);
+            CurrencyPair[] changed = current.equals(target)
+                    ? new CurrencyPair[] {target} : new CurrencyPair[] {current, target};
+            rateIndex.refreshAfterCommit(changed);
+            rateListResponseCache.invalidateAfterCommit();
+            return saved;
+        });
     }
 
+    @Transactional
     public ExchangeRate updateExchangeRateByPair(String from, String to, Map<String, Object> updates) {
-        ExchangeRate exchangeRate = getLatestRate(from, to)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR));
-        
-        if (updates.containsKey("rate")) {
-            BigDecimal newRate = new BigDecimal(updates.get("rate").toString());
-            if (newRate.compareTo(BigDecimal.ZERO) <= 0) {
-                throw new IllegalArgumentException(ErrorMessages.INVALID_RATE_ERROR);
+        CurrencyPair pair = CurrencyPair.of(from, to);
+        return pairLocks.executeLocked(pair, () -> {
+            ExchangeRate exchangeRate = exchangeRateRepository
+                    .findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc(pair.from(), pair.to())
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR));
+
+            if (updates.containsKey("rate")) {
+                BigDecimal newRate = new BigDecimal(updates.get("rate").toString());
+                if (newRate.compareTo(BigDecimal.ZERO) <= 0) {
+                    throw new InvalidRequestException(ErrorMessages.INVALID_RATE_ERROR);
+                }
+                exchangeRate.setRate(newRate);
             }
-            exchangeRate.setRate(newRate);
-        }
-        
-        exchangeRate.setTimestamp(LocalDateTime.now());
-        return exchangeRateRepository.save(exchangeRate);
+
+            exchangeRate.setTimestamp(LocalDateTime.now());
+            ExchangeRate saved = exchangeRateRepository.save(exchangeRate);
+            rateIndex.refreshAfterCommit(pair);
+            rateListResponseCache.invalidateAfterCommit();
+            return saved;
+        });
     }
 
+    @Transactional
     public void deleteExchangeRate(Long id) {
-        if (!exchangeRateRepository.existsById(id)) {
-            throw new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR);
-        }
-        exchangeRateRepository.deleteById(id);
+        ExchangeRate exchangeRate = exchangeRateRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR));
+        CurrencyPair pair = CurrencyPair.of(exchangeRate.getFromCurrency(), exchangeRate.getToCurrency());
+        pairLocks.executeLocked(pair, () -> {
+            exchangeRateRepository.delete(exchangeRate);
+            rateIndex.refreshAfterCommit(pair);
+            rateListResponseCache.invalidateAfterCommit();
+            return null;
+        });
     }
 
+    @Transactional
     public void deleteExchangeRateByPair(String from, String to) {
-        List<ExchangeRate> rates = exchangeRateRepository.findAllByFromCurrencyAndToCurrency(
-            from.toUpperCase(), to.toUpperCase());
-        if (rates.isEmpty()) {
-            throw new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR);
-        }
-        exchangeRateRepository.deleteAll(rates);
+        CurrencyPair pair = CurrencyPair.of(from, to);
+        pairLocks.executeLocked(pair, () -> {
+            List<ExchangeRate> rates = exchangeRateRepository.findAllByFromCurrencyAndToCurrency(
+                pair.from(), pair.to());
+            if (rates.isEmpty()) {
+                throw new ResourceNotFoundException(ErrorMessages.RATE_NOT_FOUND_ERROR);
+            }
+            exchangeRateRepository.deleteAll(rates);
+            rateIndex.refreshAfterCommit(pair);
+            rateListResponseCache.invalidateAfterCommit();
+            return null;
+        });
+    }
+
+    public List<ExchangeRateView> getExchangeRatesByFromCurrency(String fromCurrency) {
+        return exchangeRateRepository.findProjectedByFromCurrency(fromCurrency.toUpperCase());
     }
 
-    public List<ExchangeRate> getExchangeRatesByFromCurrency(String fromCurrency) {
-        return exchangeRateRepository.findByFromCurrency(fromCurrency.toUpperCase());
+    public List<ExchangeRateView> getExchangeRatesByToCurrency(String toCurrency) {
+        return exchangeRateRepository.findProjectedByToCurrency(toCurrency.toUpperCase());
     }
 
-    public List<ExchangeRate> getExchangeRatesByToCurrency(String toCurrency) {
-        return exchangeRateRepository.findByToCurrency(toCurrency.toUpperCase());
+    private record SourceKey(CurrencyPair pair, String source) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,270 @@
+package com.exchangerate.service;
+
+import com.exchangerate.config.FreshnessProperties;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.model.CurrencyPair;
+import com.exchangerate.repository.ExchangeRateRepository;
+import com.exchangerate.service.aggregation.RateBook;
+import com.exchangerate.service.aggregation.RateConsolidator;
+import com.exchangerate.service.routing.ConversionRoute;
+import com.exchangerate.service.routing.ConversionRoutingEngine;
+import com.exchangerate.service.routing.IndexedRate;
+import com.exchangerate.service.routing.RoutingTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 記憶體匯率索引
+ * 每個貨幣對保存一本多來源匯率簿 (RateBook)，來源更新時只重算該貨幣對的彙整匯率，
+ * 並以彙整結果增量更新預先計算的換算路由表；反向匯率也在此時算好，換算時不做除法。
+ * 寫入交易提交後才重新讀取受影響的貨幣對，讀取端只存取不可變的路由表快照，不需鎖也不查詢資料庫。
+ * 其他執行個體或直接寫入資料庫的匯率不會觸發提交後的讀取，由定期的全量比對 (reconcile) 補上。
+ * 每個貨幣對在進入索引時預先算出過期時間，由背景巡檢比對並標記過期貨幣對，換算時不再比較時間。
+ * 彙整匯率每次變動時取得新的版本號，換算結果快取以路徑各段的版本號判斷結果是否仍有效。
+ */
+@Component
+@RequiredArgsConstructor
+public class RateIndex {
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final ConversionRoutingEngine routingEngine;
+    private final FreshnessProperties freshnessProperties;
+    private final RateConsolidator rateConsolidator;
+
+    private final Map<CurrencyPair, RateBook> rateBooks = new ConcurrentHashMap<>();
+    private final Map<CurrencyPair, IndexedRate> consolidatedRates = new ConcurrentHashMap<>();
+    private final Map<CurrencyPair, LocalDateTime> staleDeadlines = new ConcurrentHashMap<>();
+    private final Set<CurrencyPair> stalePairs = ConcurrentHashMap.newKeySet();
+    private final Object writeLock = new Object();
+    private volatile RoutingTable routingTable = RoutingTable.EMPTY;
+    private volatile boolean loaded;
+    private long rateVersion; // guarded by writeLock
+
+    /**
+     * 取得預先計算的最佳換算路徑
+     */
+    public Optional<ConversionRoute> findRoute(String fromCurrency, String toCurrency) {
+        ensureLoaded();
+        return routingTable.find(fromCurrency, toCurrency);
+    }
+
+    /**
+     * 取得貨幣對依彙整策略算出的匯率 (換算直接路徑使用的同一筆)；尚無匯率時返回空值
+     */
+    public Optional<ExchangeRateView> getConsolidatedRate(String fromCurrency, String toCurrency) {
+        ensureLoaded();
+        IndexedRate rate = consolidatedRates.get(CurrencyPair.of(fromCurrency, toCurrency));
+        return rate == null ? Optional.empty() : Optional.of(rate.view());
+    }
+
+    /**
+     * 目前被標記為過期的貨幣對
+     */
+    public Set<CurrencyPair> getStalePairs() {
+        return Set.copyOf(stalePairs);
+    }
+
+    /**
+     * 取得貨幣對各來源的最新匯率 (來源 → 匯率)；尚無匯率時返回空 Map
+     */
+    public Map<String, ExchangeRateView> getRateBook(String fromCurrency, String toCurrency) {
+        ensureLoaded();
+        RateBook book = rateBooks.get(CurrencyPair.of(fromCurrency, toCurrency));
+        if (book == null) {
+            return Map.of();
+        }
+        synchronized (writeLock) {
+            return book.getSources();
+        }
+    }
+
+    /**
+     * 從資料庫全量載入各貨幣對、各來源的最新匯率並重建路由表；應用程式啟動完成時預先執行
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        synchronized (writeLock) {
+            load();
+            routingTable = routingEngine.rebuild(consolidatedRates, stalePairs, LocalDateTime.now());
+            loaded = true;
+        }
+    }
+
+    /**
+     * 與資料庫全量比對，套用不是經由本執行個體提交的新增、修改與刪除；
+     * 尚未載入時不做任何事，彙整匯率沒有變動時不重建路由表
+     *
+     * @return 資料庫中的匯率是否與索引不同
+     */
+    public boolean reconcile() {
+        synchronized (writeLock) {
+            if (!loaded) {
+                return false;
+            }
+            if (!load()) {
+                return false;
+            }
+            routingTable = routingEngine.rebuild(consolidatedRates, stalePairs, LocalDateTime.now());
+            return true;
+        }
+    }
+
+    /**
+     * 從資料庫載入全部匯率並更新各貨幣對的匯率簿與彙整匯率 (不含路由表)，返回是否有任何來源的匯率改變
+     */
+    private boolean load() {
+        Map<CurrencyPair, List<ExchangeRateView>> byPair = new HashMap<>();
+        for (ExchangeRateView view : exchangeRateRepository.findAllProjectedBy()) {
+            byPair.computeIfAbsent(pairOf(view), pair -> new ArrayList<>()).add(view);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        boolean changed = rateBooks.keySet().retainAll(byPair.keySet());
+        consolidatedRates.keySet().retainAll(byPair.keySet());
+        staleDeadlines.keySet().retainAll(byPair.keySet());
+        stalePairs.retainAll(byPair.keySet());
+        for (Map.Entry<CurrencyPair, List<ExchangeRateView>> entry : byPair.entrySet()) {
+            RateBook book = rateBooks.computeIfAbsent(entry.getKey(), p -> new RateBook());
+            changed |= book.replaceAll(entry.getValue());
+            track(entry.getKey(), book.consolidate(rateConsolidator), now);
+        }
+        return changed;
+    }
+
+    /**
+     * 定期全量重算路徑，使時效成本反映目前時間
+     */
+    @Scheduled(fixedDelayString = "${exchange-rate.routing.rebuild-interval:PT1M}",
+            initialDelayString = "${exchange-rate.routing.rebuild-interval:PT1M}")
+    public void recomputeRoutes() {
+        synchronized (writeLock) {
+            if (loaded) {
+                routingTable = routingEngine.rebuild(consolidatedRates, stalePairs, LocalDateTime.now());
+            }
+        }
+    }
+
+    /**
+     * 巡檢各貨幣對的預先計算過期時間，將剛過期的貨幣對標記為過期並更新路由表
+     * 恢復新鮮只會發生在寫入新匯率時，由 refresh 處理
+     */
+    @Scheduled(fixedDelayString = "${exchange-rate.freshness.sweep-interval:PT30S}",
+            initialDelayString = "${exchange-rate.freshness.sweep-interval:PT30S}")
+    public void sweepStaleRates() {
+        sweepStaleRates(LocalDateTime.now());
+    }
+
+    void sweepStaleRates(LocalDateTime now) {
+        synchronized (writeLock) {
+            if (!loaded) {
+                return;
+            }
+            List<CurrencyPair> expired = new ArrayList<>();
+            staleDeadlines.forEach((pair, deadline) -> {
+                if (!deadline.isAfter(now) && stalePairs.add(pair)) {
+                    expired.add(pair);
+                }
+            });
+            if (expired.size() == 1) {
+                routingTable = routingEngine.update(consolidatedRates, stalePairs, expired.get(0), now);
+            } else if (!expired.isEmpty()) {
+                routingTable = routingEngine.rebuild(consolidatedRates, stalePairs, now);
+            }
+        }
+    }
+
+    /**
+     * 在目前交易提交後重新讀取指定貨幣對；無交易時立即執行
+     * 由持有貨幣對鎖的寫入方法呼叫，同一貨幣對的更新因此依提交順序套用
+     */
+    public void refreshAfterCommit(CurrencyPair... pairs) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(pairs);
+                }
+            });
+        } else {
+            refresh(pairs);
+        }
+    }
+
+    private void refresh(CurrencyPair... pairs) {
+        if (!loaded) {
+            return;
+        }
+        for (CurrencyPair pair : pairs) {
+            List<ExchangeRateView> rates = exchangeRateRepository
+                    .findProjectedByFromCurrencyAndToCurrency(pair.from(), pair.to());
+            synchronized (writeLock) {
+                RateBook book = rateBooks.computeIfAbsent(pair, p -> new RateBook());
+                ExchangeRateView previous = book.getConsolidated();
+                book.replaceAll(rates);
+                ExchangeRateView consolidated = book.consolidate(rateConsolidator);
+                if (consolidated != null && consolidated.equals(previous)) {
+                    continue;
+                }
+                if (consolidated == null) {
+                    rateBooks.remove(pair);
+                    untrack(pair);
+                } else {
+                    track(pair, consolidated, LocalDateTime.now());
+                }
+                routingTable = routingEngine.update(consolidatedRates, stalePairs, pair, LocalDateTime.now());
+            }
+        }
+    }
+
+    private void track(CurrencyPair pair, ExchangeRateView view, LocalDateTime now) {
+        IndexedRate current = consolidatedRates.get(pair);
+        if (current == null || !current.view().equals(view)) {
+            consolidatedRates.put(pair, IndexedRate.of(view, ++rateVersion));
+        }
+        if (view.timestamp() == null) {
+            staleDeadlines.remove(pair);
+            stalePairs.remove(pair);
+            return;
+        }
+        LocalDateTime deadline = view.timestamp().plus(freshnessProperties.maxAge(pair));
+        staleDeadlines.put(pair, deadline);
+        if (deadline.isAfter(now)) {
+            stalePairs.remove(pair);
+        } else {
+            stalePairs.add(pair);
+        }
+    }
+
+    private void untrack(CurrencyPair pair) {
+        consolidatedRates.remove(pair);
+        staleDeadlines.remove(pair);
+        stalePairs.remove(pair);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (writeLock) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private static CurrencyPair pairOf(ExchangeRateView view) {
+        return new CurrencyPair(view.fromCurrency(), view.toCurrency());
+    }
+}
@@ -0,0 +1,27 @@
+package com.exchangerate.service;
+
+import com.exchangerate.service.compression.RateListResponseCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 匯率索引與資料庫的定期比對
+ * 本執行個體的寫入在提交後就更新索引與完整列表；其他執行個體或直接寫入資料庫的變動由這裡定期補上，
+ * 最多延遲 exchange-rate.cache.index-reconcile-interval。有變動時一併使預先壓縮的完整列表失效。
+ */
+@Component
+@RequiredArgsConstructor
+public class RateIndexReconciler {
+
+    private final RateIndex rateIndex;
+    private final RateListResponseCache rateListResponseCache;
+
+    @Scheduled(fixedDelayString = "${exchange-rate.cache.index-reconcile-interval:PT30S}",
+            initialDelayString = "${exchange-rate.cache.index-reconcile-interval:PT30S}")
+    public void reconcile() {
+        if (rateIndex.reconcile()) {
+            rateListResponseCache.invalidate();
+        }
+    }
+}
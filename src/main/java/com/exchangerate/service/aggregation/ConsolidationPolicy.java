@@ -0,0 +1,22 @@
+package com.exchangerate.service.aggregation;
+
+/**
+ * 多來源匯率彙整策略
+ */
+public enum ConsolidationPolicy {
+
+    /**
+     * 使用所有來源中最新的一筆
+     */
+    FRESHEST,
+
+    /**
+     * 使用各來源匯率的中位數 (偶數筆取中間兩筆平均)
+     */
+    MEDIAN,
+
+    /**
+     * 依設定的來源優先順序取第一個有匯率的來源
+     */
+    PRIORITY
+}
@@ -0,0 +1,57 @@
+package com.exchangerate.service.aggregation;
+
+import com.exchangerate.dto.ExchangeRateView;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 單一貨幣對的多來源匯率簿
+ * 每個來源保留最新一筆匯率，並保存最近一次彙整的結果，讀取時不再重新計算。
+ * 本類別不是執行緒安全的，由 RateIndex 在寫入鎖內維護。
+ */
+public class RateBook {
+
+    private final Map<String, ExchangeRateView> bySource = new HashMap<>();
+    private ExchangeRateView consolidated;
+
+    /**
+     * 以資料庫中該貨幣對的全部匯率取代目前內容，每個來源保留最新一筆
+     *
+     * @return 內容是否與取代前不同
+     */
+    public boolean replaceAll(Collection<ExchangeRateView> rates) {
+        Map<String, ExchangeRateView> latest = new HashMap<>();
+        for (ExchangeRateView rate : rates) {
+            latest.merge(rate.source(), rate, RateConsolidator::newer);
+        }
+        if (latest.equals(bySource)) {
+            return false;
+        }
+        bySource.clear();
+        bySource.putAll(latest);
+        return true;
+    }
+
+    /**
+     * 依彙整策略重算實際使用的匯率；匯率簿為空時結果為 null
+     */
+    public ExchangeRateView consolidate(RateConsolidator consolidator) {
+        consolidated = bySource.isEmpty() ? null : consolidator.consolidate(bySource.values());
+        return consolidated;
+    }
+
+    public ExchangeRateView getConsolidated() {
+        return consolidated;
+    }
+
+    public Map<String, ExchangeRateView> getSources() {
+        return Collections.unmodifiableMap(new HashMap<>(bySource));
+    }
+
+    public boolean isEmpty() {
+        return bySource.isEmpty();
+    }
+}
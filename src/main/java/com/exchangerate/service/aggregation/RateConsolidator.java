@@ -0,0 +1,82 @@
+package com.exchangerate.service.aggregation;
+
+import com.exchangerate.config.AggregationProperties;
+import com.exchangerate.dto.ExchangeRateView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 多來源匯率彙整器
+ * 依 AggregationProperties 的策略將同一貨幣對各來源的最新匯率彙整為一筆實際使用的匯率。
+ * 中位數結果沒有對應的資料列，id 為 null，來源以逗號串接參與的來源，時間取參與來源中最新者。
+ */
+@Component
+@RequiredArgsConstructor
+public class RateConsolidator {
+
+    /**
+     * 依時間 (再依 id) 排序的新舊比較，較大者較新
+     */
+    public static final Comparator<ExchangeRateView> RECENCY = Comparator
+            .comparing(ExchangeRateView::timestamp, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ExchangeRateView::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final AggregationProperties properties;
+
+    public ExchangeRateView consolidate(Collection<ExchangeRateView> rates) {
+        if (rates.size() == 1) {
+            return rates.iterator().next();
+        }
+        return switch (properties.getPolicy()) {
+            case FRESHEST -> freshest(rates);
+            case MEDIAN -> median(rates);
+            case PRIORITY -> prioritized(rates);
+        };
+    }
+
+    static ExchangeRateView newer(ExchangeRateView a, ExchangeRateView b) {
+        return RECENCY.compare(a, b) >= 0 ? a : b;
+    }
+
+    private static ExchangeRateView freshest(Collection<ExchangeRateView> rates) {
+        return rates.stream().max(RECENCY).orElseThrow();
+    }
+
+    private ExchangeRateView prioritized(Collection<ExchangeRateView> rates) {
+        for (String source : properties.getSourcePriority()) {
+            for (ExchangeRateView rate : rates) {
+                if (source.equals(rate.source())) {
+                    return rate;
+                }
+            }
+        }
+        return freshest(rates);
+    }
+
+    private static ExchangeRateView median(Collection<ExchangeRateView> rates) {
+        List<ExchangeRateView> sorted = rates.stream()
+                .sorted(Comparator.comparing(ExchangeRateView::rate))
+                .toList();
+        int middle = sorted.size() / 2;
+        BigDecimal rate = sorted.size() % 2 == 1
+                ? sorted.get(middle).rate()
+                : sorted.get(middle - 1).rate().add(sorted.get(middle).rate())
+                        .divide(BigDecimal.valueOf(2), 6, RoundingMode.HALF_UP);
+        ExchangeRateView newest = freshest(rates);
+        LocalDateTime timestamp = newest.timestamp();
+        String sources = sorted.stream()
+                .map(ExchangeRateView::source)
+                .map(String::valueOf)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return new ExchangeRateView(null, newest.fromCurrency(), newest.toCurrency(), rate, timestamp, sources);
+    }
+}
@@ -0,0 +1,137 @@
+package com.exchangerate.service.bulkhead;
+
+import com.exchangerate.config.BulkheadProperties;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 單一流量類別的艙壁：固定的併發名額加上有上限的排隊，並依排隊延遲自適應卸載 (CoDel 的作法)
+ * <p>
+ * 能立即取得名額表示沒有排隊，結束卸載；需要排隊時量測等待時間，
+ * 等待持續超過 queueTarget 一個 interval 即進入卸載，之後不再排隊，直接拒絕，讓佇列消化到可以立即取得名額為止。
+ * 短暫的突發流量 (延遲超標不到一個 interval) 仍會排隊處理。
+ */
+public class Bulkhead {
+
+    private final TrafficClass trafficClass;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long queueTargetNanos;
+    private final long intervalNanos;
+    private final long maxQueueWaitNanos;
+
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    // nanoTime when queue delay first exceeded the target, 0 while below it
+    private volatile long aboveTargetSince;
+    private volatile boolean shedding;
+
+    public Bulkhead(TrafficClass trafficClass, BulkheadProperties.Limits limits) {
+        this.trafficClass = trafficClass;
+        this.maxConcurrent = limits.getMaxConcurrent();
+        this.maxQueued = limits.getMaxQueued();
+        this.queueTargetNanos = limits.getQueueTarget().toNanos();
+        this.intervalNanos = limits.getInterval().toNanos();
+        this.maxQueueWaitNanos = limits.getMaxQueueWait().toNanos();
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 取得名額；回傳 false 表示應拒絕請求 (卸載中、佇列已滿或等待逾時)。取得名額後必須呼叫 {@link #release()}
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            onQueueDelay(0, 0);
+            admitted.increment();
+            return true;
+        }
+        if (shedding) {
+            shed.increment();
+            return false;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+        }
+        long now = System.nanoTime();
+        onQueueDelay(now - start, now);
+        if (acquired) {
+            admitted.increment();
+        } else {
+            rejected.increment();
+        }
+        return acquired;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    void onQueueDelay(long delayNanos, long now) {
+        if (delayNanos <= queueTargetNanos) {
+            if (aboveTargetSince != 0) {
+                aboveTargetSince = 0;
+            }
+            if (shedding) {
+                shedding = false;
+            }
+            return;
+        }
+        long since = aboveTargetSince;
+        if (since == 0) {
+            // nanoTime may legitimately be 0; nudge so 0 keeps meaning "below target"
+            aboveTargetSince = now == 0 ? 1 : now;
+        } else if (now - since >= intervalNanos) {
+            shedding = true;
+        }
+    }
+
+    public TrafficClass getTrafficClass() {
+        return trafficClass;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public boolean isShedding() {
+        return shedding;
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getShed() {
+        return shed.sum();
+    }
+}
@@ -0,0 +1,28 @@
+package com.exchangerate.service.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 艙壁狀態 (/actuator/bulkheads)：各流量類別處理中 / 排隊中的請求數、是否正在卸載與累計次數
+ */
+@Component
+@Endpoint(id = "bulkheads")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "exchange-rate.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkheadEndpoint {
+
+    private final Bulkheads bulkheads;
+
+    @ReadOperation
+    public Map<TrafficClass, BulkheadSnapshot> bulkheads() {
+        return bulkheads.snapshot();
+    }
+}
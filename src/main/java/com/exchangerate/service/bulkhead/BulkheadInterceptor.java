@@ -0,0 +1,65 @@
+package com.exchangerate.service.bulkhead;
+
+import com.exchangerate.constants.ErrorMessages;
+import com.exchangerate.exception.ServiceUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 依處理方法的 {@link Traffic} 標示讓請求進入對應的艙壁；取不到名額時拋出 ServiceUnavailableException (503 + Retry-After)，
+ * 請求完成後歸還名額。處理方法的類別只在第一次遇到時解析，之後以 Method 查表。
+ */
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    static final String BULKHEAD_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".bulkhead";
+
+    private final Bulkheads bulkheads;
+    private final Duration retryAfter;
+    private final Map<Method, Optional<Bulkhead>> byMethod = new ConcurrentHashMap<>();
+
+    public BulkheadInterceptor(Bulkheads bulkheads, Duration retryAfter) {
+        this.bulkheads = bulkheads;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Optional<Bulkhead> bulkhead = byMethod.computeIfAbsent(handlerMethod.getMethod(), this::bulkheadOf);
+        if (bulkhead.isEmpty()) {
+            return true;
+        }
+        if (!bulkhead.get().tryAcquire()) {
+            throw new ServiceUnavailableException(ErrorMessages.SERVICE_OVERLOADED_ERROR, retryAfter);
+        }
+        request.setAttribute(BULKHEAD_ATTRIBUTE, bulkhead.get());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(BULKHEAD_ATTRIBUTE) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(BULKHEAD_ATTRIBUTE);
+            bulkhead.release();
+        }
+    }
+
+    private Optional<Bulkhead> bulkheadOf(Method method) {
+        Traffic traffic = AnnotatedElementUtils.findMergedAnnotation(method, Traffic.class);
+        if (traffic == null) {
+            traffic = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Traffic.class);
+        }
+        return traffic == null ? Optional.empty() : Optional.of(bulkheads.of(traffic.value()));
+    }
+}
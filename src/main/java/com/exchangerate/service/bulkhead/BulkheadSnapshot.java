@@ -0,0 +1,25 @@
+package com.exchangerate.service.bulkhead;
+
+/**
+ * 艙壁目前的狀態與累計的放行 / 拒絕 (佇列已滿或等待逾時) / 卸載次數
+ */
+public record BulkheadSnapshot(
+        int maxConcurrent,
+        int active,
+        int queued,
+        boolean shedding,
+        long admitted,
+        long rejected,
+        long shed) {
+
+    static BulkheadSnapshot of(Bulkhead bulkhead) {
+        return new BulkheadSnapshot(
+                bulkhead.getMaxConcurrent(),
+                bulkhead.getActive(),
+                bulkhead.getQueued(),
+                bulkhead.isShedding(),
+                bulkhead.getAdmitted(),
+                bulkhead.getRejected(),
+                bulkhead.getShed());
+    }
+}
@@ -0,0 +1,62 @@
+package com.exchangerate.service.bulkhead;
+
+import com.exchangerate.config.BulkheadProperties;
+import com.exchangerate.config.ConnectionPoolProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 各流量類別的艙壁；指標 bulkhead.active / bulkhead.queued / bulkhead.shedding / bulkhead.requests 以 class 標籤區分
+ */
+@Component
+@ConditionalOnProperty(prefix = "exchange-rate.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class Bulkheads implements MeterBinder {
+
+    private final Map<TrafficClass, Bulkhead> bulkheads = new EnumMap<>(TrafficClass.class);
+
+    public Bulkheads(BulkheadProperties properties, ConnectionPoolProperties connectionPool) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int poolSize = connectionPool.maximumPoolSizeFor(cores);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            bulkheads.put(trafficClass, new Bulkhead(trafficClass, properties.limitsOf(trafficClass, cores, poolSize)));
+        }
+    }
+
+    public Bulkhead of(TrafficClass trafficClass) {
+        return bulkheads.get(trafficClass);
+    }
+
+    public Map<TrafficClass, BulkheadSnapshot> snapshot() {
+        Map<TrafficClass, BulkheadSnapshot> snapshot = new EnumMap<>(TrafficClass.class);
+        bulkheads.forEach((trafficClass, bulkhead) -> snapshot.put(trafficClass, BulkheadSnapshot.of(bulkhead)));
+        return snapshot;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            String trafficClass = bulkhead.getTrafficClass().name().toLowerCase();
+            Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActive)
+                    .tag("class", trafficClass).register(registry);
+            Gauge.builder("bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                    .tag("class", trafficClass).register(registry);
+            Gauge.builder("bulkhead.shedding", bulkhead, b -> b.isShedding() ? 1 : 0)
+                    .tag("class", trafficClass).register(registry);
+            FunctionCounter.builder("bulkhead.requests", bulkhead, Bulkhead::getAdmitted)
+                    .tags("class", trafficClass, "outcome", "admitted").register(registry);
+            FunctionCounter.builder("bulkhead.requests", bulkhead, Bulkhead::getRejected)
+                    .tags("class", trafficClass, "outcome", "rejected").register(registry);
+            FunctionCounter.builder("bulkhead.requests", bulkhead, Bulkhead::getShed)
+                    .tags("class", trafficClass, "outcome", "shed").register(registry);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.exchangerate.service.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標示控制器 (或其中的處理方法) 所屬的流量類別；方法上的標示優先於類別上的標示，
+ * 沒有標示的處理器不經過艙壁
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Traffic {
+
+    TrafficClass value();
+}
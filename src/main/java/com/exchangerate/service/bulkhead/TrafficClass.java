@@ -0,0 +1,22 @@
+package com.exchangerate.service.bulkhead;
+
+/**
+ * 流量類別；每個類別有自己的艙壁 (併發名額與排隊)
+ */
+public enum TrafficClass {
+
+    /**
+     * 大量的貨幣轉換請求
+     */
+    CONVERSION,
+
+    /**
+     * 匯率查詢
+     */
+    READ,
+
+    /**
+     * 管理用的匯率新增、更新與刪除
+     */
+    WRITE
+}
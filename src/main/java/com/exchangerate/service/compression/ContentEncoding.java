@@ -0,0 +1,73 @@
+package com.exchangerate.service.compression;
+
+/**
+ * 回應的內容編碼，依偏好順序排列 (品質值相同時取較前者)
+ */
+public enum ContentEncoding {
+
+    BROTLI("br"),
+    GZIP("gzip"),
+    IDENTITY("identity");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    /**
+     * 此編碼在 Accept-Encoding 中的品質值 (RFC 9110 §12.5.3)：明確列出的值優先，其次是 "*"；
+     * 都沒有時其他編碼為 0 (不接受)，identity 仍可接受但優先順序最低
+     */
+    float qualityIn(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return unlisted();
+        }
+        float explicit = -1f;
+        float wildcard = -1f;
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int semicolon = acceptEncoding.indexOf(';', start);
+            int nameEnd = semicolon >= 0 && semicolon < end ? semicolon : end;
+            String name = acceptEncoding.substring(start, nameEnd).trim();
+            if (name.equalsIgnoreCase(token)) {
+                explicit = quality(acceptEncoding, nameEnd, end);
+            } else if (name.equals("*")) {
+                wildcard = quality(acceptEncoding, nameEnd, end);
+            }
+            start = end + 1;
+        }
+        if (explicit >= 0) {
+            return explicit;
+        }
+        if (wildcard >= 0) {
+            return wildcard;
+        }
+        return unlisted();
+    }
+
+    private float unlisted() {
+        return this == IDENTITY ? Float.MIN_VALUE : 0f;
+    }
+
+    private static float quality(String header, int paramsStart, int end) {
+        int q = header.indexOf("q=", paramsStart);
+        if (q < 0 || q >= end) {
+            return 1f;
+        }
+        try {
+            return Float.parseFloat(header.substring(q + 2, end).trim());
+        } catch (NumberFormatException e) {
+            return 0f;
+        }
+    }
+}
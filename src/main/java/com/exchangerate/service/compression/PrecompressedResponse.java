@@ -0,0 +1,34 @@
+package com.exchangerate.service.compression;
+
+/**
+ * 同一個資料版本的回應主體與其壓縮版本；未建立的版本為 null
+ */
+public record PrecompressedResponse(long version, byte[] identity, byte[] gzip, byte[] brotli) {
+
+    /**
+     * 依 Accept-Encoding 選擇品質值最高、且已建立的版本；都不被接受時回傳未壓縮版本
+     */
+    public ContentEncoding negotiate(String acceptEncoding) {
+        ContentEncoding best = ContentEncoding.IDENTITY;
+        float bestQuality = 0f;
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            if (body(encoding) == null) {
+                continue;
+            }
+            float quality = encoding.qualityIn(acceptEncoding);
+            if (quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    public byte[] body(ContentEncoding encoding) {
+        return switch (encoding) {
+            case BROTLI -> brotli;
+            case GZIP -> gzip;
+            case IDENTITY -> identity;
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.exchangerate.service.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.exchangerate.config.CompressionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 完整匯率列表的預先編碼回應
+ * 每次寫入交易提交後資料版本加一；版本改變後的第一個請求重新查詢、編碼 JSON 並壓縮成 gzip 與 brotli，
+ * 並行的請求等待同一次建立，之後同一版本的請求直接送出快取的位元組。
+ * 建立期間若有寫入提交，建好的回應仍標記為開始時的版本，下一個請求會再重建。
+ */
+@Slf4j
+@Component
+public class RateListResponseCache {
+
+    private final CompressionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final boolean brotliAvailable;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Object buildLock = new Object();
+    private volatile PrecompressedResponse current;
+
+    public RateListResponseCache(CompressionProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.brotliAvailable = properties.isBrotli() && loadBrotli();
+    }
+
+    public PrecompressedResponse get(Supplier<?> loader) {
+        PrecompressedResponse cached = current;
+        if (cached != null && cached.version() == version.get()) {
+            return cached;
+        }
+        synchronized (buildLock) {
+            long building = version.get();
+            cached = current;
+            if (cached != null && cached.version() == building) {
+                return cached;
+            }
+            cached = build(building, loader.get());
+            current = cached;
+            return cached;
+        }
+    }
+
+    /**
+     * 在目前交易提交後使列表失效；無交易時立即失效
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isBrotliAvailable() {
+        return brotliAvailable;
+    }
+
+    private PrecompressedResponse build(long version, Object body) {
+        long start = System.nanoTime();
+        byte[] identity;
+        try {
+            identity = objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (identity.length < properties.getMinResponseSize().toBytes()) {
+            return new PrecompressedResponse(version, identity, null, null);
+        }
+        byte[] gzip = gzip(identity, properties.getGzipLevel());
+        byte[] brotli = brotliAvailable ? brotli(identity, properties.getBrotliQuality()) : null;
+        log.debug("Rate list version {} encoded in {} ms: {} bytes, gzip {} bytes, brotli {} bytes", version,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), identity.length, gzip.length,
+                brotli == null ? "-" : brotli.length);
+        return new PrecompressedResponse(version, identity, gzip, brotli);
+    }
+
+    static byte[] gzip(byte[] data, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] data, int quality) {
+        try {
+            return Encoder.compress(data, new Encoder.Parameters().setQuality(quality).setMode(Encoder.Mode.TEXT));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            if (Brotli4jLoader.isAvailable()) {
+                return true;
+            }
+            log.warn("Brotli native library unavailable, serving gzip only", Brotli4jLoader.getUnavailabilityCause());
+        } catch (LinkageError e) {
+            log.warn("Brotli native library unavailable, serving gzip only", e);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.exchangerate.service.ingestion;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 匯率檔匯入報告 (/actuator/ingestion)：最近匯入檔案的筆數、驗證錯誤與吞吐量
+ */
+@Component
+@Endpoint(id = "ingestion")
+@RequiredArgsConstructor
+public class IngestionEndpoint {
+
+    private final RateFileIngestionService ingestionService;
+
+    @ReadOperation
+    public List<IngestionReport> reports() {
+        return ingestionService.getRecentReports();
+    }
+}
@@ -0,0 +1,40 @@
+package com.exchangerate.service.ingestion;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 單一匯率檔的匯入結果與吞吐量
+ *
+ * @param rows           檔案中的資料列數 (不含標題列)
+ * @param applied        實際寫入 (新增或更新) 的筆數；同一貨幣對與來源重複或比資料庫中的資料舊的列不計
+ * @param rejected       驗證失敗的筆數
+ * @param errors         驗證或處理錯誤 (最多 maxReportedErrors 筆)
+ * @param elapsedMillis  解析、驗證與批次寫入的總耗時
+ */
+public record IngestionReport(
+        String file,
+        RateFileFormat format,
+        long bytes,
+        boolean memoryMapped,
+        int rows,
+        int applied,
+        int rejected,
+        List<String> errors,
+        boolean success,
+        long elapsedMillis,
+        LocalDateTime completedAt) {
+
+    @JsonProperty
+    public double rowsPerSecond() {
+        return elapsedMillis == 0 ? rows * 1000.0 : rows * 1000.0 / elapsedMillis;
+    }
+
+    @JsonProperty
+    public double megabytesPerSecond() {
+        double megabytes = bytes / (1024.0 * 1024.0);
+        return elapsedMillis == 0 ? megabytes * 1000.0 : megabytes * 1000.0 / elapsedMillis;
+    }
+}
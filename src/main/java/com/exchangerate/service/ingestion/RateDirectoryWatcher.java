@@ -0,0 +1,104 @@
+package com.exchangerate.service.ingestion;
+
+import com.exchangerate.config.IngestionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * 投遞目錄監看器
+ * 啟動時先處理目錄中已存在的檔案，之後在背景執行緒中以 WatchService 接收新檔案 (建立或改名移入) 並逐一匯入。
+ * 只在 exchange-rate.ingestion.enabled=true 時建立。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "exchange-rate.ingestion", name = "enabled", havingValue = "true")
+public class RateDirectoryWatcher {
+
+    private final RateFileIngestionService ingestionService;
+    private final IngestionProperties properties;
+
+    private WatchService watchService;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws IOException {
+        if (worker != null) {
+            return;
+        }
+        Path directory = properties.getDirectory();
+        Files.createDirectories(directory);
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE);
+        worker = new Thread(this::watch, "rate-ingestion-watcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Watching {} for rate files", directory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    private void watch() {
+        scanExisting();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        scanExisting();
+                    } else {
+                        ingestIfRateFile(properties.getDirectory().resolve((Path) event.context()));
+                    }
+                }
+                if (!key.reset()) {
+                    log.warn("Rate drop directory {} is no longer accessible", properties.getDirectory());
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scanExisting() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(properties.getDirectory())) {
+            for (Path file : files) {
+                ingestIfRateFile(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not scan rate drop directory {}: {}", properties.getDirectory(), e.getMessage());
+        }
+    }
+
+    private void ingestIfRateFile(Path file) {
+        // Files already moved away by an earlier event or scan are skipped
+        if (Files.isRegularFile(file) && RateFileFormat.of(file).isPresent()) {
+            ingestionService.ingest(file);
+        }
+    }
+}
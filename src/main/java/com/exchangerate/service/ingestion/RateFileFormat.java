@@ -0,0 +1,27 @@
+package com.exchangerate.service.ingestion;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 支援的匯率檔格式，依副檔名判斷
+ */
+public enum RateFileFormat {
+
+    CSV, JSON;
+
+    public static Optional<RateFileFormat> of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.startsWith(".") || name.endsWith(".tmp") || name.endsWith(".part")) {
+            return Optional.empty();
+        }
+        if (name.endsWith(".csv")) {
+            return Optional.of(CSV);
+        }
+        if (name.endsWith(".json")) {
+            return Optional.of(JSON);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,128 @@
+package com.exchangerate.service.ingestion;
+
+import com.exchangerate.config.IngestionProperties;
+import com.exchangerate.model.CurrencyPair;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ExchangeRateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 匯率檔匯入服務
+ * 串流解析整個檔案並逐列驗證 (貨幣須在 CurrencyConstants 中、匯率大於 0、來源與目標不同)，
+ * 驗證通過的資料在串流時即依貨幣對與來源合併，只保留時間戳記最新的一筆 (記憶體用量取決於鍵數而非列數)，
+ * 再以 ExchangeRateService.upsertExchangeRates 單一交易寫入，
+ * 取代逐列呼叫 POST /api/exchange-rates 的 HTTP、JSON 與逐列交易成本。
+ * 驗證失敗的資料列略過並記入報告；檔案本身無法解析或寫入失敗時整檔不套用並移入失敗目錄。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateFileIngestionService {
+
+    private final RateFileParser parser;
+    private final ExchangeRateService exchangeRateService;
+    private final IngestionProperties properties;
+
+    private final Deque<IngestionReport> recentReports = new ArrayDeque<>();
+
+    /**
+     * 匯入單一檔案並將其移入 processed 或 failed 子目錄
+     */
+    public IngestionReport ingest(Path file) {
+        RateFileFormat format = RateFileFormat.of(file)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported rate file: " + file));
+        long started = System.nanoTime();
+        Map<RowKey, ExchangeRate> accepted = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        int[] rows = new int[1];
+        int[] rejected = new int[1];
+        long bytes = 0;
+        boolean mapped = false;
+        boolean success = false;
+        int applied = 0;
+
+        try {
+            bytes = Files.size(file);
+            mapped = parser.parse(file, format, properties.getMmapThreshold().toBytes(), raw -> {
+                rows[0]++;
+                try {
+                    ExchangeRate rate = raw.toExchangeRate();
+                    accepted.merge(new RowKey(CurrencyPair.of(rate.getFromCurrency(), rate.getToCurrency()),
+                            rate.getSource()), rate, (current, row) -> row.supersedes(current) ? row : current);
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    rejected[0]++;
+                    addError(errors, "line " + raw.line() + ": " + e.getMessage());
+                }
+            });
+            applied = exchangeRateService.upsertExchangeRates(new ArrayList<>(accepted.values()));
+            success = true;
+        } catch (IOException | RuntimeException e) {
+            addError(errors, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        IngestionReport report = new IngestionReport(file.getFileName().toString(), format, bytes, mapped,
+                rows[0], applied, rejected[0], List.copyOf(errors), success, elapsedMillis, LocalDateTime.now());
+        moveProcessed(file, success);
+        record(report);
+        log.info("Ingested {} ({}, {} bytes{}): {} rows, {} applied, {} rejected in {} ms ({} rows/s, {} MB/s)",
+                report.file(), format, bytes, mapped ? ", mmap" : "", report.rows(), applied, report.rejected(),
+                elapsedMillis, String.format(Locale.ROOT, "%.0f", report.rowsPerSecond()),
+                String.format(Locale.ROOT, "%.2f", report.megabytesPerSecond()));
+        return report;
+    }
+
+    /**
+     * 最近匯入的檔案報告，新的在前
+     */
+    public List<IngestionReport> getRecentReports() {
+        synchronized (recentReports) {
+            return List.copyOf(recentReports);
+        }
+    }
+
+    private void addError(List<String> errors, String error) {
+        if (errors.size() < properties.getMaxReportedErrors()) {
+            errors.add(error);
+        }
+    }
+
+    private void moveProcessed(Path file, boolean success) {
+        Path target = file.resolveSibling(success
+                ? properties.getProcessedDirectory() : properties.getFailedDirectory());
+        try {
+            Files.createDirectories(target);
+            Files.move(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not move rate file {} to {}: {}", file, target, e.getMessage());
+        }
+    }
+
+    private void record(IngestionReport report) {
+        synchronized (recentReports) {
+            recentReports.addFirst(report);
+            while (recentReports.size() > properties.getRecentReports()) {
+                recentReports.removeLast();
+            }
+        }
+    }
+
+    private record RowKey(CurrencyPair pair, String source) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.exchangerate.service.ingestion;
+
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.constants.ErrorMessages;
+import com.exchangerate.exception.InvalidRequestException;
+import com.exchangerate.model.ExchangeRate;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 匯率檔串流解析器
+ * 逐列 (CSV) 或逐個物件 (JSON) 解析，不會把整個檔案讀成字串或樹狀結構；
+ * 大檔以記憶體映射讀取，避免額外的核心到使用者空間複製。
+ *
+ * CSV 第一列為標題，欄位名稱與 API 相同：from_currency, to_currency, rate, source, updated_at
+ * (後兩欄可省略)，欄位可用雙引號包住。JSON 為物件陣列，屬性名稱相同。
+ * 這裡只負責把文字拆成欄位，欄位內容由 RawRate.toExchangeRate 驗證。
+ */
+@Component
+@RequiredArgsConstructor
+public class RateFileParser {
+
+    static final String FROM_CURRENCY = "from_currency";
+    static final String TO_CURRENCY = "to_currency";
+    static final String RATE = "rate";
+    static final String SOURCE = "source";
+    static final String UPDATED_AT = "updated_at";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 解析後的一列原始欄位
+     *
+     * @param line CSV 的實際行號或 JSON 陣列中的序號 (皆從 1 起算)
+     */
+    public record RawRate(int line, String fromCurrency, String toCurrency, String rate,
+                          String source, String updatedAt) {
+
+        /**
+         * 驗證欄位 (貨幣須在 CurrencyConstants 中、來源與目標不同、匯率大於 0、來源名稱不超過欄位長度)
+         * 並轉為未儲存的 ExchangeRate；來源名稱空白時為 null
+         *
+         * @throws InvalidRequestException 欄位不合法 (不含堆疊的 IllegalArgumentException)
+         * @throws DateTimeParseException  updated_at 不是 ISO 日期時間
+         */
+        public ExchangeRate toExchangeRate() {
+            if (fromCurrency == null || toCurrency == null) {
+                throw new InvalidRequestException(ErrorMessages.NULL_CURRENCY_ERROR);
+            }
+            String from = fromCurrency.toUpperCase(Locale.ROOT);
+            String to = toCurrency.toUpperCase(Locale.ROOT);
+            if (!CurrencyConstants.isSupportedCurrency(from)) {
+                throw new InvalidRequestException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, from));
+            }
+            if (!CurrencyConstants.isSupportedCurrency(to)) {
+                throw new InvalidRequestException(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, to));
+            }
+            if (from.equals(to)) {
+                throw new InvalidRequestException(ErrorMessages.SAME_CURRENCY_ERROR);
+            }
+            BigDecimal value;
+            try {
+                value = rate == null ? BigDecimal.ZERO : new BigDecimal(rate);
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException(ErrorMessages.INVALID_RATE_ERROR);
+            }
+            if (value.signum() <= 0) {
+                throw new InvalidRequestException(ErrorMessages.INVALID_RATE_ERROR);
+            }
+            String sourceName = source == null || source.isBlank() ? null : source.strip();
+            if (sourceName != null && sourceName.length() > ExchangeRate.SOURCE_MAX_LENGTH) {
+                throw new InvalidRequestException(
+                        String.format(ErrorMessages.INVALID_SOURCE_LENGTH_ERROR, ExchangeRate.SOURCE_MAX_LENGTH));
+            }
+            LocalDateTime timestamp = updatedAt == null ? null : LocalDateTime.parse(updatedAt);
+            return new ExchangeRate(null, from, to, value, timestamp, sourceName);
+        }
+    }
+
+    /**
+     * 解析檔案並將每一列交給 sink，返回是否使用記憶體映射
+     */
+    public boolean parse(Path file, RateFileFormat format, long mmapThreshold, Consumer<RawRate> sink)
+            throws IOException {
+        long size = Files.size(file);
+        boolean mapped = size > 0 && size >= mmapThreshold;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             InputStream in = mapped ? mapped(channel, size) : Channels.newInputStream(channel)) {
+            switch (format) {
+                case CSV -> parseCsv(in, sink);
+                case JSON -> parseJson(in, sink);
+            }
+        }
+        return mapped;
+    }
+
+    void parseCsv(InputStream in, Consumer<RawRate> sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        String header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of(FROM_CURRENCY, TO_CURRENCY, RATE)) {
+            if (!columns.containsKey(required)) {
+                throw new IOException("CSV header is missing column: " + required);
+            }
+        }
+        int from = columns.get(FROM_CURRENCY);
+        int to = columns.get(TO_CURRENCY);
+        int rate = columns.get(RATE);
+        int source = columns.getOrDefault(SOURCE, -1);
+        int updatedAt = columns.getOrDefault(UPDATED_AT, -1);
+
+        String row;
+        int line = 1;
+        while ((row = reader.readLine()) != null) {
+            line++;
+            if (row.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitCsv(row);
+            sink.accept(new RawRate(line, field(fields, from), field(fields, to), field(fields, rate),
+                    field(fields, source), field(fields, updatedAt)));
+        }
+    }
+
+    /**
+     * 串流解析 JSON 物件陣列 (也供上游 HTTP 匯率提供者使用)
+     */
+    public void parseJson(InputStream in, Consumer<RawRate> sink) throws IOException {
+        JsonFactory factory = objectMapper.getFactory();
+        try (JsonParser parser = factory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("JSON rate file must be an array of objects");
+            }
+            int index = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                index++;
+                String from = null;
+                String to = null;
+                String rate = null;
+                String source = null;
+                String updatedAt = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    switch (name) {
+                        case FROM_CURRENCY -> from = text;
+                        case TO_CURRENCY -> to = text;
+                        case RATE -> rate = text;
+                        case SOURCE -> source = text;
+                        case UPDATED_AT -> updatedAt = text;
+                        default -> { }
+                    }
+                }
+                sink.accept(new RawRate(index, from, to, rate, source, updatedAt));
+            }
+        }
+    }
+
+    /**
+     * 拆分一行 CSV；支援以雙引號包住含逗號的欄位，引號內以兩個雙引號表示一個雙引號
+     */
+    static List<String> splitCsv(String row) {
+        List<String> fields = new ArrayList<>(5);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static InputStream mapped(FileChannel channel, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Rate file too large to map: " + size + " bytes");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        return new ByteBufferBackedInputStream(buffer);
+    }
+}
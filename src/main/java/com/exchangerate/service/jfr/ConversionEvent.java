@@ -0,0 +1,60 @@
+package com.exchangerate.service.jfr;
+
+import com.exchangerate.service.routing.ConversionRoute;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * convertCurrencyDetailed 的 JFR 事件：貨幣對、路徑類型、段數與耗時
+ * 沒有錄製 (或未啟用此事件) 時 commit 不做任何事，事件物件經 JIT 逃逸分析後也不會配置；
+ * 呼叫端在 end 之後、shouldCommit 為真時才填入欄位 (門檻以完整耗時判斷)，事件欄位不作為業務邏輯的輸入。
+ */
+@Name("com.exchangerate.Conversion")
+@Label("Currency Conversion")
+@Category("Exchange Rate")
+@Description("ExchangeRateService.convertCurrencyDetailed call")
+@StackTrace(false)
+public class ConversionEvent extends jdk.jfr.Event {
+
+    /**
+     * 路徑類型：DIRECT (直接)、INVERSE (單段反向)、MULTI_HOP (多段)
+     */
+    public enum PathType {
+        DIRECT,
+        INVERSE,
+        MULTI_HOP
+    }
+
+    @Label("From Currency")
+    public String fromCurrency;
+
+    @Label("To Currency")
+    public String toCurrency;
+
+    @Label("Path Type")
+    @Description("DIRECT, INVERSE or MULTI_HOP; empty when no route was found or the request was rejected")
+    public String pathType;
+
+    @Label("Hops")
+    public int hops;
+
+    @Label("Stale Rate")
+    public boolean stale;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    /**
+     * 記錄換算使用的路徑
+     */
+    public void route(ConversionRoute route) {
+        hops = route.hops();
+        stale = route.stale();
+        PathType type = hops > 1 ? PathType.MULTI_HOP
+                : route.legs().get(0).inverted() ? PathType.INVERSE : PathType.DIRECT;
+        pathType = type.name();
+    }
+}
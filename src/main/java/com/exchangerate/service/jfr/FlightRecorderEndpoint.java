@@ -0,0 +1,161 @@
+package com.exchangerate.service.jfr;
+
+import com.exchangerate.config.FlightRecorderProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JFR 錄製控制 (/actuator/jfr)
+ * POST 開始錄製 (預設 JDK 設定加上本服務的換算與 repository 事件)，GET /{id} 匯出 .jfr 檔，DELETE /{id} 停止並關閉錄製。
+ * 每個錄製在磁碟上只保留 max-age 與 max-size 內的資料，同時進行的錄製數有上限。
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    static final List<String> EVENT_NAMES = List.of("com.exchangerate.Conversion", "com.exchangerate.RepositoryCall");
+
+    private final FlightRecorderProperties properties;
+    private final Set<Long> started = ConcurrentHashMap.newKeySet();
+
+    public FlightRecorderEndpoint(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public List<RecordingInfo> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(RecordingInfo::of)
+                .toList();
+    }
+
+    /**
+     * 開始錄製
+     *
+     * @param name 錄製名稱
+     * @param settings JDK 內建設定 ("default" 或 "profile")
+     * @param duration 錄製時間，未指定時錄製到停止為止
+     * @param threshold 本服務事件的最短記錄時間，未指定時全部記錄
+     * @throws InvalidEndpointRequestException 透過端點進行中的錄製數已達上限
+     */
+    @WriteOperation
+    public synchronized RecordingInfo start(@Nullable String name, @Nullable String settings,
+                                            @Nullable Duration duration, @Nullable Duration threshold) {
+        long running = runningRecordings();
+        if (running >= properties.getMaxRecordings()) {
+            String message = "Too many JFR recordings running (" + running + "), stop one first";
+            throw new InvalidEndpointRequestException(message, message);
+        }
+        Recording recording = new Recording(configuration(settings == null ? "default" : settings));
+        recording.setName(name == null ? "exchange-rate" : name);
+        recording.setToDisk(true);
+        recording.setDuration(duration);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        for (String eventName : EVENT_NAMES) {
+            recording.enable(eventName).withThreshold(threshold == null ? Duration.ZERO : threshold);
+        }
+        recording.start();
+        started.add(recording.getId());
+        return RecordingInfo.of(recording);
+    }
+
+    /**
+     * 匯出錄製內容；暫存檔在回應寫完、串流關閉時刪除
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Selector long id) {
+        return find(id).map(FlightRecorderEndpoint::dumpToTempFile).orElse(null);
+    }
+
+    @DeleteOperation
+    public RecordingInfo stop(@Selector long id) {
+        return find(id).map(recording -> {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            RecordingInfo info = RecordingInfo.of(recording);
+            recording.close();
+            started.remove(id);
+            return info;
+        }).orElse(null);
+    }
+
+    // === 輔助方法 ===
+    private long runningRecordings() {
+        List<Recording> recordings = FlightRecorder.getFlightRecorder().getRecordings();
+        started.removeIf(id -> recordings.stream().noneMatch(recording -> recording.getId() == id));
+        return recordings.stream()
+                .filter(recording -> started.contains(recording.getId()))
+                .filter(recording -> recording.getState() == RecordingState.RUNNING
+                        || recording.getState() == RecordingState.DELAYED)
+                .count();
+    }
+
+    private static Optional<Recording> find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst();
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+    }
+
+    private static Resource dumpToTempFile(Recording recording) {
+        try {
+            Path file = Files.createTempFile("exchange-rate-" + recording.getId() + "-", ".jfr");
+            recording.dump(file);
+            return new TemporaryFileResource(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    Files.deleteIfExists(getFile().toPath());
+                }
+            };
+        }
+    }
+}
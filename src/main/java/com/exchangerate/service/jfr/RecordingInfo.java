@@ -0,0 +1,28 @@
+package com.exchangerate.service.jfr;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * JFR 錄製的狀態摘要
+ */
+public record RecordingInfo(
+        long id,
+        String name,
+        String state,
+        Instant startTime,
+        Duration duration,
+        long size) {
+
+    static RecordingInfo of(Recording recording) {
+        return new RecordingInfo(
+                recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getDuration(),
+                recording.getSize());
+    }
+}
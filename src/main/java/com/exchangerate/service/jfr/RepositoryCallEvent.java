@@ -0,0 +1,31 @@
+package com.exchangerate.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spring Data repository 呼叫的 JFR 事件：repository、方法、返回筆數與耗時
+ */
+@Name("com.exchangerate.RepositoryCall")
+@Label("Repository Call")
+@Category("Exchange Rate")
+@Description("Spring Data repository method call")
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    @Description("Number of returned entities; -1 for non-collection results")
+    public int rows;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,40 @@
+package com.exchangerate.service.jfr;
+
+import com.exchangerate.repository.RepositoryResults;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 在 repository 代理上為每次方法呼叫發出 RepositoryCallEvent
+ * 事件欄位只在 shouldCommit (正在錄製且超過門檻) 時才填入。
+ */
+public class RepositoryCallInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    public RepositoryCallInterceptor(String repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Object result = null;
+        boolean succeeded = false;
+        try {
+            result = invocation.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.rows = RepositoryResults.rowsOf(result);
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
+    }
+}
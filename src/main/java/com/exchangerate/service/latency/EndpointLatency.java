@@ -0,0 +1,99 @@
+package com.exchangerate.service.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 單一端點的延遲記錄
+ * 請求執行緒寫入 Recorder (不配置記憶體、不加鎖)，輪替時取出這段的直方圖放入環狀陣列，
+ * 被擠出的舊段直接交還 Recorder 重複使用；沒有請求的段不保留直方圖。
+ * 每個請求記錄兩個值：原始的處理時間，以及加上請求在 Tomcat 工作佇列中實際等待時間的延遲；
+ * 後者以伺服器端實際排隊的時間修正協調遺漏，不推算補值。延遲以微秒記錄。
+ */
+final class EndpointLatency {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    static final int SIGNIFICANT_DIGITS = 2;
+
+    private final String name;
+    private final Series raw;
+    private final Series withQueueWait;
+
+    EndpointLatency(String name, int sliceCount) {
+        this.name = name;
+        this.raw = new Series(sliceCount);
+        this.withQueueWait = new Series(sliceCount);
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * @param nanos          從進入過濾器鏈到回應完成的時間
+     * @param queueWaitNanos 請求在進入過濾器鏈之前於工作佇列中等待的時間
+     */
+    void record(long nanos, long queueWaitNanos) {
+        raw.record(nanos);
+        withQueueWait.record(nanos + queueWaitNanos);
+    }
+
+    /**
+     * 結束目前這段並開始新的一段
+     */
+    synchronized void rotate() {
+        raw.rotate();
+        withQueueWait.rotate();
+    }
+
+    /**
+     * 合併最近 sliceCount 段的延遲
+     */
+    synchronized EndpointLatencySnapshot snapshot(int sliceCount) {
+        return new EndpointLatencySnapshot(raw.snapshot(sliceCount), withQueueWait.snapshot(sliceCount));
+    }
+
+    private static final class Series {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram[] slices; // guarded by the owning EndpointLatency, null for slices without requests
+        private int newest;
+        private Histogram spare;
+
+        Series(int sliceCount) {
+            this.slices = new Histogram[sliceCount];
+        }
+
+        void record(long nanos) {
+            recorder.recordValue(Math.min(Math.max(nanos / 1_000, 1), HIGHEST_TRACKABLE_MICROS));
+        }
+
+        void rotate() {
+            newest = (newest + 1) % slices.length;
+            Histogram recycle = slices[newest] != null ? slices[newest] : spare;
+            Histogram interval = recorder.getIntervalHistogram(recycle);
+            if (recycle == spare) {
+                spare = null;
+            }
+            if (interval.getTotalCount() == 0) {
+                slices[newest] = null;
+                spare = interval;
+            } else {
+                slices[newest] = interval;
+            }
+        }
+
+        LatencySnapshot snapshot(int sliceCount) {
+            Histogram merged = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            for (int i = 0; i < Math.min(sliceCount, slices.length); i++) {
+                Histogram slice = slices[Math.floorMod(newest - i, slices.length)];
+                if (slice != null) {
+                    merged.add(slice);
+                }
+            }
+            return LatencySnapshot.of(merged);
+        }
+    }
+}
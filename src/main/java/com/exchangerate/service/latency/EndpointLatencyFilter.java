@@ -0,0 +1,36 @@
+package com.exchangerate.service.latency;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 量測每個請求從進入過濾器鏈到回應完成的時間，連同進入前在工作佇列中等待的時間交給 EndpointLatencyRecorder 依處理方法記錄
+ * 起始時間保存在區域變數，不寫入請求屬性，記錄路徑不配置記憶體。
+ */
+public class EndpointLatencyFilter implements Filter {
+
+    private final EndpointLatencyRecorder recorder;
+
+    public EndpointLatencyFilter(EndpointLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        long start = System.nanoTime();
+        long queueWait = RequestQueueWait.take();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            recorder.record(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE),
+                    System.nanoTime() - start, queueWait);
+        }
+    }
+}
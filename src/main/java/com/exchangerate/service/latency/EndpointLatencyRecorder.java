@@ -0,0 +1,109 @@
+package com.exchangerate.service.latency;
+
+import com.exchangerate.config.LatencyProperties;
+import com.exchangerate.controller.ConversionController;
+import com.exchangerate.controller.ExchangeRateController;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * API 端點延遲記錄器
+ * 啟動時為 ExchangeRateController 與 ConversionController 的每個處理方法建立一組延遲直方圖，
+ * 以處理方法 (Method) 對應，記錄時只做一次唯讀 Map 查詢；端點名稱為「HTTP 方法 路徑樣式」。
+ * 只在 Servlet Web 應用程式且 exchange-rate.latency.enabled=true (預設) 時建立。
+ */
+@Component
+@ConditionalOnProperty(prefix = "exchange-rate.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class EndpointLatencyRecorder {
+
+    private static final Set<Class<?>> RECORDED_CONTROLLERS = Set.of(ExchangeRateController.class, ConversionController.class);
+
+    private final Map<Method, EndpointLatency> endpoints;
+    private final Map<String, Integer> windows = new LinkedHashMap<>();
+
+    public EndpointLatencyRecorder(LatencyProperties properties,
+                                   @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        long sliceNanos = properties.getSlice().toNanos();
+        int sliceCount = 1;
+        for (Duration window : properties.getWindows()) {
+            int slices = (int) Math.max(1, window.toNanos() / sliceNanos);
+            windows.put(window.toString(), slices);
+            sliceCount = Math.max(sliceCount, slices);
+        }
+        Map<Method, EndpointLatency> byMethod = new HashMap<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            HandlerMethod handlerMethod = entry.getValue();
+            if (RECORDED_CONTROLLERS.contains(ClassUtils.getUserClass(handlerMethod.getBeanType()))) {
+                byMethod.put(handlerMethod.getMethod(),
+                        new EndpointLatency(nameOf(entry.getKey()), sliceCount));
+            }
+        }
+        this.endpoints = Map.copyOf(byMethod);
+    }
+
+    /**
+     * 記錄一次請求的延遲；handler 不是受記錄的處理方法時忽略
+     *
+     * @param handler        請求對應的處理器 (HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+     * @param queueWaitNanos 請求進入過濾器鏈之前在工作佇列中等待的時間，無法取得時為 0
+     */
+    public void record(Object handler, long nanos, long queueWaitNanos) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            EndpointLatency endpoint = endpoints.get(handlerMethod.getMethod());
+            if (endpoint != null) {
+                endpoint.record(nanos, queueWaitNanos);
+            }
+        }
+    }
+
+    /**
+     * 每段結束時輪替所有端點的直方圖
+     */
+    @Scheduled(fixedRateString = "${exchange-rate.latency.slice:PT15S}",
+            initialDelayString = "${exchange-rate.latency.slice:PT15S}")
+    public void rotate() {
+        for (EndpointLatency endpoint : endpoints.values()) {
+            endpoint.rotate();
+        }
+    }
+
+    /**
+     * 各端點 (依名稱排序) 在各視窗的延遲統計
+     */
+    public Map<String, Map<String, EndpointLatencySnapshot>> snapshot() {
+        return endpoints.values().stream()
+                .collect(Collectors.toMap(EndpointLatency::name, this::snapshot, (a, b) -> a, TreeMap::new));
+    }
+
+    private Map<String, EndpointLatencySnapshot> snapshot(EndpointLatency endpoint) {
+        Map<String, EndpointLatencySnapshot> byWindow = new LinkedHashMap<>();
+        windows.forEach((window, slices) -> byWindow.put(window, endpoint.snapshot(slices)));
+        return byWindow;
+    }
+
+    private static String nameOf(RequestMappingInfo info) {
+        String methods = info.getMethodsCondition().getMethods().stream()
+                .map(Enum::name)
+                .sorted()
+                .collect(Collectors.joining(","));
+        String patterns = String.join(",", info.getPatternValues());
+        return methods.isEmpty() ? patterns : methods + " " + patterns;
+    }
+}
@@ -0,0 +1,11 @@
+package com.exchangerate.service.latency;
+
+/**
+ * 一個端點在一個滑動視窗內的延遲
+ *
+ * @param raw           處理時間 (從進入過濾器鏈到回應完成)
+ * @param withQueueWait 處理時間加上請求在 Tomcat 工作佇列中等待的時間 (協調遺漏修正)；
+ *                      佇列時間無法取得時 (非 Tomcat 或測試環境) 與 raw 相同
+ */
+public record EndpointLatencySnapshot(LatencySnapshot raw, LatencySnapshot withQueueWait) {
+}
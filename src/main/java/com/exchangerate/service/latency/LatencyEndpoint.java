@@ -0,0 +1,29 @@
+package com.exchangerate.service.latency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * API 端點延遲 (/actuator/latency)：各端點在各滑動視窗的 p50 / p99 / p99.9 / max (毫秒)，
+ * 原始處理時間 (raw) 與加上工作佇列等待時間 (withQueueWait) 並列
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "exchange-rate.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LatencyEndpoint {
+
+    private final EndpointLatencyRecorder recorder;
+
+    @ReadOperation
+    public Map<String, Map<String, EndpointLatencySnapshot>> latencies() {
+        return recorder.snapshot();
+    }
+}
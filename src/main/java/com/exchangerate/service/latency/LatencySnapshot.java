@@ -0,0 +1,32 @@
+package com.exchangerate.service.latency;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 一個滑動視窗內的延遲統計 (毫秒)
+ */
+@JsonPropertyOrder({"count", "p50", "p99", "p99.9", "max"})
+public record LatencySnapshot(
+        long count,
+        double p50,
+        double p99,
+        @JsonProperty("p99.9") double p999,
+        double max) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    static LatencySnapshot of(Histogram histogram) {
+        return new LatencySnapshot(
+                histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
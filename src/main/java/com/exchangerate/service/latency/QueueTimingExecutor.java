@@ -0,0 +1,91 @@
+package com.exchangerate.service.latency;
+
+import org.apache.tomcat.util.net.SocketProcessorBase;
+import org.apache.tomcat.util.threads.TaskQueue;
+import org.apache.tomcat.util.threads.TaskThreadFactory;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 記錄排隊時間的 Tomcat 工作執行緒池
+ * 與 Tomcat 內建的執行緒池相同 (TaskQueue、60 秒閒置回收)，另外在交付時記下時間，
+ * 工作執行緒開始處理連線時把等待時間交給 {@link RequestQueueWait}。
+ * 所有工作執行緒都忙碌時，新到的請求在這裡排隊，這段時間不在過濾器量測的範圍內。
+ * <p>
+ * Tomcat 會重複使用 SocketProcessor (endpoint 的 processorCache)，因此每個 SocketProcessor 配一個可重複使用的包裝，
+ * 交付時只更新時間，穩定狀態下每個請求不配置物件。包裝數有上限：尖峰時 Tomcat 另外建立、之後未放回快取的
+ * SocketProcessor 也佔用名額，名額用完後新的 SocketProcessor 與其他工作改為每次配置一個包裝。
+ */
+public class QueueTimingExecutor extends ThreadPoolExecutor {
+
+    /**
+     * 可重複使用的包裝數上限，高於 Tomcat 預設的 SocketProcessor 快取大小 (500) 與工作執行緒數
+     */
+    static final int MAX_REUSABLE = 1024;
+
+    private final Map<Runnable, Timed> reusable = new ConcurrentHashMap<>();
+
+    public QueueTimingExecutor(String namePrefix, int minSpareThreads, int maxThreads, int threadPriority) {
+        this(new TaskQueue(), namePrefix, minSpareThreads, maxThreads, threadPriority);
+    }
+
+    private QueueTimingExecutor(TaskQueue queue, String namePrefix, int minSpareThreads, int maxThreads,
+                                int threadPriority) {
+        super(minSpareThreads, maxThreads, 60, TimeUnit.SECONDS, queue,
+                new TaskThreadFactory(namePrefix, true, threadPriority));
+        queue.setParent(this);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long submitted = System.nanoTime();
+        Timed timed = wrapperFor(command);
+        timed.submitted = submitted;
+        super.execute(timed);
+    }
+
+    int reusableCount() {
+        return reusable.size();
+    }
+
+    private Timed wrapperFor(Runnable command) {
+        if (!(command instanceof SocketProcessorBase<?>)) {
+            return new Timed(command);
+        }
+        Timed timed = reusable.get(command);
+        if (timed == null) {
+            timed = new Timed(command);
+            if (reusable.size() < MAX_REUSABLE) {
+                reusable.put(command, timed);
+            }
+        }
+        return timed;
+    }
+
+    /**
+     * 同一個 SocketProcessor 要等上一次 run 結束、放回 Tomcat 的快取後才會再次交付，
+     * 此時上一次已讀過 submitted；交付與開始執行之間由工作佇列建立 happens-before，欄位不需要 volatile
+     */
+    private static final class Timed implements Runnable {
+
+        private final Runnable command;
+        private long submitted;
+
+        Timed(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            RequestQueueWait.set(System.nanoTime() - submitted);
+            try {
+                command.run();
+            } finally {
+                RequestQueueWait.set(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.exchangerate.service.latency;
+
+/**
+ * 請求在工作佇列中等待的時間
+ * QueueTimingExecutor 在工作執行緒開始處理連線時記下這次的等待時間，過濾器在請求開始時取走；
+ * 同一次處理中的後續請求 (pipelining) 取得 0，避免重複計入。每個執行緒只配置一次保存用的陣列。
+ */
+public final class RequestQueueWait {
+
+    private static final ThreadLocal<long[]> CURRENT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private RequestQueueWait() {
+    }
+
+    /**
+     * 取走目前執行緒記下的等待時間 (奈秒)，沒有時返回 0
+     */
+    public static long take() {
+        long[] holder = CURRENT.get();
+        long nanos = holder[0];
+        holder[0] = 0;
+        return nanos;
+    }
+
+    static void set(long nanos) {
+        CURRENT.get()[0] = nanos;
+    }
+}
@@ -0,0 +1,82 @@
+package com.exchangerate.service.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 連線池狀態 (/actuator/pool)：池大小、使用中 / 閒置 / 排隊中的連線數、逾時次數與取得連線的等待時間
+ * 逐一的 Micrometer 指標另見 /actuator/metrics/hikaricp.connections.*
+ */
+@Component
+@Endpoint(id = "pool")
+@ConditionalOnClass(HikariDataSource.class)
+public class ConnectionPoolEndpoint {
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionPoolEndpoint(ObjectProvider<DataSource> dataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public ConnectionPoolSnapshot pool() {
+        if (!(dataSource.getIfAvailable() instanceof HikariDataSource hikari)) {
+            return null;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return new ConnectionPoolSnapshot(
+                hikari.getPoolName(),
+                hikari.getMaximumPoolSize(),
+                hikari.getMinimumIdle(),
+                hikari.getConnectionTimeout(),
+                pool == null ? 0 : pool.getActiveConnections(),
+                pool == null ? 0 : pool.getIdleConnections(),
+                pool == null ? 0 : pool.getThreadsAwaitingConnection(),
+                registry == null ? 0 : timeouts(registry, hikari.getPoolName()),
+                registry == null ? null : acquireTime(registry, hikari.getPoolName()));
+    }
+
+    private static long timeouts(MeterRegistry registry, String pool) {
+        Counter counter = registry.find("hikaricp.connections.timeout").tag("pool", pool).counter();
+        return counter == null ? 0 : (long) counter.count();
+    }
+
+    private static ConnectionPoolSnapshot.AcquireTime acquireTime(MeterRegistry registry, String pool) {
+        Timer timer = registry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        if (timer == null) {
+            return null;
+        }
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        return new ConnectionPoolSnapshot.AcquireTime(
+                snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                percentile(snapshot, 0.5),
+                percentile(snapshot, 0.99),
+                snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+}
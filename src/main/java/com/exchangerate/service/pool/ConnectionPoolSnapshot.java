@@ -0,0 +1,26 @@
+package com.exchangerate.service.pool;
+
+/**
+ * 連線池目前的狀態 (時間單位為毫秒)
+ *
+ * @param pending 正在排隊等待連線的執行緒數
+ * @param timeouts 啟動以來等待超過 connection-timeout 而失敗的次數
+ * @param acquireTime 取得連線所花的時間 (含排隊)，沒有量測資料時為 null
+ */
+public record ConnectionPoolSnapshot(
+        String pool,
+        int maximumPoolSize,
+        int minimumIdle,
+        long connectionTimeout,
+        int active,
+        int idle,
+        int pending,
+        long timeouts,
+        AcquireTime acquireTime) {
+
+    /**
+     * 取得連線的時間分布 (毫秒)
+     */
+    public record AcquireTime(long count, double mean, double p50, double p99, double max) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.exchangerate.service.provider;
+
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ingestion.RateFileParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 以 HTTP GET 取得 JSON 匯率陣列的提供者
+ * 回應格式與匯入檔相同 (from_currency, to_currency, rate, source, updated_at)，以串流方式解析；
+ * 保留回應中的來源名稱，空白時由輪詢器填入提供者名稱。
+ * 不合法的資料列 (含來源名稱超過欄位長度) 直接略過，不影響同一回應中的其他匯率。
+ */
+public class HttpRateProvider implements RateProvider {
+
+    private final String name;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final RateFileParser parser;
+
+    public HttpRateProvider(String name, URI url, Duration timeout, HttpClient httpClient, RateFileParser parser) {
+        this.name = name;
+        this.url = url;
+        this.timeout = timeout;
+        this.httpClient = httpClient;
+        this.parser = parser;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public List<ExchangeRate> fetchRates() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Provider " + name + " returned HTTP " + response.statusCode());
+            }
+            List<ExchangeRate> rates = new ArrayList<>();
+            parser.parseJson(body, raw -> {
+                try {
+                    rates.add(raw.toExchangeRate());
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    // Skip invalid rows; the rest of the response is still usable
+                }
+            });
+            return rates;
+        }
+    }
+}
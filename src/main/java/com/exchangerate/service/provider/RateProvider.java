@@ -0,0 +1,23 @@
+package com.exchangerate.service.provider;
+
+import com.exchangerate.model.ExchangeRate;
+
+import java.util.List;
+
+/**
+ * 上游匯率提供者 SPI
+ * 實作此介面並註冊為 Spring Bean 即會被 RateProviderPoller 定期輪詢。
+ * 返回的匯率需已驗證；source 為空時以提供者名稱填入。
+ */
+public interface RateProvider {
+
+    /**
+     * 提供者名稱，作為匯率來源與監控標籤
+     */
+    String name();
+
+    /**
+     * 取得提供者目前的匯率；失敗時拋出例外，本輪略過該提供者
+     */
+    List<ExchangeRate> fetchRates() throws Exception;
+}
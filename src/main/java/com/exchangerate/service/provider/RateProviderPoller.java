@@ -0,0 +1,118 @@
+package com.exchangerate.service.provider;
+
+import com.exchangerate.config.ProviderProperties;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ingestion.RateFileParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 上游匯率提供者輪詢器
+ * 每個輪詢週期把所有提供者並行交給固定大小的執行緒池，取得的匯率交給 RateUpdateCoalescer 合併，
+ * 不直接呼叫寫入路徑。上一輪仍在執行的提供者本輪略過，慢或卡住的提供者不會累積排隊的輪詢。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "exchange-rate.providers", name = "enabled", havingValue = "true")
+public class RateProviderPoller {
+
+    private final List<RateProvider> providers;
+    private final RateUpdateCoalescer coalescer;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Map<String, AtomicBoolean> inFlight = new ConcurrentHashMap<>();
+
+    public RateProviderPoller(List<RateProvider> providerBeans, ProviderProperties properties,
+                              RateFileParser parser, RateUpdateCoalescer coalescer, MeterRegistry meterRegistry) {
+        this.coalescer = coalescer;
+        this.meterRegistry = meterRegistry;
+        this.providers = new ArrayList<>(providerBeans);
+        if (!properties.getHttp().isEmpty()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            for (ProviderProperties.Http http : properties.getHttp()) {
+                providers.add(new HttpRateProvider(http.getName(), http.getUrl(), http.getTimeout(),
+                        httpClient, parser));
+            }
+        }
+        for (RateProvider provider : providers) {
+            inFlight.put(provider.name(), new AtomicBoolean());
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, Math.min(properties.getConcurrency(),
+                providers.size())), runnable -> {
+            Thread thread = new Thread(runnable, "rate-provider-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 啟動一輪輪詢；不等待提供者完成
+     */
+    @Scheduled(fixedDelayString = "${exchange-rate.providers.poll-interval:PT10S}")
+    public void pollAll() {
+        for (RateProvider provider : providers) {
+            AtomicBoolean running = inFlight.get(provider.name());
+            if (running.compareAndSet(false, true)) {
+                executor.execute(() -> poll(provider, running));
+            } else {
+                pollCounter(provider, "skipped").increment();
+            }
+        }
+    }
+
+    public List<RateProvider> getProviders() {
+        return List.copyOf(providers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void poll(RateProvider provider, AtomicBoolean running) {
+        try {
+            for (ExchangeRate rate : provider.fetchRates()) {
+                if (rate.getSource() == null) {
+                    rate.setSource(provider.name());
+                }
+                coalescer.offer(rate);
+            }
+            pollCounter(provider, "success").increment();
+        } catch (Exception e) {
+            pollCounter(provider, "failure").increment();
+            log.warn("Polling rate provider {} failed: {}", provider.name(), e.toString());
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Counter pollCounter(RateProvider provider, String outcome) {
+        return Counter.builder("exchange.rate.provider.polls")
+                .description("Provider polls by outcome")
+                .tag("provider", provider.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
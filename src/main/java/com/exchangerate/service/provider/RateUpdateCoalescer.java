@@ -0,0 +1,164 @@
+package com.exchangerate.service.provider;
+
+import com.exchangerate.config.ProviderProperties;
+import com.exchangerate.model.CurrencyPair;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ExchangeRateService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 提供者匯率更新合併器
+ * 每個貨幣對與來源只保留視窗內最新的一筆，視窗結束時以單一批次交易寫入。
+ * 不論提供者推送多頻繁，寫入路徑與資料庫每個視窗最多只處理一次同一貨幣對與來源；
+ * 等待中的鍵數有上限，超過時捨棄新鍵，記憶體用量因此有界。
+ * 批次因資料本身寫入失敗時逐筆重試，仍失敗的那一筆記錄後捨棄，不會讓整個批次每個視窗反覆失敗。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "exchange-rate.providers", name = "enabled", havingValue = "true")
+public class RateUpdateCoalescer {
+
+    private final ExchangeRateService exchangeRateService;
+    private final ProviderProperties properties;
+
+    private final Map<PendingKey, ExchangeRate> pending = new ConcurrentHashMap<>();
+    private final Counter received;
+    private final Counter superseded;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Counter rejected;
+
+    public RateUpdateCoalescer(ExchangeRateService exchangeRateService, ProviderProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.exchangeRateService = exchangeRateService;
+        this.properties = properties;
+        this.received = counter(meterRegistry, "received");
+        this.superseded = counter(meterRegistry, "superseded");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.written = counter(meterRegistry, "written");
+        this.failed = counter(meterRegistry, "failed");
+        this.rejected = counter(meterRegistry, "rejected");
+        meterRegistry.gauge("exchange.rate.provider.pending", pending, Map::size);
+    }
+
+    /**
+     * 加入一筆更新；同一貨幣對與來源已有等待中的更新時只保留較新者
+     *
+     * @return 是否被接受 (等待數量已達上限且為新鍵時返回 false)
+     */
+    public boolean offer(ExchangeRate rate) {
+        received.increment();
+        PendingKey key = new PendingKey(CurrencyPair.of(rate.getFromCurrency(), rate.getToCurrency()),
+                rate.getSource());
+        if (!pending.containsKey(key) && pending.size() >= properties.getMaxPending()) {
+            dropped.increment();
+            return false;
+        }
+        pending.merge(key, rate, (current, offered) -> {
+            superseded.increment();
+            return isNewer(current, offered) ? current : offered;
+        });
+        return true;
+    }
+
+    /**
+     * 寫出目前視窗內合併後的更新
+     * 資料庫暫時無法使用時把未被新更新取代的資料放回，下個視窗重試；
+     * 其他錯誤改為逐筆寫入，找出無法寫入的那幾筆並捨棄。
+     *
+     * @return 寫入的筆數
+     */
+    @Scheduled(fixedDelayString = "${exchange-rate.providers.coalesce-window:PT1S}",
+            initialDelayString = "${exchange-rate.providers.coalesce-window:PT1S}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        Map<PendingKey, ExchangeRate> drained = new HashMap<>();
+        for (PendingKey key : List.copyOf(pending.keySet())) {
+            ExchangeRate rate = pending.remove(key);
+            if (rate != null) {
+                drained.put(key, rate);
+            }
+        }
+        try {
+            int count = exchangeRateService.upsertExchangeRates(new ArrayList<>(drained.values()));
+            written.increment(count);
+            return count;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                requeue(drained, e);
+                return 0;
+            }
+            log.warn("Failed to write {} coalesced provider rates, retrying one by one: {}", drained.size(),
+                    e.getMessage());
+            return writeEach(drained);
+        }
+    }
+
+    private int writeEach(Map<PendingKey, ExchangeRate> drained) {
+        int count = 0;
+        for (Map.Entry<PendingKey, ExchangeRate> entry : drained.entrySet()) {
+            try {
+                count += exchangeRateService.upsertExchangeRates(List.of(entry.getValue()));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    requeue(Map.of(entry.getKey(), entry.getValue()), e);
+                } else {
+                    rejected.increment();
+                    log.warn("Rejected provider rate {} from {}: {}", entry.getKey().pair(),
+                            entry.getKey().source(), e.getMessage());
+                }
+            }
+        }
+        written.increment(count);
+        return count;
+    }
+
+    private void requeue(Map<PendingKey, ExchangeRate> rates, RuntimeException e) {
+        failed.increment(rates.size());
+        rates.forEach(pending::putIfAbsent);
+        log.warn("Failed to write {} coalesced provider rates, retrying next window: {}", rates.size(),
+                e.getMessage());
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private static boolean isNewer(ExchangeRate current, ExchangeRate offered) {
+        return current.getTimestamp() != null && offered.getTimestamp() != null
+                && current.getTimestamp().isAfter(offered.getTimestamp());
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException || e instanceof CannotCreateTransactionException;
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder("exchange.rate.provider.updates")
+                .description("Provider rate updates by coalescing outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record PendingKey(CurrencyPair pair, String source) {
+    }
+}
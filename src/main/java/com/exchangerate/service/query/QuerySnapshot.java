@@ -0,0 +1,18 @@
+package com.exchangerate.service.query;
+
+/**
+ * 單一查詢的統計 (毫秒)
+ */
+public record QuerySnapshot(
+        long count,
+        long failures,
+        long rows,
+        double mean,
+        double max) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,32 @@
+package com.exchangerate.service.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 查詢統計 (/actuator/queries)：各 repository 查詢的次數、筆數與耗時、最近的慢查詢與 N+1 嫌疑；DELETE 清除統計
+ */
+@Component
+@Endpoint(id = "queries")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "exchange-rate.query-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsEndpoint {
+
+    private final QueryStatisticsRecorder recorder;
+    private final RepeatedStatementDetector detector;
+
+    @ReadOperation
+    public QueryStatisticsReport queries() {
+        return new QueryStatisticsReport(recorder.snapshot(), recorder.getSlowQueries(), detector.getSuspects());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+        detector.reset();
+    }
+}
@@ -0,0 +1,48 @@
+package com.exchangerate.service.query;
+
+import com.exchangerate.repository.RepositoryResults;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 在 repository 代理上量測每次方法呼叫，交給 QueryStatisticsRecorder 累計
+ * 查詢名稱為「Repository.方法(參數型別)」，區分 List 與 Page 等多載版本；名稱只在第一次呼叫時組出。
+ */
+public class QueryStatisticsInterceptor implements MethodInterceptor {
+
+    private final String repository;
+    private final QueryStatisticsRecorder recorder;
+    private final Map<Method, String> queryNames = new ConcurrentHashMap<>();
+
+    public QueryStatisticsInterceptor(String repository, QueryStatisticsRecorder recorder) {
+        this.repository = repository;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = null;
+        boolean succeeded = false;
+        try {
+            result = invocation.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            recorder.record(queryNames.computeIfAbsent(invocation.getMethod(), this::queryName),
+                    System.nanoTime() - start, RepositoryResults.rowsOf(result), succeeded);
+        }
+    }
+
+    private String queryName(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ", repository + "." + method.getName() + "(", ")"));
+    }
+}
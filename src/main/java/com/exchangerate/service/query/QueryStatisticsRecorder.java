@@ -0,0 +1,69 @@
+package com.exchangerate.service.query;
+
+import com.exchangerate.config.QueryStatisticsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * repository 查詢統計
+ * 每個查詢 (repository 方法) 累計次數、失敗數、回傳筆數與平均 / 最大耗時；超過門檻的呼叫保留在慢查詢清單並記錄警告。
+ * 累計只用 LongAdder，不配置物件也不鎖定；只有慢查詢才進入同步區塊。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "exchange-rate.query-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsRecorder {
+
+    private final QueryStatisticsProperties properties;
+    private final long slowThresholdNanos;
+    private final ConcurrentMap<String, QueryStats> queries = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    public QueryStatisticsRecorder(QueryStatisticsProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    public void record(String query, long nanos, int rows, boolean succeeded) {
+        queries.computeIfAbsent(query, key -> new QueryStats()).record(nanos, rows, succeeded);
+        if (nanos >= slowThresholdNanos) {
+            SlowQuery slowQuery = new SlowQuery(query, QuerySnapshot.millis(nanos), rows, succeeded, Instant.now());
+            log.warn("Slow query {}: {} ms, {} rows", query, slowQuery.millis(), rows);
+            synchronized (slowQueries) {
+                slowQueries.addFirst(slowQuery);
+                while (slowQueries.size() > properties.getSlowQueries()) {
+                    slowQueries.removeLast();
+                }
+            }
+        }
+    }
+
+    public Map<String, QuerySnapshot> snapshot() {
+        Map<String, QuerySnapshot> snapshot = new TreeMap<>();
+        queries.forEach((query, stats) -> snapshot.put(query, stats.snapshot()));
+        return snapshot;
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            return List.copyOf(slowQueries);
+        }
+    }
+
+    public void reset() {
+        queries.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+}
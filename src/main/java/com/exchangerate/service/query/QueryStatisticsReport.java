@@ -0,0 +1,13 @@
+package com.exchangerate.service.query;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/queries 的輸出
+ */
+public record QueryStatisticsReport(
+        Map<String, QuerySnapshot> queries,
+        List<SlowQuery> slowQueries,
+        List<RepeatedStatement> repeatedStatements) {
+}
@@ -0,0 +1,38 @@
+package com.exchangerate.service.query;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 單一查詢的累計統計；各欄位獨立累加，讀取時不保證彼此一致
+ */
+class QueryStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rows = new LongAdder();
+
+    void record(long nanos, int rowCount, boolean succeeded) {
+        count.increment();
+        if (!succeeded) {
+            failures.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+    }
+
+    QuerySnapshot snapshot() {
+        long calls = count.sum();
+        return new QuerySnapshot(
+                calls,
+                failures.sum(),
+                rows.sum(),
+                calls == 0 ? 0 : QuerySnapshot.millis(totalNanos.sum() / calls),
+                QuerySnapshot.millis(maxNanos.get()));
+    }
+}
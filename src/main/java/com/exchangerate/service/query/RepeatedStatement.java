@@ -0,0 +1,16 @@
+package com.exchangerate.service.query;
+
+import java.time.Instant;
+
+/**
+ * N+1 嫌疑：同一 SQL 在單一交易中重複執行
+ *
+ * @param transactions 出現重複執行的交易數
+ * @param maxRepetitions 單一交易中的最多執行次數
+ */
+public record RepeatedStatement(
+        String sql,
+        long transactions,
+        int maxRepetitions,
+        Instant lastSeen) {
+}
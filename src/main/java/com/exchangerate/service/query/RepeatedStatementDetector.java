@@ -0,0 +1,96 @@
+package com.exchangerate.service.query;
+
+import com.exchangerate.config.QueryStatisticsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * N+1 查詢偵測 (Hibernate StatementInspector)
+ * 依 sample-rate 抽樣交易：抽中的交易在執行期間計算每個 SQL 的執行次數，交易結束時將達門檻的 SQL 列為嫌疑；
+ * 未抽中的交易只在第一個 SQL 時擲一次骰子。不在交易同步範圍內的 SQL 不追蹤。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "exchange-rate.query-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RepeatedStatementDetector implements StatementInspector {
+
+    // Distinct SQL strings are bounded by the repository methods, except IN lists of varying length
+    private static final int MAX_SUSPECTS = 100;
+    private static final Object NOT_SAMPLED = new Object();
+
+    private final QueryStatisticsProperties properties;
+    private final ConcurrentMap<String, RepeatedStatement> suspects = new ConcurrentHashMap<>();
+
+    @Override
+    public String inspect(String sql) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return sql;
+        }
+        Object tally = TransactionSynchronizationManager.getResource(this);
+        if (tally == null) {
+            tally = ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()
+                    ? new HashMap<String, Integer>() : NOT_SAMPLED;
+            bind(tally);
+        }
+        if (tally instanceof Map<?, ?> counts) {
+            @SuppressWarnings("unchecked")
+            Map<String, Integer> statementCounts = (Map<String, Integer>) counts;
+            statementCounts.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    public List<RepeatedStatement> getSuspects() {
+        return suspects.values().stream()
+                .sorted(Comparator.comparingInt(RepeatedStatement::maxRepetitions).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        suspects.clear();
+    }
+
+    // === 輔助方法 ===
+    private void bind(Object tally) {
+        TransactionSynchronizationManager.bindResource(this, tally);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RepeatedStatementDetector.this);
+                if (tally instanceof Map<?, ?> counts) {
+                    ((Map<String, Integer>) counts).forEach(RepeatedStatementDetector.this::evaluate);
+                }
+            }
+        });
+    }
+
+    private void evaluate(String sql, int executions) {
+        if (executions < properties.getRepeatedStatementThreshold()
+                || (suspects.size() >= MAX_SUSPECTS && !suspects.containsKey(sql))) {
+            return;
+        }
+        RepeatedStatement updated = suspects.merge(sql,
+                new RepeatedStatement(sql, 1, executions, Instant.now()),
+                (previous, current) -> new RepeatedStatement(sql, previous.transactions() + 1,
+                        Math.max(previous.maxRepetitions(), executions), current.lastSeen()));
+        if (updated.transactions() == 1) {
+            log.warn("Possible N+1 query: statement executed {} times in one transaction: {}", executions, sql);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.exchangerate.service.query;
+
+import java.time.Instant;
+
+/**
+ * 超過門檻的 repository 呼叫
+ */
+public record SlowQuery(
+        String query,
+        double millis,
+        int rows,
+        boolean succeeded,
+        Instant timestamp) {
+}
@@ -0,0 +1,64 @@
+package com.exchangerate.service.routing;
+
+import com.exchangerate.dto.ExchangeRateView;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 換算路徑
+ * 由一或多段匯率組成，於匯率變動時預先計算 (含合成匯率與路徑字串)，換算時直接使用；
+ * 直接、反向與多段路徑在請求時的成本相同，都只是讀取欄位。
+ */
+public record ConversionRoute(List<Leg> legs, double cost, BigDecimal rate, String path) {
+
+    /**
+     * 由各段匯率建立路徑，合成匯率為各段匯率相乘 (中間不四捨五入)
+     */
+    public static ConversionRoute of(List<Leg> legs, double cost) {
+        BigDecimal rate = legs.get(0).rate();
+        StringBuilder path = new StringBuilder(legs.get(0).from());
+        for (int i = 0; i < legs.size(); i++) {
+            if (i > 0) {
+                rate = rate.multiply(legs.get(i).rate());
+            }
+            path.append('→').append(legs.get(i).to());
+        }
+        return new ConversionRoute(List.copyOf(legs), cost, rate, path.toString());
+    }
+
+    /**
+     * 路徑中的一段匯率；inverted 表示使用已儲存匯率的反向，rate 為該段實際使用的匯率
+     * (反向時為寫入索引時預先算好的 1/rate)，stale 表示該匯率已超過時效，version 為該貨幣對匯率的版本號
+     */
+    public record Leg(ExchangeRateView exchangeRate, boolean inverted, boolean stale, BigDecimal rate, long version) {
+
+        public static Leg of(IndexedRate indexed, boolean inverted, boolean stale) {
+            return new Leg(indexed.view(), inverted, stale, indexed.rate(inverted), indexed.version());
+        }
+
+        public String from() {
+            return inverted ? exchangeRate.toCurrency() : exchangeRate.fromCurrency();
+        }
+
+        public String to() {
+            return inverted ? exchangeRate.fromCurrency() : exchangeRate.toCurrency();
+        }
+    }
+
+    public int hops() {
+        return legs.size();
+    }
+
+    /**
+     * 路徑中是否含有過期匯率 (沒有新鮮路徑時的退而求其次)
+     */
+    public boolean stale() {
+        for (Leg leg : legs) {
+            if (leg.stale()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
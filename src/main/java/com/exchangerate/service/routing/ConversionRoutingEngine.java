@@ -0,0 +1,215 @@
+package com.exchangerate.service.routing;
+
+import com.exchangerate.config.RoutingProperties;
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.model.CurrencyPair;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 換算路由引擎
+ * 以支援的貨幣為節點、現行匯率為邊 (含使用預先計算反向匯率的反向邊)，依 RoutingProperties 計算邊成本，
+ * 維護全貨幣對最短路徑 (Floyd-Warshall)。已標記過期的匯率加上 staleCost 或直接排除，
+ * 因此有新鮮路徑時不會選到過期匯率。單一匯率變動時：
+ * 邊成本下降以 O(n²) 增量鬆弛更新，邊成本上升或移除才全量重算。
+ * 本類別不是執行緒安全的，呼叫端需自行序列化寫入；產出的 RoutingTable 為不可變快照。
+ */
+@Component
+@RequiredArgsConstructor
+public class ConversionRoutingEngine {
+
+    private static final double UNREACHABLE = Double.POSITIVE_INFINITY;
+    private static final int NONE = -1;
+
+    private final RoutingProperties properties;
+
+    private final int size = CurrencyConstants.SUPPORTED_CURRENCIES.size();
+    private final CurrencyPair[][] pairs = createPairs(size);
+    private final double[][] edgeCost = filled(size, UNREACHABLE);
+    private final ConversionRoute.Leg[][] edgeLeg = new ConversionRoute.Leg[size][size];
+    private final double[][] dist = new double[size][size];
+    private final int[][] next = new int[size][size];
+
+    /**
+     * 依全部匯率重算所有邊成本與最短路徑
+     */
+    public RoutingTable rebuild(Map<CurrencyPair, IndexedRate> rates, Set<CurrencyPair> stalePairs,
+                                LocalDateTime now) {
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                if (from != to) {
+                    computeEdge(from, to, rates, stalePairs, now);
+                }
+            }
+        }
+        computeAllPairs();
+        return snapshot();
+    }
+
+    /**
+     * 單一貨幣對的匯率或過期狀態變動後增量更新最短路徑
+     */
+    public RoutingTable update(Map<CurrencyPair, IndexedRate> rates, Set<CurrencyPair> stalePairs,
+                               CurrencyPair changed, LocalDateTime now) {
+        int u = CurrencyConstants.indexOf(changed.from());
+        int v = CurrencyConstants.indexOf(changed.to());
+        if (u < 0 || v < 0 || u == v) {
+            return snapshot();
+        }
+        boolean fullRecompute = updateEdge(u, v, rates, stalePairs, now);
+        fullRecompute |= updateEdge(v, u, rates, stalePairs, now);
+        if (fullRecompute) {
+            computeAllPairs();
+        }
+        return snapshot();
+    }
+
+    /**
+     * 重新計算單一方向的邊；成本下降時就地鬆弛，返回是否需要全量重算
+     */
+    private boolean updateEdge(int from, int to, Map<CurrencyPair, IndexedRate> rates,
+                               Set<CurrencyPair> stalePairs, LocalDateTime now) {
+        double previous = edgeCost[from][to];
+        computeEdge(from, to, rates, stalePairs, now);
+        double current = edgeCost[from][to];
+        if (current < previous) {
+            relax(from, to, current);
+            return false;
+        }
+        return current > previous;
+    }
+
+    private void computeEdge(int from, int to, Map<CurrencyPair, IndexedRate> rates,
+                             Set<CurrencyPair> stalePairs, LocalDateTime now) {
+        boolean directStale = stalePairs.contains(pairs[from][to]);
+        boolean reverseStale = stalePairs.contains(pairs[to][from]);
+        IndexedRate direct = usable(rates.get(pairs[from][to]), directStale);
+        IndexedRate reverse = usable(rates.get(pairs[to][from]), reverseStale);
+        double directCost = direct == null ? UNREACHABLE : legCost(direct.view(), false, directStale, now);
+        double inverseCost = reverse == null ? UNREACHABLE : legCost(reverse.view(), true, reverseStale, now);
+
+        if (directCost <= inverseCost && direct != null) {
+            edgeCost[from][to] = directCost;
+            edgeLeg[from][to] = ConversionRoute.Leg.of(direct, false, directStale);
+        } else if (reverse != null) {
+            edgeCost[from][to] = inverseCost;
+            edgeLeg[from][to] = ConversionRoute.Leg.of(reverse, true, reverseStale);
+        } else {
+            edgeCost[from][to] = UNREACHABLE;
+            edgeLeg[from][to] = null;
+        }
+    }
+
+    private IndexedRate usable(IndexedRate rate, boolean stale) {
+        return stale && properties.isExcludeStale() ? null : rate;
+    }
+
+    double legCost(ExchangeRateView rate, boolean inverted, boolean stale, LocalDateTime now) {
+        double cost = properties.getHopCost() + properties.sourceCost(rate.source());
+        if (inverted) {
+            cost += properties.getInverseCost();
+        }
+        if (stale) {
+            cost += properties.getStaleCost();
+        }
+        if (rate.timestamp() != null && properties.getStalenessCostPerMinute() > 0) {
+            long ageSeconds = Math.max(0, Duration.between(rate.timestamp(), now).toSeconds());
+            cost += Math.min(properties.getMaxStalenessCost(),
+                    properties.getStalenessCostPerMinute() * ageSeconds / 60.0);
+        }
+        return cost;
+    }
+
+    private void computeAllPairs() {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                dist[i][j] = i == j ? 0 : edgeCost[i][j];
+                next[i][j] = i != j && edgeCost[i][j] < UNREACHABLE ? j : NONE;
+            }
+        }
+        for (int k = 0; k < size; k++) {
+            for (int i = 0; i < size; i++) {
+                if (dist[i][k] == UNREACHABLE) {
+                    continue;
+                }
+                for (int j = 0; j < size; j++) {
+                    double viaK = dist[i][k] + dist[k][j];
+                    if (viaK < dist[i][j]) {
+                        dist[i][j] = viaK;
+                        next[i][j] = next[i][k];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 邊 (u,v) 成本下降時，所有經過該邊可變短的路徑只需 O(n²) 一次鬆弛
+     */
+    private void relax(int u, int v, double cost) {
+        for (int i = 0; i < size; i++) {
+            if (dist[i][u] == UNREACHABLE) {
+                continue;
+            }
+            for (int j = 0; j < size; j++) {
+                double viaEdge = dist[i][u] + cost + dist[v][j];
+                if (viaEdge < dist[i][j]) {
+                    dist[i][j] = viaEdge;
+                    next[i][j] = i == u ? v : next[i][u];
+                }
+            }
+        }
+    }
+
+    private RoutingTable snapshot() {
+        ConversionRoute[][] routes = new ConversionRoute[size][size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                if (from != to && next[from][to] != NONE) {
+                    routes[from][to] = buildRoute(from, to);
+                }
+            }
+        }
+        return new RoutingTable(routes);
+    }
+
+    private ConversionRoute buildRoute(int from, int to) {
+        List<ConversionRoute.Leg> legs = new ArrayList<>(2);
+        int current = from;
+        while (current != to && legs.size() < size) {
+            int hop = next[current][to];
+            legs.add(edgeLeg[current][hop]);
+            current = hop;
+        }
+        return ConversionRoute.of(legs, dist[from][to]);
+    }
+
+    private static CurrencyPair[][] createPairs(int size) {
+        CurrencyPair[][] pairs = new CurrencyPair[size][size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                pairs[from][to] = new CurrencyPair(
+                        CurrencyConstants.SUPPORTED_CURRENCIES.get(from),
+                        CurrencyConstants.SUPPORTED_CURRENCIES.get(to));
+            }
+        }
+        return pairs;
+    }
+
+    private static double[][] filled(int size, double value) {
+        double[][] matrix = new double[size][size];
+        for (double[] row : matrix) {
+            Arrays.fill(row, value);
+        }
+        return matrix;
+    }
+}
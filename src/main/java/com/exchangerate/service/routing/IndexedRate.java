@@ -0,0 +1,26 @@
+package com.exchangerate.service.routing;
+
+import com.exchangerate.dto.ExchangeRateView;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 索引中的匯率，連同寫入時預先算好的反向匯率 (1/rate，6 位小數)
+ * 反向換算直接使用 inverseRate，不在每次請求時做 BigDecimal 除法。
+ * version 為貨幣對匯率的版本號，彙整匯率每次變動時遞增，供換算結果快取判斷是否仍有效。
+ */
+public record IndexedRate(ExchangeRateView view, BigDecimal inverseRate, long version) {
+
+    public static IndexedRate of(ExchangeRateView view) {
+        return of(view, 0);
+    }
+
+    public static IndexedRate of(ExchangeRateView view, long version) {
+        return new IndexedRate(view, BigDecimal.ONE.divide(view.rate(), 6, RoundingMode.HALF_UP), version);
+    }
+
+    public BigDecimal rate(boolean inverted) {
+        return inverted ? inverseRate : view.rate();
+    }
+}
@@ -0,0 +1,30 @@
+package com.exchangerate.service.routing;
+
+import com.exchangerate.constants.CurrencyConstants;
+
+import java.util.Optional;
+
+/**
+ * 不可變的全貨幣對路由表快照
+ * 以貨幣固定索引 (CurrencyConstants.indexOf) 存放每個方向的最佳換算路徑
+ */
+public final class RoutingTable {
+
+    public static final RoutingTable EMPTY =
+            new RoutingTable(new ConversionRoute[CurrencyConstants.SUPPORTED_CURRENCIES.size()][]);
+
+    private final ConversionRoute[][] routes;
+
+    RoutingTable(ConversionRoute[][] routes) {
+        this.routes = routes;
+    }
+
+    public Optional<ConversionRoute> find(String fromCurrency, String toCurrency) {
+        int from = CurrencyConstants.indexOf(fromCurrency);
+        int to = CurrencyConstants.indexOf(toCurrency);
+        if (from < 0 || to < 0 || routes[from] == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(routes[from][to]);
+    }
+}
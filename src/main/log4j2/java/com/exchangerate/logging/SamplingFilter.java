@@ -0,0 +1,141 @@
+package com.exchangerate.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 熱路徑除錯事件抽樣過濾器 (Log4j2 全域過濾器，log4j2 profile)
+ * 帶有指定標記且等級不高於 level 的事件只保留約 1/rate (抽中回傳 onMatch，預設 ACCEPT；未抽中回傳 onMismatch，預設 DENY)，
+ * 其餘事件不受影響。抽中的事件略過 logger 等級判斷，com.exchangerate 維持 INFO 時仍會輸出。
+ * 全域過濾器在呼叫端執行緒、建立事件之前判斷，被丟棄的事件不會格式化也不進入環形緩衝區；
+ * 覆寫每個參數個數的多載，避免 AbstractFilter 預設實作配置參數陣列。
+ */
+@Plugin(name = "SamplingFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public final class SamplingFilter extends AbstractFilter {
+
+    private final Marker marker;
+    private final int rate;
+    private final Level level;
+
+    private SamplingFilter(Marker marker, int rate, Level level, Result onMatch, Result onMismatch) {
+        super(onMatch, onMismatch);
+        this.marker = marker;
+        this.rate = rate;
+        this.level = level;
+    }
+
+    @PluginFactory
+    public static SamplingFilter createFilter(
+            @PluginAttribute(value = "marker", defaultString = "HOT_PATH") String marker,
+            @PluginAttribute(value = "rate", defaultInt = 100) int rate,
+            @PluginAttribute("level") Level level,
+            @PluginAttribute("onMatch") Result onMatch,
+            @PluginAttribute("onMismatch") Result onMismatch) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("SamplingFilter rate must be at least 1: " + rate);
+        }
+        return new SamplingFilter(MarkerManager.getMarker(marker), rate, level == null ? Level.DEBUG : level,
+                onMatch == null ? Result.ACCEPT : onMatch, onMismatch == null ? Result.DENY : onMismatch);
+    }
+
+    private Result sample(Level eventLevel, Marker eventMarker) {
+        if (eventMarker == null || !eventLevel.isLessSpecificThan(level) || !eventMarker.isInstanceOf(marker)) {
+            return Result.NEUTRAL;
+        }
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0 ? onMatch : onMismatch;
+    }
+
+    @Override
+    public Result filter(LogEvent event) {
+        return sample(event.getLevel(), event.getMarker());
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object... params) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return sample(level, marker);
+    }
+
+    @Override
+    public String toString() {
+        return "marker=" + marker + ", rate=" + rate + ", level=" + level;
+    }
+}
@@ -0,0 +1,95 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.pool.ConnectionPoolEndpoint;
+import com.exchangerate.service.pool.ConnectionPoolSnapshot;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConnectionPoolConfig 單元測試
+ *
+ * 驗證依核心數計算的池大小、明確設定的覆寫，以及 /actuator/pool 輸出的池狀態與等待時間。
+ */
+@DisplayName("ConnectionPoolConfig 單元測試")
+class ConnectionPoolConfigTest {
+
+    @Test
+    @DisplayName("GIVEN: 預設設定 WHEN: 4 核心 THEN: 池大小應為 4 × 2 + 1 且為固定大小")
+    void shouldSizePoolFromCoreCount() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            ConnectionPoolConfig.apply(properties, dataSource, 4);
+
+            assertThat(dataSource.getPoolName()).isEqualTo("exchange-rate");
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(9);
+            assertThat(dataSource.getMinimumIdle()).isEqualTo(9);
+            assertThat(dataSource.getConnectionTimeout()).isEqualTo(30_000);
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 明確設定池大小、最小閒置與等待時間 WHEN: 套用 THEN: 應以設定值為準")
+    void shouldApplyExplicitSettings() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMaximumPoolSize(5);
+        properties.setMinimumIdle(2);
+        properties.setConnectionTimeout(Duration.ofSeconds(3));
+        properties.setLeakDetectionThreshold(Duration.ofSeconds(10));
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            ConnectionPoolConfig.apply(properties, dataSource, 4);
+
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(5);
+            assertThat(dataSource.getMinimumIdle()).isEqualTo(2);
+            assertThat(dataSource.getConnectionTimeout()).isEqualTo(3_000);
+            assertThat(dataSource.getLeakDetectionThreshold()).isEqualTo(10_000);
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 借出一條連線 WHEN: 讀取 /actuator/pool THEN: 應回報使用中連線數與取得連線的次數")
+    void shouldReportPoolState() throws Exception {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMaximumPoolSize(2);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl("jdbc:h2:mem:connection-pool-test");
+            ConnectionPoolConfig.apply(properties, dataSource, 1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            ConnectionPoolEndpoint endpoint = new ConnectionPoolEndpoint(provider(DataSource.class, dataSource),
+                provider(MeterRegistry.class, registry));
+
+            try (Connection ignored = dataSource.getConnection()) {
+                ConnectionPoolSnapshot snapshot = endpoint.pool();
+
+                assertThat(snapshot.pool()).isEqualTo("exchange-rate");
+                assertThat(snapshot.maximumPoolSize()).isEqualTo(2);
+                assertThat(snapshot.active()).isEqualTo(1);
+                assertThat(snapshot.pending()).isZero();
+                assertThat(snapshot.timeouts()).isZero();
+                assertThat(snapshot.acquireTime().count()).isEqualTo(1);
+            }
+        }
+    }
+
+    // === 輔助方法 ===
+    private static <T> ObjectProvider<T> provider(Class<T> type, T bean) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean(type.getSimpleName(), bean);
+        return beanFactory.getBeanProvider(type);
+    }
+}
@@ -0,0 +1,82 @@
+package com.exchangerate.config;
+
+import com.exchangerate.service.RateIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * conversion-replica 設定檔測試
+ *
+ * 驗證開發工具與多餘的 actuator 端點未載入、bean 延遲建立、寫入 API 被拒絕，而換算與查詢仍可使用。
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("conversion-replica")
+@DisplayName("conversion-replica 設定檔測試")
+class ConversionReplicaProfileTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    @DisplayName("GIVEN: conversion-replica 設定檔 WHEN: 啟動 THEN: 不應載入 OpenAPI 設定且服務 bean 延遲建立")
+    void shouldLeaveOutDeveloperToolingAndInitializeLazily() {
+        assertThat(context.getBeanNamesForType(OpenApiConfig.class)).isEmpty();
+        assertThat(context.getBeanFactory().getBeanDefinition("exchangeRateService").isLazyInit()).isTrue();
+        assertThat(context.getBean(RateIndex.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN: conversion-replica 設定檔 WHEN: 呼叫換算與查詢 API THEN: 應正常回應")
+    void shouldServeReadPath() throws Exception {
+        mockMvc.perform(post("/api/convert")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.toCurrency").value("EUR"));
+        mockMvc.perform(get("/api/exchange-rates/USD/EUR"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GIVEN: conversion-replica 設定檔 WHEN: 呼叫新增、更新與刪除 API THEN: 應返回 405 且資料不變")
+    void shouldRejectWrites() throws Exception {
+        mockMvc.perform(post("/api/exchange-rates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"from_currency\":\"USD\",\"to_currency\":\"KRW\",\"rate\":1300}"))
+            .andExpect(status().isMethodNotAllowed());
+        mockMvc.perform(put("/api/exchange-rates/USD/EUR")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rate\":9.99}"))
+            .andExpect(status().isMethodNotAllowed());
+        mockMvc.perform(delete("/api/exchange-rates/USD/EUR"))
+            .andExpect(status().isMethodNotAllowed());
+
+        mockMvc.perform(get("/api/exchange-rates/USD/EUR"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rate").value(not(9.99)));
+    }
+
+    @Test
+    @DisplayName("GIVEN: conversion-replica 設定檔 WHEN: 呼叫 OpenAPI 與 actuator metrics THEN: 應返回 404，health 仍可使用")
+    void shouldNotExposeDocsOrMetrics() throws Exception {
+        mockMvc.perform(get("/v3/api-docs")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+}
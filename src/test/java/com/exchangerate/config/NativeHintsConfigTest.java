@@ -0,0 +1,52 @@
+package com.exchangerate.config;
+
+import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ingestion.IngestionReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBindingProcessor;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NativeHintsConfig 單元測試
+ *
+ * 驗證原生映像需要的 Jackson 綁定與 Lombok builder 反射提示已登錄。
+ */
+@DisplayName("NativeHintsConfig 單元測試")
+class NativeHintsConfigTest {
+
+    @Test
+    @DisplayName("GIVEN: 提示設定 WHEN: 處理 @RegisterReflectionForBinding THEN: 實體與 DTO 的存取方法應可反射呼叫")
+    void shouldRegisterBindingHints() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+
+        new RegisterReflectionForBindingProcessor().registerReflectionHints(hints.reflection(), NativeHintsConfig.class);
+
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ExchangeRate.class.getMethod("getCreatedAt")))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ConversionResponse.class.getMethod("getStaleRate")))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ExchangeRateView.class.getMethod("rate")))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(IngestionReport.class.getMethod("rowsPerSecond")))
+            .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 提示設定 WHEN: 登錄 Lombok builder 提示 THEN: builder 方法應可反射呼叫")
+    void shouldRegisterLombokBuilderHints() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+
+        new NativeHintsConfig.LombokBuilderHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onMethod(ExchangeRate.ExchangeRateBuilder.class.getMethod("build"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onMethod(ConversionResponse.ConversionResponseBuilder.class.getMethod("build"))).accepts(hints);
+    }
+}
@@ -0,0 +1,97 @@
+package com.exchangerate.config;
+
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.service.ExchangeRateService;
+import com.exchangerate.service.RateIndex;
+import com.exchangerate.service.routing.ConversionRoute;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StartupWarmup 單元測試
+ *
+ * 驗證預熱只使用有路徑的貨幣對、金額輪替，以及不支援 CRaC 的 JVM 上檢查點模式會繼續服務。
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StartupWarmup 單元測試")
+class StartupWarmupTest {
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @Mock
+    private RateIndex rateIndex;
+
+    private StartupProperties givenProperties;
+    private StartupWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        givenProperties = new StartupProperties();
+        givenProperties.setWarmupIterations(4);
+        warmup = new StartupWarmup(exchangeRateService, rateIndex, new ObjectMapper(), givenProperties);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 只有 USD/EUR 與 EUR/USD 有路徑 WHEN: 預熱 THEN: 應輪流換算這兩個貨幣對並輪替金額")
+    void shouldConvertRoutedPairsOnly() throws Exception {
+        givenRoutes("USD/EUR", "EUR/USD");
+
+        warmup.warmUp(mock(ApplicationReadyEvent.class));
+
+        ArgumentCaptor<ConversionRequest> requests = ArgumentCaptor.forClass(ConversionRequest.class);
+        verify(exchangeRateService, times(4)).convertCurrencyDetailed(requests.capture());
+        assertThat(requests.getAllValues())
+            .extracting(request -> request.getFromCurrency() + "/" + request.getToCurrency())
+            .containsOnly("USD/EUR", "EUR/USD");
+        assertThat(requests.getAllValues())
+            .extracting(ConversionRequest::getAmount)
+            .containsExactlyInAnyOrder(new BigDecimal("1.25"), new BigDecimal("1.25"),
+                new BigDecimal("2.25"), new BigDecimal("2.25"));
+        verify(exchangeRateService, times(2)).getAllExchangeRates();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 索引中沒有任何路徑 WHEN: 預熱 THEN: 不應送出換算")
+    void shouldSkipWhenNoRoutes() throws Exception {
+        givenRoutes();
+
+        warmup.warmUp(mock(ApplicationReadyEvent.class));
+
+        verify(exchangeRateService, never()).convertCurrencyDetailed(any());
+    }
+
+    @Test
+    @DisplayName("GIVEN: 檢查點模式且 JVM 不支援 CRaC WHEN: 預熱完成 THEN: 應繼續在原程序中服務且不重新載入索引")
+    void shouldContinueWhenCheckpointUnsupported() throws Exception {
+        givenRoutes("USD/EUR");
+        givenProperties.setAfterWarmup(StartupProperties.AfterWarmup.CHECKPOINT);
+
+        assertThatCode(() -> warmup.warmUp(mock(ApplicationReadyEvent.class))).doesNotThrowAnyException();
+
+        verify(rateIndex, never()).reload();
+    }
+
+    // === 輔助方法 ===
+    private void givenRoutes(String... pairs) {
+        ConversionRoute route = mock(ConversionRoute.class);
+        when(rateIndex.findRoute(anyString(), anyString())).thenAnswer(invocation ->
+            List.of(pairs).contains(invocation.getArgument(0) + "/" + invocation.getArgument(1))
+                ? Optional.of(route) : Optional.empty());
+    }
+}
@@ -24,6 +24,7 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -444,6 +445,21 @@ class ConversionControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE));
         }
+
+        @Test
+        @DisplayName("快速解析路徑應把小寫貨幣代碼轉為大寫並保留金額精度")
+        void shouldParseSimpleRequestOnFastPath() throws Exception {
+            // Given
+            when(exchangeRateService.convertCurrencyDetailed(any(ConversionRequest.class)))
+                    .thenReturn(validResponse);
+
+            // When & Then
+            mockMvc.perform(post("/api/convert")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{ \"from_currency\": \"usd\", \"to_currency\": \"eur\", \"amount\": 100.00 }"))
+                    .andExpect(status().isOk());
+            verify(exchangeRateService).convertCurrencyDetailed(validRequest);
+        }
     }
 
     // Helper methods
@@ -0,0 +1,126 @@
+package com.exchangerate.controller;
+
+import com.exchangerate.dto.ConversionRequest;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConversionRequestArgumentResolver 單元測試
+ *
+ * 驗證快速路徑直接返回解析結果，其餘請求連同已讀取的內容完整交回原本的 @RequestBody 處理器。
+ */
+@DisplayName("ConversionRequestArgumentResolver 單元測試")
+class ConversionRequestArgumentResolverTest {
+
+    private static final String FALLBACK = "fallback";
+
+    private String whenDelegatedBody;
+    private boolean whenFinishedBeforeRead;
+    private boolean whenFinishedAfterRead;
+    private ConversionRequestArgumentResolver resolver;
+    private MethodParameter parameter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        HandlerMethodArgumentResolver givenRequestBodyResolver = new HandlerMethodArgumentResolver() {
+            @Override
+            public boolean supportsParameter(MethodParameter parameter) {
+                return true;
+            }
+
+            @Override
+            public Object resolveArgument(MethodParameter parameter,
+                                          ModelAndViewContainer mavContainer,
+                                          NativeWebRequest webRequest,
+                                          WebDataBinderFactory binderFactory)
+                throws Exception {
+                ServletInputStream body = webRequest.getNativeRequest(HttpServletRequest.class).getInputStream();
+                whenFinishedBeforeRead = body.isFinished();
+                whenDelegatedBody = StreamUtils.copyToString(body, StandardCharsets.UTF_8);
+                whenFinishedAfterRead = body.isFinished();
+                return FALLBACK;
+            }
+        };
+        resolver = new ConversionRequestArgumentResolver(givenRequestBodyResolver);
+        parameter = new MethodParameter(ConversionController.class.getMethod("convertCurrency",
+            ConversionRequest.class), 0);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 控制器的請求參數 WHEN: 檢查支援 THEN: 只處理 @RequestBody ConversionRequest")
+    void shouldSupportConversionRequestBody() {
+        assertThat(parameter.hasParameterAnnotation(RequestBody.class)).isTrue();
+        assertThat(resolver.supportsParameter(parameter)).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 單純的 JSON 請求 WHEN: 解析參數 THEN: 應直接返回解析結果不交回一般流程")
+    void shouldResolveOnFastPath() throws Exception {
+        Object whenResolved = resolve("application/json",
+            "{\"from_currency\":\"usd\",\"to_currency\":\"EUR\",\"amount\":100.50}");
+
+        assertThat(whenResolved).isInstanceOfSatisfying(ConversionRequest.class, request -> {
+            assertThat(request.getFromCurrency()).isEqualTo("USD");
+            assertThat(request.getAmount()).isEqualTo(new BigDecimal("100.50"));
+        });
+        assertThat(whenDelegatedBody).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 驗證失敗的請求 WHEN: 解析參數 THEN: 應把完整主體交回一般流程")
+    void shouldReplayBodyForInvalidRequest() throws Exception {
+        String givenBody = "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":-1}";
+
+        assertThat(resolve("application/json;charset=UTF-8", givenBody)).isEqualTo(FALLBACK);
+        assertThat(whenDelegatedBody).isEqualTo(givenBody);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 超過緩衝區大小的請求 WHEN: 解析參數 THEN: 應把已讀取與剩餘的內容一起交回一般流程")
+    void shouldReplayBodyLargerThanBuffer() throws Exception {
+        String givenBody = "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100,\"padding\":\""
+            + "x".repeat(ConversionRequestArgumentResolver.BUFFER_SIZE * 2) + "\"}";
+
+        assertThat(resolve("application/json", givenBody)).isEqualTo(FALLBACK);
+        assertThat(whenDelegatedBody).isEqualTo(givenBody);
+        assertThat(whenFinishedBeforeRead).isFalse();
+        assertThat(whenFinishedAfterRead).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 非 JSON 的內容類型 WHEN: 解析參數 THEN: 不讀取主體直接交回一般流程")
+    void shouldDelegateOtherContentTypes() throws Exception {
+        String givenBody = "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100}";
+
+        assertThat(resolve("application/jsonx", givenBody)).isEqualTo(FALLBACK);
+        assertThat(resolve("text/plain", givenBody)).isEqualTo(FALLBACK);
+        assertThat(whenDelegatedBody).isEqualTo(givenBody);
+    }
+
+    // === 輔助方法 ===
+    private Object resolve(String contentType, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/convert");
+        request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return resolver.resolveArgument(parameter, null, new ServletWebRequest(request, new MockHttpServletResponse()),
+            null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.exchangerate.dto;
+
+import com.exchangerate.model.ExchangeRate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ExchangeRateView 投影序列化測試
+ * 確認列表端點改用投影後，JSON 輸出與原本的實體完全相同
+ */
+@JsonTest
+@DisplayName("ExchangeRateView 序列化測試")
+class ExchangeRateViewTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("GIVEN: 匯率實體 WHEN: 分別序列化實體與投影 THEN: JSON 應完全相同")
+    void shouldSerializeIdenticallyToEntity() throws Exception {
+        // Given - 含有來源與微秒時間戳的實體
+        ExchangeRate givenEntity = new ExchangeRate(1L, "USD", "EUR", new BigDecimal("0.920000"),
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123456000), "Central Bank");
+
+        // When - 序列化
+        String whenEntityJson = objectMapper.writeValueAsString(givenEntity);
+        String whenViewJson = objectMapper.writeValueAsString(ExchangeRateView.from(givenEntity));
+
+        // Then - 欄位順序與格式一致
+        assertThat(whenViewJson).isEqualTo(whenEntityJson);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 無來源的匯率實體 WHEN: 序列化投影 THEN: 應輸出 null 來源")
+    void shouldSerializeNullSource() throws Exception {
+        ExchangeRate givenEntity = new ExchangeRate(2L, "EUR", "GBP", new BigDecimal("0.86"),
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5), null);
+
+        assertThat(objectMapper.writeValueAsString(ExchangeRateView.from(givenEntity)))
+                .isEqualTo(objectMapper.writeValueAsString(givenEntity))
+                .contains("\"source\":null");
+    }
+}
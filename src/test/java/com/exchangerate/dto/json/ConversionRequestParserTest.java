@@ -0,0 +1,90 @@
+package com.exchangerate.dto.json;
+
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.dto.ConversionRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConversionRequestParser 單元測試
+ *
+ * 驗證快速路徑接受的請求與 Jackson 解析結果相同，其餘請求返回 null 交回一般流程。
+ */
+@DisplayName("ConversionRequestParser 單元測試")
+class ConversionRequestParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"amount\":100.00,\"to_currency\":\"EUR\",\"from_currency\":\"USD\"}",
+        " {\n  \"from_currency\" : \"GBP\",\r\n\t\"to_currency\": \"JPY\",\n  \"amount\": 0.25\n}\n",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"TWD\",\"amount\":1234567890.123456}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":12345678901234567890.5}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":1e3}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":2.5E-2}"
+    })
+    @DisplayName("GIVEN: 單純的換算請求 WHEN: 快速解析 THEN: 結果應與 Jackson 相同")
+    void shouldParseLikeJackson(String json) throws Exception {
+        ConversionRequest whenParsed = parse(json);
+
+        assertThat(whenParsed).isEqualTo(objectMapper.readValue(json, ConversionRequest.class));
+        assertThat(whenParsed.getAmount().scale())
+            .isEqualTo(objectMapper.readValue(json, ConversionRequest.class).getAmount().scale());
+    }
+
+    @Test
+    @DisplayName("GIVEN: 小寫貨幣代碼 WHEN: 快速解析 THEN: 應對應到共用的大寫貨幣代碼")
+    void shouldMapCurrencyCodesToSharedConstants() {
+        ConversionRequest whenParsed = parse("{\"from_currency\":\"usd\",\"to_currency\":\"eUr\",\"amount\":100}");
+
+        assertThat(whenParsed.getFromCurrency()).isSameAs(CurrencyConstants.SUPPORTED_CURRENCIES.get(0));
+        assertThat(whenParsed.getToCurrency()).isEqualTo("EUR");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "{}",
+        "[]",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\"}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":0}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":0.000}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":-5}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":\"100\"}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":null}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":01}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":1.}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":1e}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":1e999999999999}",
+        "{\"from_currency\":\"XXX\",\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"from_currency\":\"US\",\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"from_currency\":\"USDT\",\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"from_currency\":\"U1D\",\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"from_currency\":\"\\u0055SD\",\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"from_currency\":null,\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100,\"note\":\"x\"}",
+        "{\"from_currency\":\"USD\",\"from_currency\":\"GBP\",\"to_currency\":\"EUR\",\"amount\":100}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100,}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100} {}",
+        "{\"from_currency\":\"USD\",\"to_currency\":\"EUR\",\"amount\":100"
+    })
+    @DisplayName("GIVEN: 不在快速路徑範圍內的請求 WHEN: 快速解析 THEN: 應返回 null 交回一般流程")
+    void shouldLeaveEverythingElseToJackson(String json) {
+        assertThat(parse(json)).isNull();
+    }
+
+    // === 輔助方法 ===
+    private static ConversionRequest parse(String json) {
+        byte[] givenBody = ("##" + json + "##").getBytes(StandardCharsets.UTF_8);
+        return ConversionRequestParser.parse(givenBody, 2, givenBody.length - 4);
+    }
+}
@@ -0,0 +1,146 @@
+package com.exchangerate.dto.json;
+
+import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.model.ExchangeRate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 手寫 JSON 編碼器測試
+ *
+ * 以應用程式的 ObjectMapper (已註冊編碼器) 與未註冊編碼器的反射式對應比較輸出，驗證逐位元組相同。
+ */
+@JsonTest
+@DisplayName("手寫 JSON 編碼器測試")
+class JsonCodecTest {
+
+    private static final LocalDateTime GIVEN_TIME = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    // Same defaults Spring Boot applies, without the hand-written codecs
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+            SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+        .build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("GIVEN: 應用程式的 ObjectMapper WHEN: 查詢序列化器 THEN: 應使用手寫編碼器")
+    void shouldRegisterCodecs() throws Exception {
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(ConversionResponse.class))
+            .isInstanceOf(ConversionResponseJsonSerializer.class);
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(ExchangeRate.class))
+            .isInstanceOf(ExchangeRateJsonSerializer.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 各種換算回應 WHEN: 序列化 THEN: 應與反射式對應逐位元組相同")
+    void shouldWriteConversionResponseIdentically() throws Exception {
+        thenIdentical(response(null, null).build());
+        thenIdentical(response("USD→EUR→JPY", Boolean.TRUE).build());
+        thenIdentical(ConversionResponse.builder().build());
+        thenIdentical(response(null, null)
+            .fromAmount(new BigDecimal("1E+3"))
+            .rate(new BigDecimal("0.000000001"))
+            .build());
+    }
+
+    @Test
+    @DisplayName("GIVEN: 各種匯率 WHEN: 序列化 THEN: 應與反射式對應逐位元組相同")
+    void shouldWriteExchangeRateIdentically() throws Exception {
+        thenIdentical(rate(GIVEN_TIME, "Bank A"));
+        thenIdentical(new ExchangeRate());
+        thenIdentical(rate(GIVEN_TIME, "Bank \"A\"\n\t\\ 台灣銀行 \u0001 😀"));
+        thenIdentical(List.of(rate(GIVEN_TIME, "Bank A"), rate(GIVEN_TIME.plusDays(1), null)));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 不同精度與年份的時間 WHEN: 序列化 THEN: 應與 ISO_LOCAL_DATE_TIME 輸出相同")
+    void shouldWriteDateTimesIdentically() throws Exception {
+        for (LocalDateTime time : List.of(
+            GIVEN_TIME,
+            GIVEN_TIME.withNano(120_000_000),
+            GIVEN_TIME.withNano(1),
+            GIVEN_TIME.withNano(123_456_789),
+            GIVEN_TIME.withYear(999),
+            GIVEN_TIME.withYear(12345),
+            GIVEN_TIME.withYear(-1),
+            LocalDateTime.MAX,
+            LocalDateTime.MIN)) {
+            thenIdentical(rate(time, "Bank A"));
+            thenIdentical(response(null, null).conversionDate(time).build());
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 隨機產生的匯率與回應 WHEN: 序列化 THEN: 應與反射式對應逐位元組相同")
+    void shouldMatchReflectiveMappingForRandomValues() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime time = GIVEN_TIME.plusSeconds(random.nextInt(1_000_000))
+                .withNano(random.nextInt(1_000_000_000));
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(), random.nextInt(20) - 5);
+            ExchangeRate rate = rate(time, random.nextBoolean() ? "Bank " + i : null);
+            rate.setRate(amount);
+            thenIdentical(rate);
+            thenIdentical(response(random.nextBoolean() ? "USD→EUR" : null,
+                    random.nextBoolean() ? Boolean.TRUE : null)
+                .toAmount(amount).conversionDate(time).build());
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 格式化輸出或時間戳記模式 WHEN: 序列化 THEN: 應沿用 ObjectWriter 的設定")
+    void shouldHonourWriterConfiguration() throws Exception {
+        ExchangeRate givenRate = rate(GIVEN_TIME.withNano(5_000), "Bank A");
+
+        thenIdentical(givenRate, ObjectMapper::writerWithDefaultPrettyPrinter);
+        thenIdentical(givenRate, mapper -> mapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    // === 輔助方法 ===
+    private void thenIdentical(Object value) throws Exception {
+        thenIdentical(value, ObjectMapper::writer);
+    }
+
+    private void thenIdentical(Object value, Function<ObjectMapper, ObjectWriter> writer)
+        throws Exception {
+        byte[] expected = writer.apply(reflective).writeValueAsBytes(value);
+        byte[] actual = writer.apply(objectMapper).writeValueAsBytes(value);
+        assertThat(new String(actual, StandardCharsets.UTF_8))
+            .isEqualTo(new String(expected, StandardCharsets.UTF_8));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static ConversionResponse.ConversionResponseBuilder response(String path, Boolean stale) {
+        return ConversionResponse.builder()
+            .fromCurrency("USD")
+            .toCurrency("EUR")
+            .fromAmount(new BigDecimal("100.00"))
+            .toAmount(new BigDecimal("85.000000"))
+            .rate(new BigDecimal("0.85"))
+            .conversionDate(GIVEN_TIME)
+            .conversionPath(path)
+            .staleRate(stale);
+    }
+
+    private static ExchangeRate rate(LocalDateTime timestamp, String source) {
+        return new ExchangeRate(1L, "USD", "EUR", new BigDecimal("0.850000"), timestamp, source);
+    }
+}
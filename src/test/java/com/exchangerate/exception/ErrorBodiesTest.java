@@ -0,0 +1,114 @@
+package com.exchangerate.exception;
+
+import com.exchangerate.constants.ErrorMessages;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ErrorBodies 與業務例外單元測試
+ *
+ * 驗證預先編碼的錯誤回應與原本以 Map 交給 Jackson 序列化的結果逐位元組相同，以及業務例外不擷取堆疊。
+ */
+@DisplayName("ErrorBodies 與業務例外單元測試")
+class ErrorBodiesTest {
+
+    private static final LocalDateTime GIVEN_TIME = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    // Same defaults Spring Boot applies
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    @Test
+    @DisplayName("GIVEN: 各種錯誤訊息與時間 WHEN: 編碼 THEN: 應與 Jackson 序列化 Map 的結果相同")
+    void shouldEncodeLikeJacksonMap() throws Exception {
+        List<String> givenMessages = Arrays.asList(
+            ErrorMessages.RATE_NOT_FOUND_ERROR,
+            String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, "XXX"),
+            "金額必須大於0",
+            "quote \" backslash \\ newline \n tab \t control \u0001 emoji 😀",
+            "",
+            null);
+        for (String message : givenMessages) {
+            for (LocalDateTime time : List.of(GIVEN_TIME, GIVEN_TIME.withNano(123_400_000),
+                GIVEN_TIME.withYear(12345))) {
+                thenIdentical(message, time);
+                thenIdentical(message, time);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 錯誤狀態碼與訊息 WHEN: 建立回應 THEN: 應為 JSON 內容類型並帶有目前時間")
+    void shouldBuildJsonResponse() throws Exception {
+        ResponseEntity<byte[]> whenResponse = ErrorBodies.of(HttpStatus.NOT_FOUND,
+            ErrorMessages.RATE_NOT_FOUND_ERROR);
+
+        assertThat(whenResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(whenResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        Map<?, ?> body = objectMapper.readValue(whenResponse.getBody(), Map.class);
+        assertThat(body.get("error")).isEqualTo(ErrorMessages.RATE_NOT_FOUND_ERROR);
+        assertThat(LocalDateTime.parse((String) body.get("timestamp"))).isCloseTo(LocalDateTime.now(),
+            within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 負載卸載的例外 WHEN: 全域例外處理 THEN: 應回應 503 並以秒數 (無條件進位) 帶上 Retry-After")
+    void shouldRespondServiceUnavailableWithRetryAfter() {
+        ResponseEntity<byte[]> whenResponse = new GlobalExceptionHandler().handleServiceUnavailableException(
+            new ServiceUnavailableException(ErrorMessages.SERVICE_OVERLOADED_ERROR, Duration.ofMillis(1500)));
+
+        assertThat(whenResponse.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(whenResponse.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(new String(whenResponse.getBody(), StandardCharsets.UTF_8))
+            .contains(ErrorMessages.SERVICE_OVERLOADED_ERROR);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 大量不同的錯誤訊息 WHEN: 編碼 THEN: 快取數量應不超過上限且輸出仍正確")
+    void shouldBoundMessageCache() throws Exception {
+        for (int i = 0; i < ErrorBodies.MAX_CACHED_MESSAGES + 100; i++) {
+            thenIdentical(String.format(ErrorMessages.UNSUPPORTED_CURRENCY_ERROR, "X" + i), GIVEN_TIME);
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 預期中的業務錯誤 WHEN: 建立例外 THEN: 不應擷取堆疊")
+    void shouldNotCaptureStackTraces() {
+        assertThat(new InvalidRequestException(ErrorMessages.SAME_CURRENCY_ERROR))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(ErrorMessages.SAME_CURRENCY_ERROR);
+        assertThat(new InvalidRequestException("x").getStackTrace()).isEmpty();
+        assertThat(new ResourceNotFoundException("x").getStackTrace()).isEmpty();
+        assertThat(new DuplicateResourceException("x").getStackTrace()).isEmpty();
+        assertThat(new ServiceUnavailableException("x", Duration.ofSeconds(1)).getStackTrace()).isEmpty();
+    }
+
+    // === 輔助方法 ===
+    private void thenIdentical(String message, LocalDateTime time) throws Exception {
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("error", message);
+        expected.put("timestamp", time);
+
+        assertThat(new String(ErrorBodies.encode(message, time), StandardCharsets.UTF_8))
+            .isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+}
@@ -0,0 +1,111 @@
+package com.exchangerate.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SamplingTurboFilter 單元測試
+ *
+ * 驗證只抽樣帶熱路徑標記的低等級事件，其餘事件一律放行。
+ */
+@DisplayName("SamplingTurboFilter 單元測試")
+class SamplingTurboFilterTest {
+
+    @Test
+    @DisplayName("GIVEN: 抽樣 1/100 WHEN: 一萬個熱路徑除錯事件 THEN: 應只保留約 1%")
+    void shouldSampleHotPathDebugEvents() {
+        SamplingTurboFilter filter = startedFilter(100);
+
+        long kept = IntStream.range(0, 10_000)
+            .mapToObj(i -> filter.decide(LogMarkers.HOT_PATH, null, Level.DEBUG, "Converted {} via {}", null, null))
+            .filter(reply -> reply == FilterReply.ACCEPT)
+            .count();
+
+        assertThat(kept).isBetween(50L, 200L);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽樣 1/1000000 WHEN: 熱路徑 INFO、無標記除錯與其他標記事件 THEN: 都不應被丟棄")
+    void shouldPassOtherEvents() {
+        SamplingTurboFilter filter = startedFilter(1_000_000);
+        Marker other = MarkerFactory.getMarker("OTHER");
+
+        assertThat(filter.decide(LogMarkers.HOT_PATH, null, Level.INFO, "Converted {}", null, null))
+            .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, null, Level.DEBUG, "Converted {}", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(other, null, Level.DEBUG, "Converted {}", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽樣 1/1000000 WHEN: 熱路徑 TRACE 事件 THEN: 應被丟棄")
+    void shouldSampleFinerLevels() {
+        SamplingTurboFilter filter = startedFilter(1_000_000);
+
+        assertThat(filter.decide(LogMarkers.HOT_PATH, null, Level.TRACE, "Converted", null, null))
+            .isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("GIVEN: logger 等級為 INFO WHEN: 熱路徑除錯事件被抽中 THEN: 應輸出，未抽中的應丟棄")
+    void shouldEmitSampledEventsAboveLoggerLevel() {
+        LoggerContext context = new LoggerContext();
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setRate(4);
+        filter.start();
+        context.addTurboFilter(filter);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        try {
+            Logger logger = context.getLogger("com.exchangerate.service.ExchangeRateService");
+
+            for (int i = 0; i < 400; i++) {
+                logger.debug(LogMarkers.HOT_PATH, "Converted {} via {}", i, "USD→TWD");
+                logger.debug("Not sampled {}", i);
+            }
+
+            assertThat(appender.list).hasSizeBetween(50, 150)
+                .allSatisfy(event -> assertThat(event.getMarkerList()).containsExactly(LogMarkers.HOT_PATH));
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽樣比例小於 1 WHEN: 啟動過濾器 THEN: 不應啟動")
+    void shouldRejectInvalidRate() {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(new LoggerContext());
+        filter.setRate(0);
+
+        filter.start();
+
+        assertThat(filter.isStarted()).isFalse();
+    }
+
+    // === 輔助方法 ===
+
+    private static SamplingTurboFilter startedFilter(int rate) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(new LoggerContext());
+        filter.setRate(rate);
+        filter.start();
+        return filter;
+    }
+}
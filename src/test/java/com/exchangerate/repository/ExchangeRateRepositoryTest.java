@@ -1,6 +1,8 @@
 package com.exchangerate.repository;
 
+import com.exchangerate.dto.ExchangeRateView;
 import com.exchangerate.model.ExchangeRate;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -255,6 +257,77 @@ class ExchangeRateRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("唯讀投影查詢測試")
+    class ProjectionQueryTests {
+
+        @BeforeEach
+        void setUpTestData() {
+            usdToEur = entityManager.persist(ExchangeRate.builder()
+                    .fromCurrency("USD")
+                    .toCurrency("EUR")
+                    .rate(new BigDecimal("0.85"))
+                    .source("Test Bank")
+                    .timestamp(LocalDateTime.now())
+                    .build());
+
+            usdToGbp = entityManager.persist(ExchangeRate.builder()
+                    .fromCurrency("USD")
+                    .toCurrency("GBP")
+                    .rate(new BigDecimal("0.79"))
+                    .source("Test Bank")
+                    .timestamp(LocalDateTime.now())
+                    .build());
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("應該以投影返回所有匯率且不產生受管實體")
+        void shouldProjectAllWithoutManagedEntities() {
+            // When
+            List<ExchangeRateView> views = repository.findAllProjectedBy();
+
+            // Then
+            assertThat(views).hasSize(2);
+            assertThat(views).extracting(ExchangeRateView::toCurrency)
+                    .containsExactlyInAnyOrder("EUR", "GBP");
+            assertThat(managedEntityCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("應該以投影返回與實體相同的欄位值")
+        void shouldProjectSameValuesAsEntity() {
+            // When
+            List<ExchangeRateView> views = repository.findProjectedByFromCurrencyAndToCurrency("USD", "EUR");
+
+            // Then
+            assertThat(views).hasSize(1);
+            ExchangeRateView view = views.get(0);
+            assertThat(view.id()).isEqualTo(usdToEur.getId());
+            assertThat(view.rate()).isEqualByComparingTo(new BigDecimal("0.85"));
+            assertThat(view.source()).isEqualTo("Test Bank");
+            assertThat(view.createdAt()).isEqualTo(view.timestamp());
+        }
+
+        @Test
+        @DisplayName("應該支援投影分頁查詢")
+        void shouldPageProjections() {
+            // When
+            Page<ExchangeRateView> page = repository.findProjectedByFromCurrency("USD", PageRequest.of(0, 1));
+
+            // Then
+            assertThat(page.getContent()).hasSize(1);
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(managedEntityCount()).isZero();
+        }
+
+        private int managedEntityCount() {
+            return entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+        }
+    }
+
     @Nested
     @DisplayName("分頁與排序測試")
     class PaginationAndSortingTests {
@@ -422,6 +495,21 @@ class ExchangeRateRepositoryTest {
             assertThat(notExists).isFalse();
         }
 
+        @Test
+        @DisplayName("應該支援依來源的 exists 查詢")
+        void shouldSupportExistsBySourceQuery() {
+            // Given
+            entityManager.persistAndFlush(testExchangeRate);
+
+            // When
+            boolean sameSource = repository.existsByFromCurrencyAndToCurrencyAndSource("USD", "EUR", "Test Bank");
+            boolean otherSource = repository.existsByFromCurrencyAndToCurrencyAndSource("USD", "EUR", "Other Bank");
+
+            // Then
+            assertThat(sameSource).isTrue();
+            assertThat(otherSource).isFalse();
+        }
+
         @Test
         @DisplayName("應該支援 count 查詢")
         void shouldSupportCountQuery() {
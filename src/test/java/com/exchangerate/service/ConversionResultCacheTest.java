@@ -0,0 +1,134 @@
+package com.exchangerate.service;
+
+import com.exchangerate.config.LookupCacheProperties;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.service.routing.ConversionRoute;
+import com.exchangerate.service.routing.IndexedRate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConversionResultCache 單元測試
+ *
+ * 驗證命中、匯率版本變動後重新計算、記憶體上限與指標。
+ */
+@DisplayName("ConversionResultCache 單元測試")
+class ConversionResultCacheTest {
+
+    private LookupCacheProperties givenProperties;
+    private MeterRegistry meterRegistry;
+    private ConversionResultCache cache;
+    private final AtomicInteger calculations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        givenProperties = new LookupCacheProperties();
+        givenCache();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 同一貨幣對與金額 WHEN: 路徑匯率未變動 THEN: 應只計算一次")
+    void shouldReuseResultWhileRouteVersionsAreUnchanged() {
+        ConversionRoute route = route("0.85", 1);
+
+        BigDecimal first = convert("100", route);
+        BigDecimal second = convert("100", route);
+
+        assertThat(first).isEqualByComparingTo("85.000000");
+        assertThat(second).isSameAs(first);
+        assertThat(calculations).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 已快取的結果 WHEN: 路徑上的匯率版本變動 THEN: 應以新匯率重新計算")
+    void shouldRecalculateWhenRouteVersionChanges() {
+        convert("100", route("0.85", 1));
+
+        BigDecimal updated = convert("100", route("0.90", 2));
+
+        assertThat(updated).isEqualByComparingTo("90.000000");
+        assertThat(calculations).hasValue(2);
+        assertThat(requests("invalidated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 小數位數不同的相同金額 WHEN: 換算 THEN: 應視為不同的快取項目")
+    void shouldKeyOnAmountIncludingScale() {
+        ConversionRoute route = route("0.85", 1);
+
+        convert("100", route);
+        convert("100.00", route);
+
+        assertThat(calculations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 記憶體上限 2KB WHEN: 寫入大量不同金額 THEN: 估算用量應不超過上限並記錄淘汰")
+    void shouldStayWithinMemoryBound() {
+        givenProperties.getConversionResults().setMaximumSize(DataSize.ofKilobytes(2));
+        givenCache();
+        ConversionRoute route = route("0.85", 1);
+
+        for (int i = 1; i <= 500; i++) {
+            convert(String.valueOf(i), route);
+        }
+        cache.cleanUp();
+
+        assertThat(cache.estimatedBytes()).isPositive().isLessThanOrEqualTo(2048);
+        assertThat(meterRegistry.get("exchange.rate.conversion.cache.evictions").counter().count()).isPositive();
+        assertThat(meterRegistry.get("exchange.rate.conversion.cache.bytes").gauge().value())
+            .isEqualTo((double) cache.estimatedBytes());
+    }
+
+    @Test
+    @DisplayName("GIVEN: 快取停用 WHEN: 重複換算 THEN: 每次都應重新計算")
+    void shouldBypassWhenDisabled() {
+        givenProperties.getConversionResults().setEnabled(false);
+        givenCache();
+        ConversionRoute route = route("0.85", 1);
+
+        convert("100", route);
+        convert("100", route);
+
+        assertThat(calculations).hasValue(2);
+        assertThat(cache.estimatedBytes()).isZero();
+    }
+
+    // === 輔助方法 ===
+    private void givenCache() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ConversionResultCache(givenProperties, meterRegistry);
+    }
+
+    private BigDecimal convert(String amount, ConversionRoute route) {
+        BigDecimal givenAmount = new BigDecimal(amount);
+        return cache.get("USD", "EUR", givenAmount, route, () -> {
+            calculations.incrementAndGet();
+            return givenAmount.multiply(route.rate()).setScale(6, RoundingMode.HALF_UP);
+        });
+    }
+
+    private static ConversionRoute route(String rate, long version) {
+        IndexedRate indexed = IndexedRate.of(new ExchangeRateView(1L, "USD", "EUR", new BigDecimal(rate),
+            LocalDateTime.now(), "test"), version);
+        return ConversionRoute.of(List.of(ConversionRoute.Leg.of(indexed, false, false)), 1.0);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("exchange.rate.conversion.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,177 @@
+package com.exchangerate.service;
+
+import com.exchangerate.model.CurrencyPair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CurrencyPairLocks 單元測試
+ *
+ * 驗證同一貨幣對的「檢查 → 寫入」具原子性、不同貨幣對可並行，
+ * 以及交易中取得的鎖會持有到交易完成。
+ */
+@DisplayName("CurrencyPairLocks 單元測試")
+class CurrencyPairLocksTest {
+
+    private static final CurrencyPair USD_EUR = new CurrencyPair("USD", "EUR");
+    private static final CurrencyPair USD_JPY = new CurrencyPair("USD", "JPY");
+
+    private final CurrencyPairLocks pairLocks = new CurrencyPairLocks();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("同一貨幣對寫入測試")
+    class SamePairTests {
+
+        @Test
+        @DisplayName("GIVEN: 多執行緒同時寫入同一貨幣對 WHEN: 先檢查再寫入 THEN: 只有一筆寫入成功")
+        void shouldMakeCheckThenInsertAtomic() throws Exception {
+            // Given - 模擬資料庫中的貨幣對集合
+            Set<CurrencyPair> storedPairs = ConcurrentHashMap.newKeySet();
+            AtomicInteger inserted = new AtomicInteger();
+
+            // When - 32 條執行緒同時新增相同貨幣對
+            runConcurrently(32, () -> pairLocks.executeLocked(USD_EUR, () -> {
+                if (!storedPairs.contains(USD_EUR)) {
+                    Thread.yield();
+                    storedPairs.add(USD_EUR);
+                    inserted.incrementAndGet();
+                }
+                return null;
+            }));
+
+            // Then - 重複檢查不會被插隊
+            assertThat(inserted).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("GIVEN: 交易同步已啟用 WHEN: 動作執行完畢 THEN: 鎖應持有到交易完成")
+        void shouldHoldLockUntilTransactionCompletes() {
+            // Given - 模擬進行中的交易
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When - 在交易中執行寫入動作
+            pairLocks.executeLocked(USD_EUR, () -> null);
+
+            // Then - commit 前仍持有鎖，完成後釋放
+            assertThat(pairLocks.isLocked(USD_EUR)).isTrue();
+            List<TransactionSynchronization> synchronizations =
+                new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+            assertThat(pairLocks.isLocked(USD_EUR)).isFalse();
+        }
+
+        @Test
+        @DisplayName("GIVEN: 無交易 WHEN: 動作拋出異常 THEN: 鎖應立即釋放")
+        void shouldReleaseLockWhenActionFails() {
+            assertThatThrownBy(() -> pairLocks.executeLocked(USD_EUR, () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(pairLocks.isLocked(USD_EUR)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("不同貨幣對寫入測試")
+    class DifferentPairTests {
+
+        @Test
+        @DisplayName("GIVEN: 兩個不同分段的貨幣對 WHEN: 同時寫入 THEN: 應可並行執行")
+        void shouldAllowDifferentPairsInParallel() throws Exception {
+            // Given - 確認兩個貨幣對落在不同分段
+            assertThat(pairLocks.stripeIndex(USD_EUR)).isNotEqualTo(pairLocks.stripeIndex(USD_JPY));
+            CountDownLatch bothInside = new CountDownLatch(2);
+
+            // When - 兩條執行緒各自持有鎖並等待對方進入
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<Boolean> first = executor.submit(() -> pairLocks.executeLocked(USD_EUR, () -> awaitPeer(bothInside)));
+                Future<Boolean> second = executor.submit(() -> pairLocks.executeLocked(USD_JPY, () -> awaitPeer(bothInside)));
+
+                // Then - 雙方都在鎖內相遇
+                assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("GIVEN: 多個貨幣對以相反順序鎖定 WHEN: 同時執行 THEN: 不應發生死結")
+        void shouldNotDeadlockWithMultiplePairs() throws Exception {
+            CurrencyPair[] forward = {USD_EUR, USD_JPY};
+            CurrencyPair[] backward = {USD_JPY, USD_EUR};
+            AtomicInteger completed = new AtomicInteger();
+
+            runConcurrently(16, () -> pairLocks.executeLocked(
+                completed.get() % 2 == 0 ? forward : backward, completed::incrementAndGet));
+
+            assertThat(completed).hasValue(16);
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 非 2 的次方分段數 WHEN: 建立分段鎖 THEN: 應該拋出異常")
+    void shouldRejectInvalidStripeCount() {
+        assertThatThrownBy(() -> new CurrencyPairLocks(100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // === 輔助方法 ===
+    private static boolean awaitPeer(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
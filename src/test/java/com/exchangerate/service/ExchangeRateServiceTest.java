@@ -2,14 +2,29 @@ package com.exchangerate.service;
 
 import com.exchangerate.dto.ConversionRequest;
 import com.exchangerate.dto.ConversionResponse;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.config.AggregationProperties;
+import com.exchangerate.config.CompressionProperties;
+import com.exchangerate.config.FreshnessProperties;
+import com.exchangerate.config.LookupCacheProperties;
+import com.exchangerate.config.RoutingProperties;
 import com.exchangerate.model.ExchangeRate;
 import com.exchangerate.repository.ExchangeRateRepository;
+import com.exchangerate.service.aggregation.ConsolidationPolicy;
+import com.exchangerate.service.aggregation.RateConsolidator;
+import com.exchangerate.service.compression.RateListResponseCache;
+import com.exchangerate.service.routing.ConversionRoutingEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -17,7 +32,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -43,7 +62,6 @@ class ExchangeRateServiceTest {
     @Mock
     private ExchangeRateRepository exchangeRateRepository;
 
-    @InjectMocks
     private ExchangeRateService exchangeRateService;
 
     // === 測試數據欄位 (語意化命名) ===
@@ -52,14 +70,23 @@ class ExchangeRateServiceTest {
     private ExchangeRate givenUsdToJpy;
     private ConversionRequest givenValidRequest;
     private List<ExchangeRate> givenExpectedRates;
-    private Page<ExchangeRate> givenExpectedPage;
+    private Page<ExchangeRateView> givenExpectedPage;
     private ExchangeRate whenSavedRate;
-    private List<ExchangeRate> whenResultRates;
+    private List<ExchangeRateView> whenResultRates;
     private ConversionResponse whenConversionResult;
     private Optional<ExchangeRate> whenOptionalResult;
+    private AggregationProperties givenAggregation;
 
     @BeforeEach
     void setUp() {
+        givenAggregation = new AggregationProperties();
+        RateIndex rateIndex = new RateIndex(exchangeRateRepository,
+            new ConversionRoutingEngine(new RoutingProperties()), new FreshnessProperties(),
+            new RateConsolidator(givenAggregation));
+        exchangeRateService = new ExchangeRateService(exchangeRateRepository, new CurrencyPairLocks(), rateIndex,
+            new ConversionResultCache(new LookupCacheProperties(), new SimpleMeterRegistry()),
+            new RateListResponseCache(new CompressionProperties(), new ObjectMapper()));
+
         givenUsdToEur = new ExchangeRate();
         givenUsdToEur.setId(1L);
         givenUsdToEur.setFromCurrency("USD");
@@ -149,24 +176,24 @@ class ExchangeRateServiceTest {
         // === Given 輔助方法 ===
         private void givenExistingExchangeRatesInRepository() {
             givenExpectedRates = Arrays.asList(givenUsdToEur, givenEurToUsd);
-            when(exchangeRateRepository.findAll()).thenReturn(givenExpectedRates);
+            when(exchangeRateRepository.findAllProjectedBy()).thenReturn(viewsOf(givenExpectedRates));
         }
 
         private void givenFilterByFromAndToCurrencyData() {
-            when(exchangeRateRepository.findAllByFromCurrencyAndToCurrency("USD", "EUR"))
-                .thenReturn(Collections.singletonList(givenUsdToEur));
+            when(exchangeRateRepository.findProjectedByFromCurrencyAndToCurrency("USD", "EUR"))
+                .thenReturn(viewsOf(Collections.singletonList(givenUsdToEur)));
         }
 
         private void givenFilterByFromCurrencyData() {
             List<ExchangeRate> usdRates = Arrays.asList(givenUsdToEur, givenUsdToJpy);
-            when(exchangeRateRepository.findByFromCurrency("USD")).thenReturn(usdRates);
+            when(exchangeRateRepository.findProjectedByFromCurrency("USD")).thenReturn(viewsOf(usdRates));
         }
 
         private void givenPagedExchangeRatesData() {
             Pageable pageable = PageRequest.of(0, 10);
             List<ExchangeRate> rates = Arrays.asList(givenUsdToEur, givenEurToUsd);
-            givenExpectedPage = new PageImpl<>(rates, pageable, 2);
-            when(exchangeRateRepository.findAll(pageable)).thenReturn(givenExpectedPage);
+            givenExpectedPage = new PageImpl<>(viewsOf(rates), pageable, 2);
+            when(exchangeRateRepository.findAllProjectedBy(pageable)).thenReturn(givenExpectedPage);
         }
 
         // === When 輔助方法 ===
@@ -190,26 +217,29 @@ class ExchangeRateServiceTest {
         // === Then 輔助方法 ===
         private void thenShouldReturnAllExpectedRates() {
             assertThat(whenResultRates).hasSize(2);
-            assertThat(whenResultRates).containsExactly(givenUsdToEur, givenEurToUsd);
-            verify(exchangeRateRepository).findAll();
+            assertThat(whenResultRates).containsExactly(
+                ExchangeRateView.from(givenUsdToEur), ExchangeRateView.from(givenEurToUsd));
+            verify(exchangeRateRepository).findAllProjectedBy();
         }
 
         private void thenShouldReturnFilteredRatesByPair() {
             assertThat(whenResultRates).hasSize(1);
-            assertThat(whenResultRates.get(0)).isEqualTo(givenUsdToEur);
-            verify(exchangeRateRepository).findAllByFromCurrencyAndToCurrency("USD", "EUR");
+            assertThat(whenResultRates.get(0)).isEqualTo(ExchangeRateView.from(givenUsdToEur));
+            verify(exchangeRateRepository).findProjectedByFromCurrencyAndToCurrency("USD", "EUR");
         }
 
         private void thenShouldReturnFilteredRatesByFromCurrency() {
             assertThat(whenResultRates).hasSize(2);
-            assertThat(whenResultRates).containsExactly(givenUsdToEur, givenUsdToJpy);
-            verify(exchangeRateRepository).findByFromCurrency("USD");
+            assertThat(whenResultRates).containsExactly(
+                ExchangeRateView.from(givenUsdToEur), ExchangeRateView.from(givenUsdToJpy));
+            verify(exchangeRateRepository).findProjectedByFromCurrency("USD");
+            verify(exchangeRateRepository, never()).findByFromCurrency(anyString());
         }
 
         private void thenShouldReturnPagedResults() {
             assertThat(givenExpectedPage.getContent()).hasSize(2);
             assertThat(givenExpectedPage.getTotalElements()).isEqualTo(2);
-            verify(exchangeRateRepository).findAll(any(Pageable.class));
+            verify(exchangeRateRepository).findAllProjectedBy(any(Pageable.class));
         }
     }
 
@@ -243,15 +273,79 @@ class ExchangeRateServiceTest {
             thenShouldReturnEmpty();
         }
 
-        // === Given 輔助方法 ===
-        private void givenLatestRateExists() {
+        @Test
+        @DisplayName("GIVEN: 不支援的貨幣代碼 WHEN: 查詢最新匯率 THEN: 應返回空值且不查詢資料庫")
+        void shouldReturnEmptyForUnsupportedCurrencies() {
+            // When - 以未支援的貨幣代碼查詢
+            whenOptionalResult = exchangeRateService.getLatestRate("USD", "ZZZ");
+
+            // Then - 直接返回空值
+            assertThat(whenOptionalResult).isEmpty();
+            assertThat(exchangeRateService.getLatestRate(null, "USD")).isEmpty();
+            verifyNoInteractions(exchangeRateRepository);
+        }
+
+        @Test
+        @DisplayName("GIVEN: 已載入的匯率索引 WHEN: 重複查詢與更新後查詢 THEN: 應由索引回應且更新提交後即反映新匯率")
+        void shouldServeLookupsFromIndexAndReflectWrites() {
+            // Given - 索引已載入
+            givenLatestRateExists();
+            exchangeRateService.getLatestRate("USD", "EUR");
+
+            // When - 重複查詢，再依貨幣對更新
+            exchangeRateService.getLatestRate("usd", "eur");
+            ExchangeRate updated = new ExchangeRate(1L, "USD", "EUR", new BigDecimal("0.86"),
+                givenUsdToEur.getTimestamp(), "test");
             when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR"))
                 .thenReturn(Optional.of(givenUsdToEur));
+            when(exchangeRateRepository.save(givenUsdToEur)).thenReturn(givenUsdToEur);
+            when(exchangeRateRepository.findProjectedByFromCurrencyAndToCurrency("USD", "EUR"))
+                .thenReturn(viewsOf(List.of(updated)));
+            exchangeRateService.updateExchangeRateByPair("USD", "EUR", Map.of("rate", "0.86"));
+            whenOptionalResult = exchangeRateService.getLatestRate("USD", "EUR");
+
+            // Then - 只載入一次索引，更新後只重新讀取該貨幣對
+            verify(exchangeRateRepository, times(1)).findAllProjectedBy();
+            verify(exchangeRateRepository).findProjectedByFromCurrencyAndToCurrency("USD", "EUR");
+            assertThat(whenOptionalResult).get().extracting(ExchangeRate::getRate)
+                .isEqualTo(new BigDecimal("0.86"));
+        }
+
+        @Test
+        @DisplayName("GIVEN: 兩個來源的同一貨幣對 WHEN: 分別以 GET 與 POST 方式換算 THEN: 應使用相同的彙整匯率")
+        void shouldUseConsolidatedRateForAllConversionEndpoints() {
+            // Given - 中位數彙整，兩個來源各一筆，較新的一筆並非彙整結果
+            givenAggregation.setPolicy(ConsolidationPolicy.MEDIAN);
+            LocalDateTime now = LocalDateTime.now();
+            when(exchangeRateRepository.findAllProjectedBy()).thenReturn(viewsOf(List.of(
+                new ExchangeRate(1L, "USD", "EUR", new BigDecimal("0.80"), now.minusMinutes(5), "bank-a"),
+                new ExchangeRate(2L, "USD", "EUR", new BigDecimal("0.90"), now, "bank-b"))));
+            ConversionRequest request = new ConversionRequest();
+            request.setFromCurrency("USD");
+            request.setToCurrency("EUR");
+            request.setAmount(new BigDecimal("100"));
+
+            // When - 查詢匯率、簡單換算 (GET) 與詳細換算 (POST)
+            whenOptionalResult = exchangeRateService.getLatestRate("USD", "EUR");
+            BigDecimal getAmount = exchangeRateService.convertCurrency("USD", "EUR", new BigDecimal("100"));
+            whenConversionResult = exchangeRateService.convertCurrencyDetailed(request);
+
+            // Then - 三者都使用兩來源的中位數，且不查詢單筆最新匯率
+            assertThat(whenOptionalResult).get().extracting(ExchangeRate::getRate)
+                .satisfies(rate -> assertThat(rate).isEqualByComparingTo("0.85"));
+            assertThat(getAmount).isEqualByComparingTo("85.00");
+            assertThat(whenConversionResult.getRate()).isEqualByComparingTo(whenOptionalResult.get().getRate());
+            assertThat(whenConversionResult.getToAmount()).isEqualByComparingTo(getAmount);
+            verify(exchangeRateRepository, never()).findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc(any(), any());
+        }
+
+        // === Given 輔助方法 ===
+        private void givenLatestRateExists() {
+            when(exchangeRateRepository.findAllProjectedBy()).thenReturn(viewsOf(List.of(givenUsdToEur)));
         }
 
         private void givenNoRateExists() {
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "CNY"))
-                .thenReturn(Optional.empty());
+            when(exchangeRateRepository.findAllProjectedBy()).thenReturn(viewsOf(List.of(givenUsdToEur)));
         }
 
         // === When 輔助方法 ===
@@ -267,12 +361,12 @@ class ExchangeRateServiceTest {
         private void thenShouldReturnExpectedLatestRate() {
             assertThat(whenOptionalResult).isPresent();
             assertThat(whenOptionalResult.get()).isEqualTo(givenUsdToEur);
-            verify(exchangeRateRepository).findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR");
+            verify(exchangeRateRepository, never()).findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc(any(), any());
         }
 
         private void thenShouldReturnEmpty() {
             assertThat(whenOptionalResult).isEmpty();
-            verify(exchangeRateRepository).findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "CNY");
+            verify(exchangeRateRepository).findAllProjectedBy();
         }
     }
 
@@ -305,13 +399,11 @@ class ExchangeRateServiceTest {
 
         // === Given 輔助方法 ===
         private void givenValidExchangeRateForConversion() {
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR"))
-                .thenReturn(Optional.of(givenUsdToEur));
+            when(exchangeRateRepository.findAllProjectedBy()).thenReturn(viewsOf(List.of(givenUsdToEur)));
         }
 
         private void givenNoExchangeRateForConversion() {
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "CNY"))
-                .thenReturn(Optional.empty());
+            when(exchangeRateRepository.findAllProjectedBy()).thenReturn(viewsOf(List.of(givenUsdToEur)));
         }
 
         // === When 輔助方法 ===
@@ -326,7 +418,7 @@ class ExchangeRateServiceTest {
         // === Then 輔助方法 ===
         private void thenShouldConvertSuccessfully() {
             assertThat(whenConversionResult.getToAmount()).isEqualByComparingTo(new BigDecimal("85.00"));
-            verify(exchangeRateRepository).findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR");
+            verify(exchangeRateRepository).findAllProjectedBy();
         }
 
         private void thenShouldThrowExceptionWhenConverting() {
@@ -411,6 +503,34 @@ class ExchangeRateServiceTest {
             thenShouldPerformChainConversionSuccessfully();
         }
 
+        @Test
+        @DisplayName("GIVEN: 設有門檻的 JFR 錄製 WHEN: 換算耗時超過門檻 THEN: 事件應帶有路徑類型與段數")
+        void shouldRecordRouteOnSlowConversionPastThreshold() throws Exception {
+            // Given - 第一次換算載入索引時的查詢比門檻慢
+            when(exchangeRateRepository.findAllProjectedBy()).thenAnswer(invocation -> {
+                Thread.sleep(20);
+                return viewsOf(List.of(givenUsdToEur));
+            });
+
+            // When - 在錄製中執行換算
+            List<RecordedEvent> events;
+            try (Recording recording = new Recording()) {
+                recording.enable("com.exchangerate.Conversion").withThreshold(Duration.ofMillis(5));
+                recording.start();
+                exchangeRateService.convertCurrencyDetailed(givenValidRequest);
+                recording.stop();
+                events = readConversionEvents(recording);
+            }
+
+            // Then - 慢的事件保留路徑欄位
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("pathType")).isEqualTo("DIRECT");
+                assertThat(event.getInt("hops")).isEqualTo(1);
+                assertThat(event.getString("fromCurrency")).isEqualTo("USD");
+                assertThat(event.getBoolean("succeeded")).isTrue();
+            });
+        }
+
         @Test
         @DisplayName("GIVEN: 無可用轉換路徑 WHEN: 執行詳細轉換 THEN: 應該拋出無路徑異常")
         void shouldThrowExceptionWhenNoConversionPathFound() {
@@ -441,8 +561,20 @@ class ExchangeRateServiceTest {
         }
 
         private void givenValidDirectConversionData() {
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR"))
-                .thenReturn(Optional.of(givenUsdToEur));
+            when(exchangeRateRepository.findAllProjectedBy())
+                .thenReturn(viewsOf(Arrays.asList(givenUsdToEur, givenUsdToJpy)));
+        }
+
+        private List<RecordedEvent> readConversionEvents(Recording recording) throws IOException {
+            Path file = Files.createTempFile("conversion-events-", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.exchangerate.Conversion"))
+                    .toList();
+            } finally {
+                Files.deleteIfExists(file);
+            }
         }
 
         private void givenReverseConversionData() {
@@ -452,10 +584,8 @@ class ExchangeRateServiceTest {
             reverseRequest.setAmount(new BigDecimal("100"));
             givenValidRequest = reverseRequest;
 
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR"))
-                .thenReturn(Optional.empty());
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("EUR", "USD"))
-                .thenReturn(Optional.of(givenEurToUsd));
+            when(exchangeRateRepository.findAllProjectedBy())
+                .thenReturn(viewsOf(Collections.singletonList(givenEurToUsd)));
         }
 
         private void givenChainConversionData() {
@@ -475,14 +605,8 @@ class ExchangeRateServiceTest {
             usdToJpy.setToCurrency("JPY");
             usdToJpy.setRate(new BigDecimal("110.0"));
 
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("EUR", "JPY"))
-                .thenReturn(Optional.empty());
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("JPY", "EUR"))
-                .thenReturn(Optional.empty());
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("EUR", "USD"))
-                .thenReturn(Optional.of(eurToUsd));
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "JPY"))
-                .thenReturn(Optional.of(usdToJpy));
+            when(exchangeRateRepository.findAllProjectedBy())
+                .thenReturn(viewsOf(Arrays.asList(eurToUsd, usdToJpy)));
         }
 
         private void givenNoConversionPathAvailable() {
@@ -492,8 +616,7 @@ class ExchangeRateServiceTest {
             noPathRequest.setAmount(new BigDecimal("100"));
             givenValidRequest = noPathRequest;
 
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc(anyString(), anyString()))
-                .thenReturn(Optional.empty());
+            when(exchangeRateRepository.findAllProjectedBy()).thenReturn(Collections.emptyList());
         }
 
         // === When 輔助方法 ===
@@ -605,6 +728,23 @@ class ExchangeRateServiceTest {
             thenShouldThrowInvalidRateException();
         }
 
+        @Test
+        @DisplayName("GIVEN: 同一匯率對已有其他來源 WHEN: 儲存新來源匯率 THEN: 應該成功儲存")
+        void shouldAcceptSamePairFromAnotherSource() {
+            // Given - 其他來源已有 USD/EUR，新來源尚無
+            ExchangeRate newSourceRate = new ExchangeRate(null, "USD", "EUR", new BigDecimal("0.86"), null, "Bank B");
+            when(exchangeRateRepository.existsByFromCurrencyAndToCurrencyAndSource("USD", "EUR", "Bank B"))
+                .thenReturn(false);
+            when(exchangeRateRepository.save(newSourceRate)).thenReturn(newSourceRate);
+
+            // When - 儲存新來源匯率
+            whenSavedRate = exchangeRateService.saveExchangeRate(newSourceRate);
+
+            // Then - 應儲存成功
+            assertThat(whenSavedRate.getSource()).isEqualTo("Bank B");
+            verify(exchangeRateRepository).save(newSourceRate);
+        }
+
         @Test
         @DisplayName("GIVEN: 重複匯率對 WHEN: 執行儲存 THEN: 應該拋出異常")
         void shouldThrowExceptionForDuplicateRatePair() {
@@ -624,8 +764,8 @@ class ExchangeRateServiceTest {
             newRate.setSource("test");
             givenValidRequest = new ConversionRequest(); // 重用此變數儲存測試匯率
             
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "GBP"))
-                .thenReturn(Optional.empty());
+            when(exchangeRateRepository.existsByFromCurrencyAndToCurrencyAndSource("USD", "GBP", "test"))
+                .thenReturn(false);
             when(exchangeRateRepository.save(any(ExchangeRate.class))).thenReturn(newRate);
         }
 
@@ -638,8 +778,8 @@ class ExchangeRateServiceTest {
         }
 
         private void givenDuplicateRatePair() {
-            when(exchangeRateRepository.findTopByFromCurrencyAndToCurrencyOrderByTimestampDesc("USD", "EUR"))
-                .thenReturn(Optional.of(givenUsdToEur));
+            when(exchangeRateRepository.existsByFromCurrencyAndToCurrencyAndSource("USD", "EUR", null))
+                .thenReturn(true);
         }
 
         // === When 輔助方法 ===
@@ -870,7 +1010,7 @@ class ExchangeRateServiceTest {
 
         // === Given 輔助方法 ===
         private void givenValidRateIdForDeletion() {
-            when(exchangeRateRepository.existsById(1L)).thenReturn(true);
+            when(exchangeRateRepository.findById(1L)).thenReturn(Optional.of(givenUsdToEur));
         }
 
         private void givenValidCurrencyPairForDeletion() {
@@ -894,8 +1034,8 @@ class ExchangeRateServiceTest {
 
         // === Then 輔助方法 ===
         private void thenShouldDeleteByIdSuccessfully() {
-            verify(exchangeRateRepository).existsById(1L);
-            verify(exchangeRateRepository).deleteById(1L);
+            verify(exchangeRateRepository).findById(1L);
+            verify(exchangeRateRepository).delete(givenUsdToEur);
         }
 
         private void thenShouldDeleteByPairSuccessfully() {
@@ -945,12 +1085,12 @@ class ExchangeRateServiceTest {
         // === Given 輔助方法 ===
         private void givenValidFromCurrencyQueryData() {
             List<ExchangeRate> usdRates = Arrays.asList(givenUsdToEur, givenUsdToJpy);
-            when(exchangeRateRepository.findByFromCurrency("USD")).thenReturn(usdRates);
+            when(exchangeRateRepository.findProjectedByFromCurrency("USD")).thenReturn(viewsOf(usdRates));
         }
 
         private void givenValidToCurrencyQueryData() {
             List<ExchangeRate> eurRates = Collections.singletonList(givenUsdToEur);
-            when(exchangeRateRepository.findByToCurrency("EUR")).thenReturn(eurRates);
+            when(exchangeRateRepository.findProjectedByToCurrency("EUR")).thenReturn(viewsOf(eurRates));
         }
 
         // === When 輔助方法 ===
@@ -965,12 +1105,99 @@ class ExchangeRateServiceTest {
         // === Then 輔助方法 ===
         private void thenShouldReturnMatchingFromCurrencyRates() {
             assertThat(whenResultRates).hasSize(2);
-            verify(exchangeRateRepository).findByFromCurrency("USD");
+            verify(exchangeRateRepository).findProjectedByFromCurrency("USD");
         }
 
         private void thenShouldReturnMatchingToCurrencyRates() {
             assertThat(whenResultRates).hasSize(1);
-            verify(exchangeRateRepository).findByToCurrency("EUR");
+            verify(exchangeRateRepository).findProjectedByToCurrency("EUR");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("批次寫入匯率測試")
+    class UpsertExchangeRatesTests {
+
+        @Test
+        @DisplayName("GIVEN: 已存在與新的貨幣對來源 WHEN: 批次寫入 THEN: 應更新既有資料並新增其餘資料")
+        void shouldUpdateExistingAndInsertNewRates() {
+            // Given - USD/EUR (test) 已存在，USD/GBP 尚無
+            givenUsdToEur.setTimestamp(LocalDateTime.of(2024, 1, 15, 9, 0));
+            when(exchangeRateRepository.findByFromCurrencyInAndToCurrencyIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(givenUsdToEur));
+            LocalDateTime givenUpdatedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+            List<ExchangeRate> givenBatch = List.of(
+                new ExchangeRate(null, "USD", "EUR", new BigDecimal("0.91"), givenUpdatedAt, "test"),
+                new ExchangeRate(null, "USD", "GBP", new BigDecimal("0.78"), null, "test"),
+                new ExchangeRate(null, "USD", "EUR", new BigDecimal("0.90"), givenUpdatedAt.minusMinutes(5), "test"));
+
+            // When - 批次寫入
+            int whenApplied = exchangeRateService.upsertExchangeRates(givenBatch);
+
+            // Then - 同一貨幣對來源以時間戳記最新的一筆為準，既有資料就地更新
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ExchangeRate>> saved = ArgumentCaptor.forClass(List.class);
+            verify(exchangeRateRepository, times(1)).saveAll(saved.capture());
+            assertThat(whenApplied).isEqualTo(2);
+            assertThat(saved.getValue()).hasSize(2);
+            assertThat(saved.getValue().get(0)).isSameAs(givenUsdToEur);
+            assertThat(givenUsdToEur.getRate()).isEqualByComparingTo("0.91");
+            assertThat(givenUsdToEur.getTimestamp()).isEqualTo(givenUpdatedAt);
+            assertThat(saved.getValue().get(1).getId()).isNull();
+            assertThat(saved.getValue().get(1).getToCurrency()).isEqualTo("GBP");
+            assertThat(saved.getValue().get(1).getTimestamp()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("GIVEN: 批次中有比資料庫既有資料舊的匯率 WHEN: 批次寫入 THEN: 應略過舊資料只寫入其餘資料")
+        void shouldSkipRatesOlderThanStored() {
+            // Given - 資料庫中的 USD/EUR (test) 比重送的那一筆新
+            LocalDateTime givenStoredAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+            givenUsdToEur.setTimestamp(givenStoredAt);
+            when(exchangeRateRepository.findByFromCurrencyInAndToCurrencyIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(givenUsdToEur));
+            List<ExchangeRate> givenBatch = List.of(
+                new ExchangeRate(null, "USD", "EUR", new BigDecimal("0.80"), givenStoredAt.minusHours(1), "test"),
+                new ExchangeRate(null, "USD", "GBP", new BigDecimal("0.78"), givenStoredAt.minusHours(1), "test"));
+
+            // When - 批次寫入
+            int whenApplied = exchangeRateService.upsertExchangeRates(givenBatch);
+
+            // Then - 既有資料不變，只新增 USD/GBP
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ExchangeRate>> saved = ArgumentCaptor.forClass(List.class);
+            verify(exchangeRateRepository).saveAll(saved.capture());
+            assertThat(whenApplied).isEqualTo(1);
+            assertThat(saved.getValue()).singleElement()
+                .extracting(ExchangeRate::getToCurrency).isEqualTo("GBP");
+            assertThat(givenUsdToEur.getRate()).isEqualByComparingTo("0.85");
+            assertThat(givenUsdToEur.getTimestamp()).isEqualTo(givenStoredAt);
+        }
+
+        @Test
+        @DisplayName("GIVEN: 批次中只有比資料庫既有資料舊的匯率 WHEN: 批次寫入 THEN: 不應寫入")
+        void shouldNotWriteWhenEveryRateIsStale() {
+            givenUsdToEur.setTimestamp(LocalDateTime.of(2024, 1, 15, 10, 30));
+            when(exchangeRateRepository.findByFromCurrencyInAndToCurrencyIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(givenUsdToEur));
+
+            int whenApplied = exchangeRateService.upsertExchangeRates(List.of(
+                new ExchangeRate(null, "USD", "EUR", new BigDecimal("0.80"), LocalDateTime.of(2024, 1, 1, 0, 0), "test")));
+
+            assertThat(whenApplied).isZero();
+            verify(exchangeRateRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("GIVEN: 空批次 WHEN: 批次寫入 THEN: 不應存取資料庫")
+        void shouldSkipEmptyBatch() {
+            assertThat(exchangeRateService.upsertExchangeRates(List.of())).isZero();
+            verifyNoInteractions(exchangeRateRepository);
+        }
+    }
+
+    // === 共用輔助方法 ===
+    private static List<ExchangeRateView> viewsOf(List<ExchangeRate> rates) {
+        return rates.stream().map(ExchangeRateView::from).toList();
+    }
+}
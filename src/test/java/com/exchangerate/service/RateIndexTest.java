@@ -0,0 +1,211 @@
+package com.exchangerate.service;
+
+import com.exchangerate.config.AggregationProperties;
+import com.exchangerate.config.FreshnessProperties;
+import com.exchangerate.config.RoutingProperties;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.model.CurrencyPair;
+import com.exchangerate.repository.ExchangeRateRepository;
+import com.exchangerate.service.aggregation.ConsolidationPolicy;
+import com.exchangerate.service.aggregation.RateConsolidator;
+import com.exchangerate.service.routing.ConversionRoute;
+import com.exchangerate.service.routing.ConversionRoutingEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateIndex 單元測試
+ *
+ * 驗證多來源匯率簿的彙整、匯率版本號、與資料庫的定期比對，以及過期巡檢會標記超過 SLA 的貨幣對、換算改走新鮮路徑、寫入新匯率後恢復。
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateIndex 單元測試")
+class RateIndexTest {
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    private FreshnessProperties givenFreshness;
+    private AggregationProperties givenAggregation;
+    private RateIndex rateIndex;
+
+    @BeforeEach
+    void setUp() {
+        givenFreshness = new FreshnessProperties();
+        givenFreshness.setDefaultMaxAge(Duration.ofHours(1));
+        givenAggregation = new AggregationProperties();
+        rateIndex = new RateIndex(exchangeRateRepository,
+            new ConversionRoutingEngine(new RoutingProperties()), givenFreshness,
+            new RateConsolidator(givenAggregation));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 載入時已超過 SLA 的匯率 WHEN: 載入索引 THEN: 應標記為過期並改走新鮮路徑")
+    void shouldMarkRatesBeyondSlaAsStaleOnLoad() {
+        givenRates(
+            view(1L, "EUR", "JPY", "150", 120),
+            view(2L, "EUR", "USD", "1.08", 0),
+            view(3L, "USD", "JPY", "149.50", 0));
+
+        ConversionRoute route = rateIndex.findRoute("EUR", "JPY").orElseThrow();
+
+        assertThat(rateIndex.getStalePairs()).containsExactly(new CurrencyPair("EUR", "JPY"));
+        assertThat(route.path()).isEqualTo("EUR→USD→JPY");
+        assertThat(route.stale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 個別貨幣對 SLA WHEN: 巡檢 THEN: 只有超過該貨幣對 SLA 的匯率被標記")
+    void shouldApplyPerPairSla() {
+        givenFreshness.setMaxAge(Map.of("USD/EUR", Duration.ofMinutes(1)));
+        givenRates(
+            view(1L, "USD", "EUR", "0.92", 0),
+            view(2L, "USD", "JPY", "149.50", 30));
+        rateIndex.reload();
+        assertThat(rateIndex.getStalePairs()).isEmpty();
+
+        rateIndex.sweepStaleRates(LocalDateTime.now().plusMinutes(2));
+
+        assertThat(rateIndex.getStalePairs()).containsExactly(new CurrencyPair("USD", "EUR"));
+        assertThat(rateIndex.findRoute("USD", "EUR").orElseThrow().stale()).isTrue();
+        assertThat(rateIndex.findRoute("USD", "JPY").orElseThrow().stale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 過期貨幣對 WHEN: 寫入新匯率並提交 THEN: 應恢復為新鮮並優先使用")
+    void shouldClearStaleMarkWhenFreshRateArrives() {
+        givenRates(view(1L, "USD", "EUR", "0.92", 120));
+        rateIndex.reload();
+        assertThat(rateIndex.findRoute("USD", "EUR").orElseThrow().stale()).isTrue();
+
+        when(exchangeRateRepository.findProjectedByFromCurrencyAndToCurrency("USD", "EUR"))
+            .thenReturn(List.of(view(1L, "USD", "EUR", "0.93", 0)));
+        rateIndex.refreshAfterCommit(new CurrencyPair("USD", "EUR"));
+
+        ConversionRoute route = rateIndex.findRoute("USD", "EUR").orElseThrow();
+        assertThat(rateIndex.getStalePairs()).isEmpty();
+        assertThat(route.stale()).isFalse();
+        assertThat(route.rate()).isEqualByComparingTo("0.93");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 同一貨幣對多個來源 WHEN: 中位數策略 THEN: 換算應使用各來源中位數")
+    void shouldConsolidateSourcesByMedian() {
+        givenAggregation.setPolicy(ConsolidationPolicy.MEDIAN);
+        givenRates(
+            view(1L, "USD", "EUR", "0.90", 5, "Bank A"),
+            view(2L, "USD", "EUR", "0.92", 1, "Bank B"),
+            view(3L, "USD", "EUR", "0.99", 0, "Bank C"));
+
+        assertThat(rateIndex.getRateBook("USD", "EUR")).containsOnlyKeys("Bank A", "Bank B", "Bank C");
+        assertThat(rateIndex.findRoute("USD", "EUR").orElseThrow().rate()).isEqualByComparingTo("0.92");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 同一來源多筆匯率 WHEN: 載入匯率簿 THEN: 每個來源只保留最新一筆")
+    void shouldKeepLatestRatePerSource() {
+        givenAggregation.setPolicy(ConsolidationPolicy.MEDIAN);
+        givenRates(
+            view(1L, "USD", "EUR", "0.80", 30, "Bank A"),
+            view(2L, "USD", "EUR", "0.90", 1, "Bank A"),
+            view(3L, "USD", "EUR", "0.94", 0, "Bank B"));
+
+        assertThat(rateIndex.getRateBook("USD", "EUR").get("Bank A").rate()).isEqualByComparingTo("0.90");
+        assertThat(rateIndex.findRoute("USD", "EUR").orElseThrow().rate()).isEqualByComparingTo("0.92");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 優先權策略 WHEN: 高優先權來源更新 THEN: 只重算該貨幣對並使用高優先權來源")
+    void shouldRecomputeConsolidatedRateOnSourceUpdate() {
+        givenAggregation.setPolicy(ConsolidationPolicy.PRIORITY);
+        givenAggregation.setSourcePriority(List.of("Central Bank", "Bank A"));
+        givenRates(
+            view(1L, "USD", "EUR", "0.90", 0, "Bank A"),
+            view(2L, "USD", "JPY", "149.50", 0, "Bank A"));
+        assertThat(rateIndex.findRoute("USD", "EUR").orElseThrow().rate()).isEqualByComparingTo("0.90");
+
+        when(exchangeRateRepository.findProjectedByFromCurrencyAndToCurrency("USD", "EUR"))
+            .thenReturn(List.of(
+                view(1L, "USD", "EUR", "0.90", 0, "Bank A"),
+                view(3L, "USD", "EUR", "0.91", 0, "Central Bank")));
+        rateIndex.refreshAfterCommit(new CurrencyPair("USD", "EUR"));
+
+        assertThat(rateIndex.findRoute("USD", "EUR").orElseThrow().rate()).isEqualByComparingTo("0.91");
+        assertThat(rateIndex.findRoute("USD", "JPY").orElseThrow().rate()).isEqualByComparingTo("149.50");
+        verify(exchangeRateRepository, times(1)).findAllProjectedBy();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 已載入的索引 WHEN: 單一貨幣對匯率變動 THEN: 只有該貨幣對的版本號遞增")
+    void shouldBumpVersionOnlyForChangedPair() {
+        givenRates(
+            view(1L, "USD", "EUR", "0.90", 0),
+            view(2L, "USD", "JPY", "149.50", 0));
+        long usdEur = versionOf("USD", "EUR");
+        long usdJpy = versionOf("USD", "JPY");
+
+        rateIndex.reload();
+        assertThat(versionOf("USD", "EUR")).isEqualTo(usdEur);
+
+        when(exchangeRateRepository.findProjectedByFromCurrencyAndToCurrency("USD", "EUR"))
+            .thenReturn(List.of(view(3L, "USD", "EUR", "0.91", 0)));
+        rateIndex.refreshAfterCommit(new CurrencyPair("USD", "EUR"));
+
+        assertThat(versionOf("USD", "EUR")).isGreaterThan(usdEur);
+        assertThat(versionOf("USD", "JPY")).isEqualTo(usdJpy);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 其他執行個體直接寫入資料庫 WHEN: 定期比對 THEN: 新增、修改與刪除應反映到索引，無變動時返回 false")
+    void shouldReconcileWritesFromOutsideThisInstance() {
+        assertThat(rateIndex.reconcile()).isFalse();
+        verifyNoInteractions(exchangeRateRepository);
+
+        ExchangeRateView usdEur = view(1L, "USD", "EUR", "0.90", 0);
+        ExchangeRateView usdJpy = view(2L, "USD", "JPY", "149.50", 0);
+        givenRates(usdEur, usdJpy);
+        rateIndex.reload();
+        assertThat(rateIndex.reconcile()).isFalse();
+
+        givenRates(view(3L, "USD", "EUR", "0.95", 0), view(4L, "GBP", "USD", "1.27", 0));
+        assertThat(rateIndex.reconcile()).isTrue();
+
+        assertThat(rateIndex.getConsolidatedRate("USD", "EUR")).hasValueSatisfying(
+            rate -> assertThat(rate.rate()).isEqualByComparingTo("0.95"));
+        assertThat(rateIndex.findRoute("GBP", "USD")).isPresent();
+        assertThat(rateIndex.getConsolidatedRate("USD", "JPY")).isEmpty();
+        assertThat(rateIndex.findRoute("USD", "JPY")).isEmpty();
+    }
+
+    // === 輔助方法 ===
+    private long versionOf(String from, String to) {
+        return rateIndex.findRoute(from, to).orElseThrow().legs().get(0).version();
+    }
+
+    private void givenRates(ExchangeRateView... views) {
+        when(exchangeRateRepository.findAllProjectedBy()).thenReturn(List.of(views));
+    }
+
+    private static ExchangeRateView view(Long id, String from, String to, String rate, int ageMinutes) {
+        return view(id, from, to, rate, ageMinutes, "test");
+    }
+
+    private static ExchangeRateView view(Long id, String from, String to, String rate, int ageMinutes,
+                                         String source) {
+        return new ExchangeRateView(id, from, to, new BigDecimal(rate),
+            LocalDateTime.now().minusMinutes(ageMinutes), source);
+    }
+}
@@ -0,0 +1,101 @@
+package com.exchangerate.service.aggregation;
+
+import com.exchangerate.config.AggregationProperties;
+import com.exchangerate.dto.ExchangeRateView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RateConsolidator 單元測試
+ */
+@DisplayName("RateConsolidator 單元測試")
+class RateConsolidatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    private AggregationProperties givenProperties;
+    private List<ExchangeRateView> givenRates;
+    private ExchangeRateView whenConsolidated;
+
+    @BeforeEach
+    void setUp() {
+        givenProperties = new AggregationProperties();
+        givenRates = List.of(
+            rate(1L, "0.90", 10, "Bank A"),
+            rate(2L, "0.94", 0, "Bank B"),
+            rate(3L, "0.91", 5, "Central Bank"),
+            rate(4L, "0.97", 20, "Bank C"));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 最新策略 WHEN: 彙整 THEN: 應使用時間最新的來源")
+    void shouldPickFreshestSource() {
+        givenProperties.setPolicy(ConsolidationPolicy.FRESHEST);
+
+        whenConsolidating();
+
+        assertThat(whenConsolidated.source()).isEqualTo("Bank B");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 中位數策略與偶數個來源 WHEN: 彙整 THEN: 應取中間兩筆平均")
+    void shouldAverageMiddleRatesForEvenCount() {
+        givenProperties.setPolicy(ConsolidationPolicy.MEDIAN);
+
+        whenConsolidating();
+
+        assertThat(whenConsolidated.rate()).isEqualByComparingTo("0.925");
+        assertThat(whenConsolidated.id()).isNull();
+        assertThat(whenConsolidated.timestamp()).isEqualTo(NOW);
+        assertThat(whenConsolidated.source()).isEqualTo("Bank A,Bank B,Bank C,Central Bank");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 優先權策略 WHEN: 彙整 THEN: 應使用排序最前且存在的來源")
+    void shouldPickHighestPrioritySource() {
+        givenProperties.setPolicy(ConsolidationPolicy.PRIORITY);
+        givenProperties.setSourcePriority(List.of("Reuters", "Central Bank", "Bank A"));
+
+        whenConsolidating();
+
+        assertThat(whenConsolidated.source()).isEqualTo("Central Bank");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 優先權清單中沒有任何來源 WHEN: 彙整 THEN: 應退回最新來源")
+    void shouldFallBackToFreshestWhenNoPrioritySourcePresent() {
+        givenProperties.setPolicy(ConsolidationPolicy.PRIORITY);
+        givenProperties.setSourcePriority(List.of("Reuters"));
+
+        whenConsolidating();
+
+        assertThat(whenConsolidated.source()).isEqualTo("Bank B");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 只有單一來源 WHEN: 任一策略彙整 THEN: 應直接使用該筆匯率")
+    void shouldReturnSingleSourceAsIs() {
+        givenProperties.setPolicy(ConsolidationPolicy.MEDIAN);
+        givenRates = List.of(rate(1L, "0.90", 10, "Bank A"));
+
+        whenConsolidating();
+
+        assertThat(whenConsolidated).isSameAs(givenRates.get(0));
+    }
+
+    // === 輔助方法 ===
+    private void whenConsolidating() {
+        whenConsolidated = new RateConsolidator(givenProperties).consolidate(givenRates);
+    }
+
+    private static ExchangeRateView rate(Long id, String rate, int ageMinutes, String source) {
+        return new ExchangeRateView(id, "USD", "EUR", new BigDecimal(rate), NOW.minusMinutes(ageMinutes), source);
+    }
+}
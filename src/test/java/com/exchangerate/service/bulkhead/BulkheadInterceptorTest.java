@@ -0,0 +1,102 @@
+package com.exchangerate.service.bulkhead;
+
+import com.exchangerate.config.BulkheadProperties;
+import com.exchangerate.config.ConnectionPoolProperties;
+import com.exchangerate.controller.ConversionController;
+import com.exchangerate.controller.ExchangeRateController;
+import com.exchangerate.dto.ConversionRequest;
+import com.exchangerate.exception.ServiceUnavailableException;
+import com.exchangerate.model.ExchangeRate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BulkheadInterceptor 單元測試
+ *
+ * 驗證依 @Traffic 標示分類、寫入名額用完時不影響轉換，以及請求完成後歸還名額。
+ */
+@DisplayName("BulkheadInterceptor 單元測試")
+class BulkheadInterceptorTest {
+
+    private Bulkheads bulkheads;
+    private BulkheadInterceptor interceptor;
+    private HandlerMethod givenCreate;
+    private HandlerMethod givenConvert;
+    private HandlerMethod givenLegacyConvert;
+    private HandlerMethod givenList;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getWrite().setMaxConcurrent(1);
+        properties.getWrite().setMaxQueued(0);
+        bulkheads = new Bulkheads(properties, new ConnectionPoolProperties());
+        interceptor = new BulkheadInterceptor(bulkheads, Duration.ofSeconds(3));
+
+        ExchangeRateController rates = mock(ExchangeRateController.class);
+        givenCreate = new HandlerMethod(rates,
+            ExchangeRateController.class.getMethod("createExchangeRate", ExchangeRate.class));
+        givenLegacyConvert = new HandlerMethod(rates,
+            ExchangeRateController.class.getMethod("convertCurrencyPost", ConversionRequest.class));
+        givenList = new HandlerMethod(rates, ExchangeRateController.class.getMethod("getAllExchangeRates",
+            String.class, String.class, Integer.class, Integer.class, String.class));
+        givenConvert = new HandlerMethod(mock(ConversionController.class),
+            ConversionController.class.getMethod("convertCurrency", ConversionRequest.class));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 控制器與方法上的標示 WHEN: 請求進入 THEN: 方法上的標示應優先於類別上的標示")
+    void shouldClassifyByAnnotation() {
+        thenEntersBulkhead(givenCreate, TrafficClass.WRITE);
+        thenEntersBulkhead(givenLegacyConvert, TrafficClass.CONVERSION);
+        thenEntersBulkhead(givenList, TrafficClass.READ);
+        thenEntersBulkhead(givenConvert, TrafficClass.CONVERSION);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 寫入名額已用完 WHEN: 再有寫入與轉換請求 THEN: 寫入應回應 503，轉換仍應放行")
+    void shouldShedWritesWithoutStarvingConversions() throws Exception {
+        MockHttpServletRequest givenWrite = new MockHttpServletRequest();
+        interceptor.preHandle(givenWrite, new MockHttpServletResponse(), givenCreate);
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+            givenCreate))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .extracting(ex -> ((ServiceUnavailableException) ex).getRetryAfter())
+            .isEqualTo(Duration.ofSeconds(3));
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), givenConvert))
+            .isTrue();
+
+        interceptor.afterCompletion(givenWrite, new MockHttpServletResponse(), givenCreate, null);
+        assertThat(bulkheads.of(TrafficClass.WRITE).getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 沒有 @Traffic 標示的處理器 WHEN: 請求進入 THEN: 應直接放行且不佔用名額")
+    void shouldPassThroughUnclassifiedHandlers() throws Exception {
+        HandlerMethod givenOther = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), givenOther)).isTrue();
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(request.getAttribute(BulkheadInterceptor.BULKHEAD_ATTRIBUTE)).isNull();
+    }
+
+    // === 輔助方法 ===
+    private void thenEntersBulkhead(HandlerMethod handler, TrafficClass expected) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        assertThat(bulkheads.of(expected).getActive()).isEqualTo(1);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+        assertThat(bulkheads.of(expected).getActive()).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+package com.exchangerate.service.bulkhead;
+
+import com.exchangerate.config.BulkheadProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Bulkhead 單元測試
+ *
+ * 驗證併發名額、排隊上限、等待逾時，以及排隊延遲持續超標時的卸載與恢復。
+ */
+@DisplayName("Bulkhead 單元測試")
+class BulkheadTest {
+
+    private static final long TARGET_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("GIVEN: 2 個併發名額 WHEN: 取得 2 次再歸還 THEN: 應立即放行並正確計算處理中的請求數")
+    void shouldAdmitWithinConcurrencyLimit() {
+        Bulkhead bulkhead = givenBulkhead(2, 0, Duration.ofSeconds(1));
+
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.getActive()).isEqualTo(2);
+
+        bulkhead.release();
+        assertThat(bulkhead.getActive()).isEqualTo(1);
+        assertThat(bulkhead.getAdmitted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 名額用完且不允許排隊 WHEN: 再取得 THEN: 應立即拒絕")
+    void shouldRejectWhenQueueIsFull() {
+        Bulkhead bulkhead = givenBulkhead(1, 0, Duration.ofSeconds(10));
+        bulkhead.tryAcquire();
+
+        long start = System.nanoTime();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 名額用完 WHEN: 排隊期間有名額歸還 THEN: 排隊的請求應取得名額")
+    void shouldAdmitQueuedRequestOnRelease() throws Exception {
+        Bulkhead bulkhead = givenBulkhead(1, 1, Duration.ofSeconds(10));
+        bulkhead.tryAcquire();
+
+        CompletableFuture<Boolean> whenQueued = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        while (bulkhead.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        bulkhead.release();
+
+        assertThat(whenQueued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 名額用完 WHEN: 排隊超過等待上限 THEN: 應拒絕")
+    void shouldRejectAfterMaxQueueWait() {
+        Bulkhead bulkhead = givenBulkhead(1, 1, Duration.ofMillis(20));
+        bulkhead.tryAcquire();
+
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 排隊延遲持續超標一個 interval WHEN: 名額用完 THEN: 應直接卸載，直到又能立即取得名額")
+    void shouldShedWhileQueueDelayStaysAboveTarget() {
+        Bulkhead bulkhead = givenBulkhead(1, 10, Duration.ofSeconds(10));
+        bulkhead.tryAcquire();
+
+        bulkhead.onQueueDelay(TARGET_NANOS * 2, 1_000);
+        assertThat(bulkhead.isShedding()).isFalse();
+        bulkhead.onQueueDelay(TARGET_NANOS * 2, 1_000 + INTERVAL_NANOS);
+        assertThat(bulkhead.isShedding()).isTrue();
+
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getShed()).isEqualTo(1);
+
+        bulkhead.release();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.isShedding()).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 排隊延遲短暫超標 WHEN: 未滿一個 interval 就回到目標以下 THEN: 不應卸載")
+    void shouldToleratePassingBursts() {
+        Bulkhead bulkhead = givenBulkhead(1, 10, Duration.ofSeconds(10));
+
+        bulkhead.onQueueDelay(TARGET_NANOS * 2, 1_000);
+        bulkhead.onQueueDelay(TARGET_NANOS / 2, 1_000 + INTERVAL_NANOS / 2);
+        bulkhead.onQueueDelay(TARGET_NANOS * 2, 1_000 + INTERVAL_NANOS);
+
+        assertThat(bulkhead.isShedding()).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 未設定寫入上限 WHEN: 依核心數與連線池大小計算 THEN: 應保留半數連線給轉換且不超過核心數，明確設定時以設定為準")
+    void shouldDeriveWriteLimitsFromCoresAndPool() {
+        BulkheadProperties properties = new BulkheadProperties();
+
+        // 1 核心 / 3 條連線：保留 2 條，寫入 1 併發、4 排隊
+        assertThat(properties.limitsOf(TrafficClass.WRITE, 1, 3))
+            .extracting(BulkheadProperties.Limits::getMaxConcurrent, BulkheadProperties.Limits::getMaxQueued)
+            .containsExactly(1, 4);
+        // 8 核心 / 17 條連線：保留 9 條，寫入 8 併發
+        assertThat(properties.limitsOf(TrafficClass.WRITE, 8, 17).getMaxConcurrent()).isEqualTo(8);
+        // 8 核心但連線池只有 10 條：受連線數限制為 5
+        assertThat(properties.limitsOf(TrafficClass.WRITE, 8, 10).getMaxConcurrent()).isEqualTo(5);
+
+        properties.getWrite().setMaxConcurrent(1);
+        properties.getWrite().setMaxQueued(4);
+        assertThat(properties.limitsOf(TrafficClass.WRITE, 8, 17))
+            .extracting(BulkheadProperties.Limits::getMaxConcurrent, BulkheadProperties.Limits::getMaxQueued)
+            .containsExactly(1, 4);
+    }
+
+    // === 輔助方法 ===
+    private static Bulkhead givenBulkhead(int maxConcurrent, int maxQueued, Duration maxQueueWait) {
+        BulkheadProperties.Limits limits = new BulkheadProperties.Limits();
+        limits.setMaxConcurrent(maxConcurrent);
+        limits.setMaxQueued(maxQueued);
+        limits.setQueueTarget(Duration.ofNanos(TARGET_NANOS));
+        limits.setInterval(Duration.ofNanos(INTERVAL_NANOS));
+        limits.setMaxQueueWait(maxQueueWait);
+        return new Bulkhead(TrafficClass.WRITE, limits);
+    }
+}
@@ -0,0 +1,45 @@
+package com.exchangerate.service.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PrecompressedResponse 單元測試
+ *
+ * 驗證依 Accept-Encoding 的品質值與偏好順序選擇已建立的版本。
+ */
+@DisplayName("PrecompressedResponse 單元測試")
+class PrecompressedResponseTest {
+
+    private static final byte[] BODY = {1};
+
+    private final PrecompressedResponse givenAll = new PrecompressedResponse(1, BODY, BODY, BODY);
+    private final PrecompressedResponse givenGzipOnly = new PrecompressedResponse(1, BODY, BODY, null);
+
+    @Test
+    @DisplayName("GIVEN: 瀏覽器常見的 Accept-Encoding WHEN: 協商 THEN: 品質值相同時應優先 brotli，其次 gzip")
+    void shouldPreferBrotliThenGzip() {
+        assertThat(givenAll.negotiate("gzip, deflate, br")).isEqualTo(ContentEncoding.BROTLI);
+        assertThat(givenGzipOnly.negotiate("gzip, deflate, br")).isEqualTo(ContentEncoding.GZIP);
+        assertThat(givenAll.negotiate("gzip")).isEqualTo(ContentEncoding.GZIP);
+        assertThat(givenAll.negotiate("*")).isEqualTo(ContentEncoding.BROTLI);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 帶品質值的 Accept-Encoding WHEN: 協商 THEN: 應選擇品質值最高者並排除 q=0")
+    void shouldHonourQualityValues() {
+        assertThat(givenAll.negotiate("br;q=0.5, gzip;q=0.8")).isEqualTo(ContentEncoding.GZIP);
+        assertThat(givenAll.negotiate("br;q=0, *;q=0.3")).isEqualTo(ContentEncoding.GZIP);
+        assertThat(givenAll.negotiate("gzip;q=0.2, identity")).isEqualTo(ContentEncoding.IDENTITY);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 沒有或不支援的 Accept-Encoding WHEN: 協商 THEN: 應回應未壓縮內容")
+    void shouldFallBackToIdentity() {
+        assertThat(givenAll.negotiate(null)).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(givenAll.negotiate("deflate")).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(givenAll.negotiate("")).isEqualTo(ContentEncoding.IDENTITY);
+    }
+}
@@ -0,0 +1,107 @@
+package com.exchangerate.service.compression;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.exchangerate.config.CompressionProperties;
+import com.exchangerate.dto.ExchangeRateView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RateListResponseCache 單元測試
+ *
+ * 驗證預先壓縮的版本可還原為相同的 JSON、每個資料版本只建立一次，以及小型列表不壓縮。
+ */
+@DisplayName("RateListResponseCache 單元測試")
+class RateListResponseCacheTest {
+
+    // Same defaults Spring Boot applies
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    @Test
+    @DisplayName("GIVEN: 大型匯率列表 WHEN: 建立回應 THEN: gzip 與 brotli 版本應還原為與 Jackson 相同的 JSON 且較小")
+    void shouldPrecompressIdenticalJson() throws Exception {
+        List<ExchangeRateView> givenRates = givenRates(500);
+        RateListResponseCache cache = new RateListResponseCache(new CompressionProperties(), objectMapper);
+
+        PrecompressedResponse whenResponse = cache.get(() -> givenRates);
+
+        byte[] expected = objectMapper.writeValueAsBytes(givenRates);
+        assertThat(whenResponse.identity()).isEqualTo(expected);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(whenResponse.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(expected);
+        }
+        assertThat(whenResponse.gzip().length).isLessThan(expected.length / 4);
+        if (cache.isBrotliAvailable()) {
+            assertThat(Decoder.decompress(whenResponse.brotli()).getDecompressedData()).isEqualTo(expected);
+            assertThat(whenResponse.brotli().length).isLessThan(whenResponse.gzip().length);
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 已建立的回應 WHEN: 同一版本再次取得與寫入提交後取得 THEN: 每個版本只應查詢並壓縮一次")
+    void shouldBuildOncePerVersion() {
+        RateListResponseCache cache = new RateListResponseCache(new CompressionProperties(), objectMapper);
+        AtomicInteger loads = new AtomicInteger();
+        List<ExchangeRateView> givenRates = givenRates(100);
+
+        PrecompressedResponse first = cache.get(() -> countLoad(loads, givenRates));
+        assertThat(cache.get(() -> countLoad(loads, givenRates))).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAfterCommit();
+            assertThat(cache.get(() -> countLoad(loads, givenRates))).isSameAs(first);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get(() -> countLoad(loads, givenRates)).version()).isGreaterThan(first.version());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 小於門檻的列表 WHEN: 建立回應並協商 THEN: 不應建立壓縮版本且回應未壓縮內容")
+    void shouldNotCompressSmallLists() {
+        RateListResponseCache cache = new RateListResponseCache(new CompressionProperties(), objectMapper);
+
+        PrecompressedResponse whenResponse = cache.get(() -> givenRates(1));
+
+        assertThat(whenResponse.gzip()).isNull();
+        assertThat(whenResponse.brotli()).isNull();
+        assertThat(whenResponse.negotiate("gzip, deflate, br")).isEqualTo(ContentEncoding.IDENTITY);
+    }
+
+    // === 輔助方法 ===
+    private static List<ExchangeRateView> givenRates(int count) {
+        List<ExchangeRateView> rates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rates.add(new ExchangeRateView((long) i, "USD", "EUR", new BigDecimal("0.85").add(BigDecimal.valueOf(i, 6)),
+                LocalDateTime.of(2024, 1, 15, 10, 30).plusMinutes(i), "Central Bank"));
+        }
+        return rates;
+    }
+
+    private static List<ExchangeRateView> countLoad(AtomicInteger loads, List<ExchangeRateView> rates) {
+        loads.incrementAndGet();
+        return rates;
+    }
+}
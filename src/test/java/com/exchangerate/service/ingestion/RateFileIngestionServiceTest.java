@@ -0,0 +1,122 @@
+package com.exchangerate.service.ingestion;
+
+import com.exchangerate.config.IngestionProperties;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ExchangeRateService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateFileIngestionService 單元測試
+ *
+ * 驗證逐列驗證、單一批次寫入、處理後搬移檔案與吞吐量報告。
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateFileIngestionService 單元測試")
+class RateFileIngestionServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private RateFileIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        IngestionProperties properties = new IngestionProperties();
+        properties.setDirectory(tempDir);
+        ingestionService = new RateFileIngestionService(
+            new RateFileParser(new ObjectMapper()), exchangeRateService, properties);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 含無效資料列的 CSV WHEN: 匯入 THEN: 有效資料以單一批次寫入並略過無效列")
+    void shouldApplyValidRowsInOneBatch() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("rates.csv"), """
+            from_currency,to_currency,rate,source,updated_at
+            usd,eur,0.92,Bank A,2024-01-15T10:30:00
+            USD,XXX,1.00,Bank A,
+            USD,USD,1.00,Bank A,
+            EUR,JPY,-1,Bank A,
+            EUR,JPY,abc,Bank A,
+            GBP,USD,1.27,Bank A,
+            """);
+        when(exchangeRateService.upsertExchangeRates(anyList())).thenReturn(2);
+
+        IngestionReport report = ingestionService.ingest(file);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ExchangeRate>> batch = ArgumentCaptor.forClass(List.class);
+        verify(exchangeRateService, times(1)).upsertExchangeRates(batch.capture());
+        assertThat(batch.getValue()).extracting(ExchangeRate::getFromCurrency, ExchangeRate::getToCurrency)
+            .containsExactly(tuple("USD", "EUR"), tuple("GBP", "USD"));
+        assertThat(batch.getValue().get(0).getTimestamp()).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        assertThat(report.success()).isTrue();
+        assertThat(report.rows()).isEqualTo(6);
+        assertThat(report.applied()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(4);
+        assertThat(report.errors()).hasSize(4).first().asString().startsWith("line 3:");
+        assertThat(report.bytes()).isPositive();
+        assertThat(Files.exists(tempDir.resolve("processed").resolve("rates.csv"))).isTrue();
+        assertThat(Files.exists(file)).isFalse();
+        assertThat(ingestionService.getRecentReports()).containsExactly(report);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 同一貨幣對與來源出現多次的 CSV WHEN: 匯入 THEN: 每個貨幣對與來源只寫入時間戳記最新的一筆")
+    void shouldKeepNewestRowPerPairAndSource() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("rates.csv"), """
+            from_currency,to_currency,rate,source,updated_at
+            USD,EUR,0.91,Bank A,2024-01-15T10:30:00
+            USD,EUR,0.93,Bank B,2024-01-15T09:00:00
+            usd,eur,0.90,Bank A,2024-01-15T10:00:00
+            USD,EUR,0.92,Bank A,2024-01-15T11:00:00
+            USD,EUR,0.89,Bank A,2024-01-15T10:45:00
+            """);
+        when(exchangeRateService.upsertExchangeRates(anyList())).thenReturn(2);
+
+        IngestionReport report = ingestionService.ingest(file);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ExchangeRate>> batch = ArgumentCaptor.forClass(List.class);
+        verify(exchangeRateService).upsertExchangeRates(batch.capture());
+        assertThat(batch.getValue()).extracting(ExchangeRate::getSource, ExchangeRate::getRate)
+            .containsExactly(tuple("Bank A", new BigDecimal("0.92")), tuple("Bank B", new BigDecimal("0.93")));
+        assertThat(report.rows()).isEqualTo(5);
+        assertThat(report.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 格式錯誤的 JSON WHEN: 匯入 THEN: 不寫入任何資料並移入失敗目錄")
+    void shouldMoveUnparseableFileToFailed() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("rates.json"), "{\"from_currency\": \"USD\"}");
+
+        IngestionReport report = ingestionService.ingest(file);
+
+        verifyNoInteractions(exchangeRateService);
+        assertThat(report.success()).isFalse();
+        assertThat(report.errors()).singleElement().asString().contains("array");
+        assertThat(Files.exists(tempDir.resolve("failed").resolve("rates.json"))).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.exchangerate.service.ingestion;
+
+import com.exchangerate.exception.InvalidRequestException;
+import com.exchangerate.model.ExchangeRate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RateFileParser 單元測試
+ */
+@DisplayName("RateFileParser 單元測試")
+class RateFileParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final RateFileParser parser = new RateFileParser(new ObjectMapper());
+    private final List<RateFileParser.RawRate> whenParsed = new ArrayList<>();
+
+    @Test
+    @DisplayName("GIVEN: 含引號欄位與任意欄位順序的 CSV WHEN: 解析 THEN: 應依標題對應欄位")
+    void shouldParseCsvByHeaderNames() throws IOException {
+        Path file = givenFile("rates.csv", """
+            \uFEFFrate,to_currency,from_currency,source
+            0.92,EUR,USD,"Bank, Ltd."
+
+            149.50,JPY,usd,
+            """);
+
+        boolean mapped = parser.parse(file, RateFileFormat.CSV, Long.MAX_VALUE, whenParsed::add);
+
+        assertThat(mapped).isFalse();
+        assertThat(whenParsed).containsExactly(
+            new RateFileParser.RawRate(2, "USD", "EUR", "0.92", "Bank, Ltd.", null),
+            new RateFileParser.RawRate(4, "usd", "JPY", "149.50", null, null));
+    }
+
+    @Test
+    @DisplayName("GIVEN: CSV 缺少必要欄位 WHEN: 解析 THEN: 應整檔失敗")
+    void shouldRejectCsvWithoutRequiredColumn() throws IOException {
+        Path file = givenFile("rates.csv", "from_currency,to_currency\nUSD,EUR\n");
+
+        assertThatThrownBy(() -> parser.parse(file, RateFileFormat.CSV, Long.MAX_VALUE, whenParsed::add))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("rate");
+    }
+
+    @Test
+    @DisplayName("GIVEN: JSON 物件陣列 WHEN: 串流解析 THEN: 應逐筆輸出並略過未知屬性")
+    void shouldStreamJsonArray() throws IOException {
+        Path file = givenFile("rates.json", """
+            [
+              {"from_currency": "USD", "to_currency": "EUR", "rate": 0.92, "meta": {"x": [1, 2]}},
+              {"from_currency": "EUR", "to_currency": "GBP", "rate": "0.86", "source": null,
+               "updated_at": "2024-01-15T10:30:00"}
+            ]
+            """);
+
+        parser.parse(file, RateFileFormat.JSON, Long.MAX_VALUE, whenParsed::add);
+
+        assertThat(whenParsed).containsExactly(
+            new RateFileParser.RawRate(1, "USD", "EUR", "0.92", null, null),
+            new RateFileParser.RawRate(2, "EUR", "GBP", "0.86", null, "2024-01-15T10:30:00"));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 檔案大小超過門檻 WHEN: 解析 THEN: 應以記憶體映射讀取且結果相同")
+    void shouldMemoryMapLargeFiles() throws IOException {
+        StringBuilder csv = new StringBuilder("from_currency,to_currency,rate\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("USD,EUR,0.").append(9000 + i % 1000).append('\n');
+        }
+        Path file = givenFile("large.csv", csv.toString());
+
+        boolean mapped = parser.parse(file, RateFileFormat.CSV, 1024, whenParsed::add);
+
+        assertThat(mapped).isTrue();
+        assertThat(whenParsed).hasSize(10_000);
+        assertThat(whenParsed.get(9_999).rate()).isEqualTo("0.9999");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 暫存或不支援的檔名 WHEN: 判斷格式 THEN: 應略過")
+    void shouldIgnoreTemporaryAndUnknownFiles() {
+        assertThat(RateFileFormat.of(Path.of("rates.CSV"))).contains(RateFileFormat.CSV);
+        assertThat(RateFileFormat.of(Path.of("rates.json"))).contains(RateFileFormat.JSON);
+        assertThat(RateFileFormat.of(Path.of("rates.csv.part"))).isEmpty();
+        assertThat(RateFileFormat.of(Path.of(".rates.csv"))).isEmpty();
+        assertThat(RateFileFormat.of(Path.of("rates.xml"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 來源名稱空白或超過欄位長度 WHEN: 轉換 THEN: 空白視為未提供，過長應拒絕")
+    void shouldValidateSourceName() {
+        RateFileParser.RawRate blank = new RateFileParser.RawRate(1, "USD", "EUR", "0.92", "  ", null);
+        RateFileParser.RawRate named = new RateFileParser.RawRate(2, "USD", "EUR", "0.92", "Bank A", null);
+        RateFileParser.RawRate tooLong = new RateFileParser.RawRate(3, "USD", "EUR", "0.92",
+                "x".repeat(ExchangeRate.SOURCE_MAX_LENGTH + 1), null);
+
+        assertThat(blank.toExchangeRate().getSource()).isNull();
+        assertThat(named.toExchangeRate().getSource()).isEqualTo("Bank A");
+        assertThatThrownBy(tooLong::toExchangeRate).isInstanceOf(InvalidRequestException.class);
+    }
+
+    private Path givenFile(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
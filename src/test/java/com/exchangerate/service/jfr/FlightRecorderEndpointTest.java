@@ -0,0 +1,146 @@
+package com.exchangerate.service.jfr;
+
+import com.exchangerate.config.FlightRecorderProperties;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FlightRecorderEndpoint 單元測試
+ *
+ * 驗證透過端點開始、匯出與停止錄製，以及換算與 repository 事件的欄位內容。
+ */
+@DisplayName("FlightRecorderEndpoint 單元測試")
+class FlightRecorderEndpointTest {
+
+    private final FlightRecorderProperties givenProperties = new FlightRecorderProperties();
+    private final FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint(givenProperties);
+    private Long recordingId;
+
+    @AfterEach
+    void tearDown() {
+        if (recordingId != null) {
+            endpoint.stop(recordingId);
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 錄製中 WHEN: 發出換算與 repository 事件後匯出 THEN: 錄製檔應包含兩種事件與其欄位")
+    void shouldRecordServiceEvents() throws Throwable {
+        recordingId = endpoint.start("test", null, null, null).id();
+
+        ConversionEvent conversion = new ConversionEvent();
+        conversion.begin();
+        conversion.fromCurrency = "USD";
+        conversion.toCurrency = "JPY";
+        conversion.pathType = ConversionEvent.PathType.MULTI_HOP.name();
+        conversion.hops = 2;
+        conversion.succeeded = true;
+        conversion.commit();
+
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(Optional.class.getMethod("empty"));
+        when(invocation.proceed()).thenReturn(List.of("a", "b", "c"));
+        new RepositoryCallInterceptor("ExchangeRateRepository").invoke(invocation);
+
+        List<RecordedEvent> events = dump(endpoint.dump(recordingId));
+
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.exchangerate.Conversion");
+            assertThat(event.getString("fromCurrency")).isEqualTo("USD");
+            assertThat(event.getString("pathType")).isEqualTo("MULTI_HOP");
+            assertThat(event.getInt("hops")).isEqualTo(2);
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.exchangerate.RepositoryCall");
+            assertThat(event.getString("repository")).isEqualTo("ExchangeRateRepository");
+            assertThat(event.getString("method")).isEqualTo("empty");
+            assertThat(event.getInt("rows")).isEqualTo(3);
+            assertThat(event.getBoolean("succeeded")).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("GIVEN: 錄製中 WHEN: 停止錄製 THEN: 應回傳停止狀態且不再列出")
+    void shouldStopAndCloseRecording() {
+        long id = endpoint.start(null, "profile", null, null).id();
+
+        assertThat(endpoint.recordings()).extracting(RecordingInfo::id).contains(id);
+        assertThat(endpoint.stop(id).state()).isEqualTo("STOPPED");
+        assertThat(endpoint.recordings()).extracting(RecordingInfo::id).doesNotContain(id);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 未指定錄製時間 WHEN: 開始錄製 THEN: 磁碟上的資料應受 max-age 與 max-size 限制")
+    void shouldBoundOpenEndedRecordings() {
+        recordingId = endpoint.start(null, null, null, null).id();
+
+        Recording recording = FlightRecorder.getFlightRecorder().getRecordings().stream()
+            .filter(r -> r.getId() == recordingId)
+            .findFirst()
+            .orElseThrow();
+        assertThat(recording.getMaxAge()).isEqualTo(givenProperties.getMaxAge());
+        assertThat(recording.getMaxSize()).isEqualTo(givenProperties.getMaxSize().toBytes());
+    }
+
+    @Test
+    @DisplayName("GIVEN: 進行中的錄製已達上限 WHEN: 再開始錄製 THEN: 應拒絕，停止一個後可再開始")
+    void shouldCapConcurrentRecordings() {
+        givenProperties.setMaxRecordings(1);
+        recordingId = endpoint.start(null, null, null, null).id();
+
+        assertThatThrownBy(() -> endpoint.start(null, null, null, null))
+            .isInstanceOf(InvalidEndpointRequestException.class);
+
+        endpoint.stop(recordingId);
+        recordingId = endpoint.start(null, null, null, null).id();
+        assertThat(recordingId).isNotNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 不存在的錄製 WHEN: 匯出或停止 THEN: 應回傳 null")
+    void shouldReturnNullForUnknownRecording() {
+        assertThat(endpoint.dump(-1)).isNull();
+        assertThat(endpoint.stop(-1)).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 不存在的 JFR 設定 WHEN: 開始錄製 THEN: 應拋出 IllegalArgumentException")
+    void shouldRejectUnknownSettings() {
+        assertThatThrownBy(() -> endpoint.start(null, "unknown", null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // === 輔助方法 ===
+    private static List<RecordedEvent> dump(Resource resource) throws IOException {
+        Path copy = Files.createTempFile("flight-recorder-test-", ".jfr");
+        try {
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            assertThat(resource.exists()).as("dump file is removed once streamed").isFalse();
+            return RecordingFile.readAllEvents(copy);
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.exchangerate.service.latency;
+
+import com.exchangerate.config.LatencyProperties;
+import com.exchangerate.controller.ConversionController;
+import com.exchangerate.controller.ExchangeRateController;
+import com.exchangerate.dto.ConversionRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * EndpointLatencyRecorder 單元測試
+ *
+ * 驗證只為兩個 API 控制器的處理方法建立記錄、端點命名與視窗輸出。
+ */
+@DisplayName("EndpointLatencyRecorder 單元測試")
+class EndpointLatencyRecorderTest {
+
+    private HandlerMethod givenConvert;
+    private HandlerMethod givenRate;
+    private HandlerMethod givenOther;
+    private EndpointLatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        givenConvert = new HandlerMethod(mock(ConversionController.class),
+            ConversionController.class.getMethod("convertCurrency", ConversionRequest.class));
+        givenRate = new HandlerMethod(mock(ExchangeRateController.class),
+            ExchangeRateController.class.getMethod("getSpecificExchangeRate", String.class, String.class));
+        givenOther = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+
+        Map<RequestMappingInfo, HandlerMethod> handlerMethods = new LinkedHashMap<>();
+        handlerMethods.put(RequestMappingInfo.paths("/api/convert").methods(RequestMethod.POST).build(), givenConvert);
+        handlerMethods.put(RequestMappingInfo.paths("/api/exchange-rates/{from}/{to}").methods(RequestMethod.GET).build(),
+            givenRate);
+        handlerMethods.put(RequestMappingInfo.paths("/other").build(), givenOther);
+        RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+        when(handlerMapping.getHandlerMethods()).thenReturn(handlerMethods);
+
+        recorder = new EndpointLatencyRecorder(new LatencyProperties(), handlerMapping);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 兩個 API 控制器與其他處理器 WHEN: 建立記錄器 THEN: 只應記錄 API 端點並以 HTTP 方法與路徑命名")
+    void shouldRecordApiControllersOnly() {
+        assertThat(recorder.snapshot()).containsOnlyKeys(
+            "GET /api/exchange-rates/{from}/{to}", "POST /api/convert");
+        assertThat(recorder.snapshot().get("POST /api/convert")).containsOnlyKeys("PT1M", "PT5M");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 已記錄的請求 WHEN: 輪替後取統計 THEN: 應依處理方法歸入對應端點，其他處理器忽略")
+    void shouldRecordByHandlerMethod() {
+        recorder.record(givenConvert.createWithResolvedBean(), TimeUnit.MILLISECONDS.toNanos(2), 0);
+        recorder.record(givenConvert, TimeUnit.MILLISECONDS.toNanos(3), 0);
+        recorder.record(givenOther, TimeUnit.MILLISECONDS.toNanos(3), 0);
+        recorder.record(null, TimeUnit.MILLISECONDS.toNanos(3), 0);
+
+        recorder.rotate();
+
+        assertThat(recorder.snapshot().get("POST /api/convert").get("PT1M").raw().count()).isEqualTo(2);
+        assertThat(recorder.snapshot().get("GET /api/exchange-rates/{from}/{to}").get("PT5M").raw().count()).isZero();
+    }
+}
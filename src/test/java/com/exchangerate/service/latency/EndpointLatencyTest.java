@@ -0,0 +1,73 @@
+package com.exchangerate.service.latency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EndpointLatency 單元測試
+ *
+ * 驗證百分位數、與原始延遲並列的排隊時間修正，以及滑動視窗的段輪替。
+ */
+@DisplayName("EndpointLatency 單元測試")
+class EndpointLatencyTest {
+
+    @Test
+    @DisplayName("GIVEN: 99 個 1ms 與 1 個 50ms 請求 WHEN: 輪替後取統計 THEN: p50 應約 1ms 且 max 約 50ms")
+    void shouldReportPercentiles() {
+        EndpointLatency endpoint = new EndpointLatency("GET /api/test", 4);
+
+        recordMillis(endpoint, 1, 99);
+        recordMillis(endpoint, 50, 1);
+        endpoint.rotate();
+
+        LatencySnapshot snapshot = endpoint.snapshot(4).raw();
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.p50()).isCloseTo(1.0, within(0.02));
+        assertThat(snapshot.max()).isCloseTo(50.0, within(0.5));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 一個請求排隊 90ms 後處理 10ms WHEN: 取統計 THEN: 原始延遲應為 10ms，含排隊時間應為 100ms，且不補值")
+    void shouldReportQueueWaitNextToRaw() {
+        EndpointLatency endpoint = new EndpointLatency("GET /api/test", 4);
+
+        endpoint.record(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(90));
+        endpoint.rotate();
+
+        EndpointLatencySnapshot snapshot = endpoint.snapshot(4);
+        assertThat(snapshot.raw().count()).isEqualTo(1);
+        assertThat(snapshot.raw().max()).isCloseTo(10.0, within(0.1));
+        assertThat(snapshot.withQueueWait().count()).isEqualTo(1);
+        assertThat(snapshot.withQueueWait().max()).isCloseTo(100.0, within(1.0));
+    }
+
+    @Test
+    @DisplayName("GIVEN: 兩段視窗 WHEN: 舊的段輪替出去 THEN: 視窗只應包含最近的段")
+    void shouldSlideWindow() {
+        EndpointLatency endpoint = new EndpointLatency("GET /api/test", 2);
+
+        recordMillis(endpoint, 1, 5);
+        endpoint.rotate();
+        recordMillis(endpoint, 2, 3);
+        endpoint.rotate();
+
+        assertThat(endpoint.snapshot(2).raw().count()).isEqualTo(8);
+        assertThat(endpoint.snapshot(1).raw().count()).isEqualTo(3);
+
+        endpoint.rotate();
+        endpoint.rotate();
+
+        assertThat(endpoint.snapshot(2).raw().count()).isZero();
+    }
+
+    // === 輔助方法 ===
+    private static void recordMillis(EndpointLatency endpoint, long millis, int times) {
+        for (int i = 0; i < times; i++) {
+            endpoint.record(TimeUnit.MILLISECONDS.toNanos(millis), 0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.exchangerate.service.latency;
+
+import org.apache.tomcat.util.net.SocketEvent;
+import org.apache.tomcat.util.net.SocketProcessorBase;
+import org.apache.tomcat.util.net.SocketWrapperBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueueTimingExecutor 單元測試
+ *
+ * 驗證工作執行緒忙碌時，排在後面的工作取得實際的排隊時間，且只能取走一次；重複使用的 SocketProcessor 不另外配置包裝。
+ */
+@DisplayName("QueueTimingExecutor 單元測試")
+class QueueTimingExecutorTest {
+
+    @Test
+    @DisplayName("GIVEN: 唯一的工作執行緒被佔用 50ms WHEN: 排在後面的工作開始 THEN: 應取得至少 50ms 的排隊時間，再取一次為 0")
+    void shouldHandOverQueueWait() throws Exception {
+        QueueTimingExecutor executor = new QueueTimingExecutor("test-exec-", 1, 1, Thread.NORM_PRIORITY);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                sleep(50);
+            });
+            started.await();
+
+            CompletableFuture<long[]> whenQueued = new CompletableFuture<>();
+            executor.execute(() -> whenQueued.complete(new long[] {RequestQueueWait.take(), RequestQueueWait.take()}));
+
+            long[] waits = whenQueued.get(5, TimeUnit.SECONDS);
+            assertThat(waits[0]).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+            assertThat(waits[1]).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 同一個 SocketProcessor 先排隊再立即執行 WHEN: 兩次交付 THEN: 應重複使用同一包裝且各自取得該次的排隊時間")
+    void shouldReuseWrapperForRecycledSocketProcessor() throws Exception {
+        QueueTimingExecutor executor = new QueueTimingExecutor("test-exec-", 1, 1, Thread.NORM_PRIORITY);
+        try {
+            BlockingQueue<Long> waits = new LinkedBlockingQueue<>();
+            @SuppressWarnings("unchecked")
+            SocketWrapperBase<Object> socketWrapper = mock(SocketWrapperBase.class);
+            when(socketWrapper.getLock()).thenReturn(new ReentrantLock());
+            SocketProcessorBase<Object> processor = new SocketProcessorBase<>(socketWrapper, SocketEvent.OPEN_READ) {
+                @Override
+                protected void doRun() {
+                    waits.add(RequestQueueWait.take());
+                }
+            };
+            CountDownLatch started = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                sleep(50);
+            });
+            started.await();
+
+            executor.execute(processor);
+            Long queued = waits.poll(5, TimeUnit.SECONDS);
+            executor.execute(processor);
+            Long immediate = waits.poll(5, TimeUnit.SECONDS);
+
+            assertThat(queued).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+            assertThat(immediate).isLessThan(TimeUnit.MILLISECONDS.toNanos(40));
+            assertThat(executor.reusableCount()).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // === 輔助方法 ===
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
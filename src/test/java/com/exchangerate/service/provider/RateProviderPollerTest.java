@@ -0,0 +1,162 @@
+package com.exchangerate.service.provider;
+
+import com.exchangerate.config.ProviderProperties;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ExchangeRateService;
+import com.exchangerate.service.ingestion.RateFileParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateProviderPoller 整合測試
+ *
+ * 以本機 HTTP stub 模擬上游提供者，驗證並行輪詢、合併後寫入，以及慢提供者不會累積輪詢。
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateProviderPoller 測試")
+class RateProviderPollerTest {
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private HttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private RateUpdateCoalescer coalescer;
+    private RateProviderPoller poller;
+    private final AtomicInteger fastCalls = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/fast", exchange -> {
+            int call = fastCalls.incrementAndGet();
+            respond(exchange, 200, """
+                [{"from_currency": "USD", "to_currency": "EUR", "rate": "0.9%d"},
+                 {"from_currency": "USD", "to_currency": "XXX", "rate": "1.0"}]
+                """.formatted(call));
+        });
+        stubServer.createContext("/slow", exchange -> {
+            slowCalls.incrementAndGet();
+            try {
+                releaseSlow.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "[{\"from_currency\": \"GBP\", \"to_currency\": \"USD\", \"rate\": 1.27}]");
+        });
+        stubServer.createContext("/broken", exchange -> respond(exchange, 503, "unavailable"));
+        stubServer.start();
+
+        ProviderProperties properties = new ProviderProperties();
+        properties.setHttp(List.of(http("Fast Bank", "/fast"), http("Slow Bank", "/slow"),
+            http("Broken Bank", "/broken")));
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RateUpdateCoalescer(exchangeRateService, properties, meterRegistry);
+        poller = new RateProviderPoller(List.of(), properties, new RateFileParser(new ObjectMapper()),
+            coalescer, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlow.countDown();
+        poller.shutdown();
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 多個提供者 WHEN: 連續輪詢 THEN: 慢提供者不重複排隊且同一貨幣對只寫入最新值")
+    void shouldPollConcurrentlyAndCoalesceBursts() throws InterruptedException {
+        for (int round = 0; round < 3; round++) {
+            poller.pollAll();
+            awaitCount(fastCalls, round + 1);
+            awaitPolls("Fast Bank", round + 1);
+        }
+        assertThat(slowCalls.get()).isEqualTo(1);
+        assertThat(pollCount("Slow Bank", "skipped")).isEqualTo(2);
+
+        releaseSlow.countDown();
+        awaitPolls("Slow Bank", 1);
+        awaitPolls("Broken Bank", 1, "failure");
+        when(exchangeRateService.upsertExchangeRates(anyList())).thenReturn(2);
+        coalescer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ExchangeRate>> batch = ArgumentCaptor.forClass(List.class);
+        verify(exchangeRateService, times(1)).upsertExchangeRates(batch.capture());
+        assertThat(batch.getValue())
+            .extracting(ExchangeRate::getSource, ExchangeRate::getFromCurrency, r -> r.getRate().toPlainString())
+            .containsExactlyInAnyOrder(tuple("Fast Bank", "USD", "0.93"), tuple("Slow Bank", "GBP", "1.27"));
+    }
+
+    // === 輔助方法 ===
+    private ProviderProperties.Http http(String name, String path) {
+        ProviderProperties.Http http = new ProviderProperties.Http();
+        http.setName(name);
+        http.setUrl(URI.create("http://127.0.0.1:" + stubServer.getAddress().getPort() + path));
+        http.setTimeout(Duration.ofSeconds(10));
+        return http;
+    }
+
+    private void awaitPolls(String provider, int count) throws InterruptedException {
+        awaitPolls(provider, count, "success");
+    }
+
+    private void awaitPolls(String provider, int count, String outcome) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pollCount(provider, outcome) < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pollCount(provider, outcome)).isGreaterThanOrEqualTo(count);
+    }
+
+    private static void awaitCount(AtomicInteger counter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (counter.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double pollCount(String provider, String outcome) {
+        var counter = meterRegistry.find("exchange.rate.provider.polls")
+            .tag("provider", provider).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.exchangerate.service.provider;
+
+import com.exchangerate.config.ProviderProperties;
+import com.exchangerate.model.ExchangeRate;
+import com.exchangerate.service.ExchangeRateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateUpdateCoalescer 單元測試
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateUpdateCoalescer 單元測試")
+class RateUpdateCoalescerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private ProviderProperties givenProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private RateUpdateCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        givenProperties = new ProviderProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RateUpdateCoalescer(exchangeRateService, givenProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 同一貨幣對的大量更新 WHEN: 視窗結束 THEN: 每個貨幣對來源只寫入最新一筆")
+    void shouldKeepOnlyLatestUpdatePerPairAndSource() {
+        for (int i = 0; i < 1000; i++) {
+            coalescer.offer(rate("USD", "EUR", "0." + (9000 + i), i, "Bank A"));
+        }
+        coalescer.offer(rate("USD", "EUR", "0.95", 0, "Bank B"));
+        when(exchangeRateService.upsertExchangeRates(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        int whenWritten = coalescer.flush();
+
+        List<ExchangeRate> batch = capturedBatch();
+        assertThat(whenWritten).isEqualTo(2);
+        assertThat(batch).extracting(ExchangeRate::getSource, r -> r.getRate().toPlainString())
+            .containsExactlyInAnyOrder(tuple("Bank A", "0.9999"), tuple("Bank B", "0.95"));
+        assertThat(counter("superseded")).isEqualTo(999);
+        assertThat(coalescer.flush()).isZero();
+        verify(exchangeRateService, times(1)).upsertExchangeRates(anyList());
+    }
+
+    @Test
+    @DisplayName("GIVEN: 較舊時間的更新晚到 WHEN: 合併 THEN: 應保留時間較新的匯率")
+    void shouldNotReplaceNewerRateWithLateOlderOne() {
+        coalescer.offer(rate("USD", "EUR", "0.93", 10, "Bank A"));
+        coalescer.offer(rate("USD", "EUR", "0.91", 5, "Bank A"));
+        when(exchangeRateService.upsertExchangeRates(anyList())).thenReturn(1);
+
+        coalescer.flush();
+
+        assertThat(capturedBatch()).singleElement()
+            .extracting(r -> r.getRate().toPlainString()).isEqualTo("0.93");
+    }
+
+    @Test
+    @DisplayName("GIVEN: 等待數量已達上限 WHEN: 新的貨幣對到達 THEN: 應捨棄新鍵但仍更新既有鍵")
+    void shouldDropNewKeysWhenPendingIsFull() {
+        givenProperties.setMaxPending(1);
+
+        assertThat(coalescer.offer(rate("USD", "EUR", "0.92", 0, "Bank A"))).isTrue();
+        assertThat(coalescer.offer(rate("USD", "JPY", "149.50", 0, "Bank A"))).isFalse();
+        assertThat(coalescer.offer(rate("USD", "EUR", "0.93", 1, "Bank A"))).isTrue();
+
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+        assertThat(counter("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 資料庫暫時無法使用 WHEN: 視窗結束 THEN: 更新應放回等待並於下個視窗重試")
+    void shouldRequeueOnWriteFailure() {
+        coalescer.offer(rate("USD", "EUR", "0.92", 0, "Bank A"));
+        when(exchangeRateService.upsertExchangeRates(anyList()))
+            .thenThrow(new CannotCreateTransactionException("database unavailable"))
+            .thenReturn(1);
+
+        assertThat(coalescer.flush()).isZero();
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+        assertThat(coalescer.flush()).isEqualTo(1);
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 批次中有一筆無法寫入 WHEN: 視窗結束 THEN: 其餘逐筆寫入且該筆被捨棄不再重試")
+    void shouldRejectPoisonRowAndWriteTheRest() {
+        ExchangeRate poison = rate("USD", "JPY", "149.50", 0, "Bank A");
+        coalescer.offer(rate("USD", "EUR", "0.92", 0, "Bank A"));
+        coalescer.offer(poison);
+        coalescer.offer(rate("EUR", "GBP", "0.86", 0, "Bank A"));
+        when(exchangeRateService.upsertExchangeRates(anyList())).thenAnswer(inv -> {
+            List<?> batch = inv.getArgument(0);
+            if (batch.contains(poison)) {
+                throw new DataIntegrityViolationException("value too long for column SOURCE");
+            }
+            return batch.size();
+        });
+
+        assertThat(coalescer.flush()).isEqualTo(2);
+
+        assertThat(coalescer.pendingCount()).isZero();
+        assertThat(counter("written")).isEqualTo(2);
+        assertThat(counter("rejected")).isEqualTo(1);
+        assertThat(counter("failed")).isZero();
+        assertThat(coalescer.flush()).isZero();
+    }
+
+    // === 輔助方法 ===
+    @SuppressWarnings("unchecked")
+    private List<ExchangeRate> capturedBatch() {
+        ArgumentCaptor<List<ExchangeRate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(exchangeRateService, atLeastOnce()).upsertExchangeRates(captor.capture());
+        return captor.getValue();
+    }
+
+    private double counter(String outcome) {
+        return meterRegistry.get("exchange.rate.provider.updates").tag("outcome", outcome).counter().count();
+    }
+
+    private static ExchangeRate rate(String from, String to, String rate, int secondsAfter, String source) {
+        return new ExchangeRate(null, from, to, new BigDecimal(rate), NOW.plusSeconds(secondsAfter), source);
+    }
+}
@@ -0,0 +1,80 @@
+package com.exchangerate.service.query;
+
+import com.exchangerate.config.QueryStatisticsProperties;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueryStatisticsRecorder 單元測試
+ *
+ * 驗證查詢累計、慢查詢清單上限與攔截器的查詢命名。
+ */
+@DisplayName("QueryStatisticsRecorder 單元測試")
+class QueryStatisticsRecorderTest {
+
+    private QueryStatisticsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        QueryStatisticsProperties properties = new QueryStatisticsProperties();
+        properties.setSlowThreshold(Duration.ofMillis(50));
+        properties.setSlowQueries(2);
+        recorder = new QueryStatisticsRecorder(properties);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 同一查詢三次呼叫 WHEN: 取統計 THEN: 應累計次數、失敗、筆數與平均 / 最大耗時")
+    void shouldAccumulatePerQuery() {
+        recorder.record("Repo.find()", TimeUnit.MILLISECONDS.toNanos(2), 3, true);
+        recorder.record("Repo.find()", TimeUnit.MILLISECONDS.toNanos(4), 5, true);
+        recorder.record("Repo.find()", TimeUnit.MILLISECONDS.toNanos(6), -1, false);
+
+        QuerySnapshot snapshot = recorder.snapshot().get("Repo.find()");
+        assertThat(snapshot.count()).isEqualTo(3);
+        assertThat(snapshot.failures()).isEqualTo(1);
+        assertThat(snapshot.rows()).isEqualTo(8);
+        assertThat(snapshot.mean()).isEqualTo(4.0);
+        assertThat(snapshot.max()).isEqualTo(6.0);
+        assertThat(recorder.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 慢查詢清單上限 2 WHEN: 三次超過門檻的呼叫 THEN: 應只保留最近兩筆，最新的在前")
+    void shouldKeepRecentSlowQueries() {
+        recorder.record("Repo.a()", TimeUnit.MILLISECONDS.toNanos(60), 1, true);
+        recorder.record("Repo.b()", TimeUnit.MILLISECONDS.toNanos(70), 1, true);
+        recorder.record("Repo.c()", TimeUnit.MILLISECONDS.toNanos(80), 1, true);
+
+        assertThat(recorder.getSlowQueries()).extracting(SlowQuery::query).containsExactly("Repo.c()", "Repo.b()");
+
+        recorder.reset();
+
+        assertThat(recorder.snapshot()).isEmpty();
+        assertThat(recorder.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GIVEN: repository 方法呼叫 WHEN: 經過攔截器 THEN: 應以 Repository.方法(參數型別) 命名並記錄回傳筆數")
+    void shouldNameQueriesByRepositoryMethod() throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(String.class.getMethod("substring", int.class, int.class));
+        when(invocation.proceed()).thenReturn(List.of("a", "b"), Optional.empty());
+        QueryStatisticsInterceptor interceptor = new QueryStatisticsInterceptor("StringRepository", recorder);
+
+        interceptor.invoke(invocation);
+        interceptor.invoke(invocation);
+
+        assertThat(recorder.snapshot()).containsOnlyKeys("StringRepository.substring(int, int)");
+        assertThat(recorder.snapshot().get("StringRepository.substring(int, int)").rows()).isEqualTo(2);
+    }
+}
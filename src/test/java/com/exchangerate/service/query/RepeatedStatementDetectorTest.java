@@ -0,0 +1,91 @@
+package com.exchangerate.service.query;
+
+import com.exchangerate.config.QueryStatisticsProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RepeatedStatementDetector 單元測試
+ *
+ * 以手動啟用的交易同步模擬交易邊界，驗證 N+1 嫌疑的判定、抽樣與資源解除綁定。
+ */
+@DisplayName("RepeatedStatementDetector 單元測試")
+class RepeatedStatementDetectorTest {
+
+    private static final String SELECT_RATE = "select * from exchange_rates where id=?";
+
+    private QueryStatisticsProperties properties;
+    private RepeatedStatementDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QueryStatisticsProperties();
+        properties.setSampleRate(1.0);
+        properties.setRepeatedStatementThreshold(3);
+        detector = new RepeatedStatementDetector(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(detector);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽中的交易 WHEN: 同一 SQL 執行達門檻 THEN: 交易結束後應列為 N+1 嫌疑並解除綁定")
+    void shouldReportRepeatedStatement() {
+        runTransaction(SELECT_RATE, 5);
+        runTransaction(SELECT_RATE, 4);
+
+        assertThat(detector.getSuspects()).singleElement().satisfies(suspect -> {
+            assertThat(suspect.sql()).isEqualTo(SELECT_RATE);
+            assertThat(suspect.transactions()).isEqualTo(2);
+            assertThat(suspect.maxRepetitions()).isEqualTo(5);
+        });
+        assertThat(TransactionSynchronizationManager.hasResource(detector)).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽中的交易 WHEN: SQL 執行次數低於門檻 THEN: 不應列為嫌疑")
+    void shouldIgnoreStatementsBelowThreshold() {
+        runTransaction(SELECT_RATE, 2);
+
+        assertThat(detector.getSuspects()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽樣比例 0 WHEN: 同一 SQL 重複執行 THEN: 不應追蹤")
+    void shouldSkipUnsampledTransactions() {
+        properties.setSampleRate(0.0);
+
+        runTransaction(SELECT_RATE, 10);
+
+        assertThat(detector.getSuspects()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GIVEN: 沒有交易同步 WHEN: 檢查 SQL THEN: 應原樣回傳且不綁定資源")
+    void shouldPassThroughOutsideTransaction() {
+        assertThat(detector.inspect(SELECT_RATE)).isEqualTo(SELECT_RATE);
+        assertThat(TransactionSynchronizationManager.hasResource(detector)).isFalse();
+    }
+
+    // === 輔助方法 ===
+    private void runTransaction(String sql, int executions) {
+        TransactionSynchronizationManager.initSynchronization();
+        for (int i = 0; i < executions; i++) {
+            assertThat(detector.inspect(sql)).isEqualTo(sql);
+        }
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
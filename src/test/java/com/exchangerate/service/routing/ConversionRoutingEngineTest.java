@@ -0,0 +1,276 @@
+package com.exchangerate.service.routing;
+
+import com.exchangerate.config.RoutingProperties;
+import com.exchangerate.constants.CurrencyConstants;
+import com.exchangerate.dto.ExchangeRateView;
+import com.exchangerate.model.CurrencyPair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConversionRoutingEngine 單元測試
+ *
+ * 驗證成本加權最短路徑的選擇，以及增量更新與全量重算結果一致。
+ */
+@DisplayName("ConversionRoutingEngine 單元測試")
+class ConversionRoutingEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    private RoutingProperties givenProperties;
+    private Map<CurrencyPair, IndexedRate> givenRates;
+    private Set<CurrencyPair> givenStalePairs;
+    private RoutingTable whenTable;
+
+    @BeforeEach
+    void setUp() {
+        givenProperties = new RoutingProperties();
+        givenRates = new HashMap<>();
+        givenStalePairs = new HashSet<>();
+    }
+
+    @Nested
+    @DisplayName("路徑選擇測試")
+    class RouteSelectionTests {
+
+        @Test
+        @DisplayName("GIVEN: 直接與鏈式匯率皆新鮮 WHEN: 建立路由表 THEN: 應選擇直接匯率")
+        void shouldPreferDirectRate() {
+            givenRate("USD", "JPY", "149.50", 0, "Bank A");
+            givenRate("USD", "EUR", "0.92", 0, "Bank A");
+            givenRate("EUR", "JPY", "162.00", 0, "Bank A");
+
+            whenBuildingTable();
+
+            thenRouteShouldBe("USD", "JPY", "USD→JPY");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 只有反向匯率 WHEN: 建立路由表 THEN: 應使用反向匯率")
+        void shouldUseInverseLegWhenOnlyReverseExists() {
+            givenRate("EUR", "USD", "1.25", 0, "Bank A");
+
+            whenBuildingTable();
+
+            ConversionRoute route = whenTable.find("USD", "EUR").orElseThrow();
+            assertThat(route.hops()).isEqualTo(1);
+            assertThat(route.legs().get(0).inverted()).isTrue();
+            assertThat(route.rate()).isEqualByComparingTo("0.800000");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 預先計算的反向匯率 WHEN: 取得直接與反向路徑 THEN: 應直接使用索引中的匯率而不重新計算")
+        void shouldReusePrecomputedRates() {
+            givenRate("EUR", "USD", "1.25", 0, "Bank A");
+            IndexedRate indexed = givenRates.get(new CurrencyPair("EUR", "USD"));
+
+            whenBuildingTable();
+
+            assertThat(indexed.inverseRate()).isEqualByComparingTo("0.800000");
+            assertThat(whenTable.find("USD", "EUR").orElseThrow().rate()).isSameAs(indexed.inverseRate());
+            assertThat(whenTable.find("EUR", "USD").orElseThrow().rate()).isSameAs(indexed.view().rate());
+        }
+
+        @Test
+        @DisplayName("GIVEN: 沒有 USD 匯率 WHEN: 建立路由表 THEN: 應經由 EUR 換算")
+        void shouldRouteThroughNonUsdIntermediate() {
+            givenRate("EUR", "JPY", "160", 0, "Bank A");
+            givenRate("EUR", "GBP", "0.80", 0, "Bank A");
+
+            whenBuildingTable();
+
+            thenRouteShouldBe("JPY", "GBP", "JPY→EUR→GBP");
+            assertThat(whenTable.find("GBP", "JPY").orElseThrow().rate()).isEqualByComparingTo("200");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 直接匯率已 5 小時但未過期 WHEN: 存在新鮮的鏈式路徑 THEN: 仍應選擇直接匯率")
+        void shouldKeepAgedButFreshDirectRate() {
+            givenProperties.setStalenessCostPerMinute(0.01);
+            givenRate("EUR", "JPY", "150", 300, "Bank A");
+            givenRate("EUR", "USD", "1.08", 0, "Bank A");
+            givenRate("USD", "JPY", "149.50", 0, "Bank A");
+
+            whenBuildingTable();
+
+            thenRouteShouldBe("EUR", "JPY", "EUR→JPY");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 兩條跳數相同的鏈式路徑 WHEN: 其中一條較舊 THEN: 應選擇較新的路徑")
+        void shouldPreferFresherRouteAmongEqualHops() {
+            givenProperties.setStalenessCostPerMinute(0.01);
+            givenRate("EUR", "GBP", "0.86", 30, "Bank A");
+            givenRate("GBP", "JPY", "188.00", 30, "Bank A");
+            givenRate("EUR", "USD", "1.08", 0, "Bank A");
+            givenRate("USD", "JPY", "149.50", 0, "Bank A");
+
+            whenBuildingTable();
+
+            thenRouteShouldBe("EUR", "JPY", "EUR→USD→JPY");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 來源成本設定 WHEN: 直接匯率來源優先權低 THEN: 應選擇高優先權來源路徑")
+        void shouldApplySourceCosts() {
+            givenProperties.setSourceCosts(Map.of("Slow Bank", 5.0));
+            givenRate("EUR", "JPY", "150", 0, "Slow Bank");
+            givenRate("EUR", "USD", "1.08", 0, "Central Bank");
+            givenRate("USD", "JPY", "149.50", 0, "Central Bank");
+
+            whenBuildingTable();
+
+            thenRouteShouldBe("EUR", "JPY", "EUR→USD→JPY");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 不相連的貨幣 WHEN: 查詢路徑 THEN: 應返回空值")
+        void shouldReturnEmptyForDisconnectedCurrencies() {
+            givenRate("USD", "EUR", "0.92", 0, "Bank A");
+
+            whenBuildingTable();
+
+            assertThat(whenTable.find("USD", "TWD")).isEmpty();
+            assertThat(RoutingTable.EMPTY.find("USD", "EUR")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("過期匯率測試")
+    class StaleRateTests {
+
+        @Test
+        @DisplayName("GIVEN: 直接匯率被標記過期 WHEN: 存在新鮮鏈式路徑 THEN: 應略過過期匯率")
+        void shouldSkipStaleLegWhenFreshRouteExists() {
+            givenRate("EUR", "JPY", "150", 0, "Bank A");
+            givenRate("EUR", "USD", "1.08", 0, "Bank A");
+            givenRate("USD", "JPY", "149.50", 0, "Bank A");
+            givenStalePairs.add(new CurrencyPair("EUR", "JPY"));
+
+            whenBuildingTable();
+
+            thenRouteShouldBe("EUR", "JPY", "EUR→USD→JPY");
+            assertThat(whenTable.find("EUR", "JPY").orElseThrow().stale()).isFalse();
+        }
+
+        @Test
+        @DisplayName("GIVEN: 只有過期匯率 WHEN: 允許退回過期匯率 THEN: 應使用並標記為過期")
+        void shouldFallBackToStaleRateWhenNoFreshRoute() {
+            givenRate("USD", "EUR", "0.92", 0, "Bank A");
+            givenStalePairs.add(new CurrencyPair("USD", "EUR"));
+
+            whenBuildingTable();
+
+            ConversionRoute route = whenTable.find("USD", "EUR").orElseThrow();
+            assertThat(route.stale()).isTrue();
+            assertThat(route.rate()).isEqualByComparingTo("0.92");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 只有過期匯率 WHEN: 設定排除過期匯率 THEN: 應查無路徑")
+        void shouldExcludeStaleRateWhenConfigured() {
+            givenProperties.setExcludeStale(true);
+            givenRate("USD", "EUR", "0.92", 0, "Bank A");
+            givenStalePairs.add(new CurrencyPair("USD", "EUR"));
+
+            whenBuildingTable();
+
+            assertThat(whenTable.find("USD", "EUR")).isEmpty();
+            assertThat(whenTable.find("EUR", "USD")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("增量更新測試")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("GIVEN: 直接匯率被刪除 WHEN: 增量更新 THEN: 應改走替代路徑")
+        void shouldFallBackAfterRemoval() {
+            ConversionRoutingEngine engine = new ConversionRoutingEngine(givenProperties);
+            givenRate("EUR", "JPY", "150", 0, "Bank A");
+            givenRate("EUR", "USD", "1.08", 0, "Bank A");
+            givenRate("USD", "JPY", "149.50", 0, "Bank A");
+            engine.rebuild(givenRates, givenStalePairs, NOW);
+
+            CurrencyPair removed = new CurrencyPair("EUR", "JPY");
+            givenRates.remove(removed);
+            whenTable = engine.update(givenRates, givenStalePairs, removed, NOW);
+
+            thenRouteShouldBe("EUR", "JPY", "EUR→USD→JPY");
+        }
+
+        @Test
+        @DisplayName("GIVEN: 隨機匯率變動序列 WHEN: 每次增量更新 THEN: 結果應與全量重算一致")
+        void shouldMatchFullRebuildAfterRandomUpdates() {
+            givenProperties.setStalenessCostPerMinute(0.02);
+            ConversionRoutingEngine incremental = new ConversionRoutingEngine(givenProperties);
+            incremental.rebuild(givenRates, givenStalePairs, NOW);
+            List<String> currencies = CurrencyConstants.SUPPORTED_CURRENCIES;
+            Random random = new Random(42);
+
+            for (int step = 0; step < 500; step++) {
+                String from = currencies.get(random.nextInt(currencies.size()));
+                String to = currencies.get(random.nextInt(currencies.size()));
+                if (from.equals(to)) {
+                    continue;
+                }
+                CurrencyPair pair = new CurrencyPair(from, to);
+                int action = random.nextInt(6);
+                if (action == 0) {
+                    givenRates.remove(pair);
+                } else if (action == 1) {
+                    givenStalePairs.add(pair);
+                } else if (action == 2) {
+                    givenStalePairs.remove(pair);
+                } else {
+                    givenRate(from, to, String.valueOf(1 + random.nextInt(100)), random.nextInt(600), "Bank A");
+                }
+                RoutingTable updated = incremental.update(givenRates, givenStalePairs, pair, NOW);
+                RoutingTable rebuilt = new ConversionRoutingEngine(givenProperties).rebuild(givenRates, givenStalePairs, NOW);
+
+                for (String a : currencies) {
+                    for (String b : currencies) {
+                        Optional<ConversionRoute> expected = rebuilt.find(a, b);
+                        Optional<ConversionRoute> actual = updated.find(a, b);
+                        assertThat(actual.isPresent()).as("step %d route %s→%s", step, a, b)
+                            .isEqualTo(expected.isPresent());
+                        if (expected.isPresent()) {
+                            assertThat(actual.get().cost()).as("step %d route %s→%s", step, a, b)
+                                .isCloseTo(expected.get().cost(), within(1e-9));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // === 輔助方法 ===
+    private void givenRate(String from, String to, String rate, int ageMinutes, String source) {
+        givenRates.put(new CurrencyPair(from, to), IndexedRate.of(new ExchangeRateView(
+            (long) givenRates.size() + 1, from, to, new BigDecimal(rate), NOW.minusMinutes(ageMinutes), source)));
+    }
+
+    private void whenBuildingTable() {
+        whenTable = new ConversionRoutingEngine(givenProperties).rebuild(givenRates, givenStalePairs, NOW);
+    }
+
+    private void thenRouteShouldBe(String from, String to, String expectedPath) {
+        ConversionRoute route = whenTable.find(from, to).orElseThrow();
+        assertThat(route.path()).isEqualTo(expectedPath);
+    }
+}
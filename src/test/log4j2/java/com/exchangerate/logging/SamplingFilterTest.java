@@ -0,0 +1,103 @@
+package com.exchangerate.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter.Result;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.config.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SamplingFilter 單元測試
+ *
+ * 驗證只抽樣帶熱路徑標記的低等級事件，其餘事件一律放行。
+ */
+@DisplayName("SamplingFilter 單元測試")
+class SamplingFilterTest {
+
+    private static final org.apache.logging.log4j.Marker HOT_PATH = MarkerManager.getMarker("HOT_PATH");
+
+    @Test
+    @DisplayName("GIVEN: 抽樣 1/100 WHEN: 一萬個熱路徑除錯事件 THEN: 應只保留約 1%")
+    void shouldSampleHotPathDebugEvents() {
+        SamplingFilter filter = SamplingFilter.createFilter("HOT_PATH", 100, null, null, null);
+
+        long kept = IntStream.range(0, 10_000)
+            .mapToObj(i -> filter.filter(null, Level.DEBUG, HOT_PATH, "Converted {} via {}", i, "USD→TWD"))
+            .filter(result -> result == Result.ACCEPT)
+            .count();
+
+        assertThat(kept).isBetween(50L, 200L);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽樣 1/1000000 WHEN: 熱路徑 INFO、無標記除錯與其他標記事件 THEN: 都不應被丟棄")
+    void shouldPassOtherEvents() {
+        SamplingFilter filter = SamplingFilter.createFilter("HOT_PATH", 1_000_000, Level.DEBUG, null, null);
+
+        assertThat(filter.filter(null, Level.INFO, HOT_PATH, "Converted {}", 1)).isEqualTo(Result.NEUTRAL);
+        assertThat(filter.filter(null, Level.DEBUG, null, "Converted {}", 1)).isEqualTo(Result.NEUTRAL);
+        assertThat(filter.filter(null, Level.DEBUG, MarkerManager.getMarker("OTHER"), "Converted {}", 1))
+            .isEqualTo(Result.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("GIVEN: logger 等級為 INFO WHEN: 熱路徑除錯事件被抽中 THEN: 應輸出，未抽中的應丟棄")
+    void shouldEmitSampledEventsAboveLoggerLevel() {
+        List<LogEvent> written = new CopyOnWriteArrayList<>();
+        Appender appender = new AbstractAppender("sampled", null, null, true, Property.EMPTY_ARRAY) {
+            @Override
+            public void append(LogEvent event) {
+                written.add(event.toImmutable());
+            }
+        };
+        appender.start();
+        LoggerContext context = new LoggerContext("sampling-test");
+        Configuration configuration = new DefaultConfiguration();
+        configuration.addFilter(SamplingFilter.createFilter("HOT_PATH", 4, null, null, null));
+        configuration.getRootLogger().setLevel(Level.INFO);
+        configuration.getRootLogger().addAppender(appender, null, null);
+        context.start(configuration);
+        try {
+            Logger logger = context.getLogger("com.exchangerate.service.ExchangeRateService");
+
+            for (int i = 0; i < 400; i++) {
+                logger.debug(HOT_PATH, "Converted {} via {}", i, "USD→TWD");
+                logger.debug("Not sampled {}", i);
+            }
+
+            assertThat(written).hasSizeBetween(50, 150)
+                .allSatisfy(event -> assertThat(event.getMarker()).isEqualTo(HOT_PATH));
+        } finally {
+            context.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽樣 1/1000000 WHEN: 熱路徑 TRACE 事件 THEN: 應被丟棄")
+    void shouldSampleFinerLevels() {
+        SamplingFilter filter = SamplingFilter.createFilter("HOT_PATH", 1_000_000, Level.DEBUG, null, null);
+
+        assertThat(filter.filter(null, Level.TRACE, HOT_PATH, "Converted", (Object[]) null)).isEqualTo(Result.DENY);
+    }
+
+    @Test
+    @DisplayName("GIVEN: 抽樣比例小於 1 WHEN: 建立過濾器 THEN: 應拋出 IllegalArgumentException")
+    void shouldRejectInvalidRate() {
+        assertThatThrownBy(() -> SamplingFilter.createFilter("HOT_PATH", 0, null, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}